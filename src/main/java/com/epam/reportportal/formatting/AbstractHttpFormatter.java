@@ -16,12 +16,20 @@
 
 package com.epam.reportportal.formatting;
 
+import com.epam.reportportal.formatting.http.BodyDiffer;
+import com.epam.reportportal.formatting.http.BodySniffer;
+import com.epam.reportportal.formatting.http.PrettifierCircuitBreaker;
 import com.epam.reportportal.formatting.http.HttpFormatter;
 import com.epam.reportportal.formatting.http.HttpPartFormatter;
 import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.HttpStreamFormatter;
+import com.epam.reportportal.formatting.http.WebSocketFrameFormatter;
 import com.epam.reportportal.formatting.http.entities.BodyType;
 import com.epam.reportportal.formatting.http.entities.Cookie;
 import com.epam.reportportal.formatting.http.entities.Header;
+import com.epam.reportportal.formatting.http.entities.MultipartMode;
+import com.epam.reportportal.formatting.http.entities.Verbosity;
+import com.epam.reportportal.formatting.http.rules.HttpLogSampler;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.LogLevel;
 import com.epam.reportportal.message.ReportPortalMessage;
@@ -34,14 +42,20 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.epam.reportportal.formatting.http.Constants.BODY_TYPE_MAP;
 import static com.epam.reportportal.formatting.http.Constants.DEFAULT_PRETTIFIERS;
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
 import static java.util.Optional.ofNullable;
 
 /**
@@ -50,6 +64,10 @@ import static java.util.Optional.ofNullable;
  * @param <SELF> the type of the formatter
  */
 public abstract class AbstractHttpFormatter<SELF extends AbstractHttpFormatter<SELF>> {
+	public static final int DEFAULT_MAX_BUNDLED_PART_SIZE = 1024 * 1024;
+	public static final long DEFAULT_MAX_BUNDLE_SIZE = 10L * 1024 * 1024;
+
+	private static final String BUNDLED_PART_PATTERN = "%s" + LINE_DELIMITER + "Archive entry: %s";
 
 	protected final String logLevel;
 
@@ -60,6 +78,20 @@ public abstract class AbstractHttpFormatter<SELF extends AbstractHttpFormatter<S
 
 	private Map<String, Function<String, String>> contentPrettifiers = DEFAULT_PRETTIFIERS;
 	private Map<String, BodyType> bodyTypeMap = BODY_TYPE_MAP;
+	private volatile BodyDiffer bodyDiffer;
+	private volatile PrettifierCircuitBreaker prettifierBreaker;
+	private volatile BodySniffer bodySniffer;
+	private volatile ForkJoinPool formattingPool;
+	private volatile MultipartMode multipartMode = MultipartMode.NESTED_STEP;
+	private volatile int maxBundledPartSize = DEFAULT_MAX_BUNDLED_PART_SIZE;
+	private volatile long maxBundleSize = DEFAULT_MAX_BUNDLE_SIZE;
+	private volatile DeferredLogBuffer logBuffer;
+	private volatile Function<HttpFormatter, Verbosity> verbosityPolicy;
+	private volatile Predicate<HttpFormatter> logFilter;
+	private volatile HttpLogSampler logSampler;
+	private volatile ExchangeDeduplicator logDeduplicator;
+
+	private final ThreadLocal<Instant> multipartTime = new ThreadLocal<>();
 
 	/**
 	 * Create a formatter with the specific log level and converters.
@@ -84,68 +116,385 @@ public abstract class AbstractHttpFormatter<SELF extends AbstractHttpFormatter<S
 		uriConverter = uriConverterFunction;
 	}
 
-	protected void attachAsBinary(@Nullable String message, @Nullable byte[] attachment, @Nonnull String contentType) {
+	protected void attachAsBinary(@Nullable String message, @Nullable byte[] attachment, @Nonnull String contentType,
+			@Nonnull Instant time) {
 		if (attachment == null) {
-			ReportPortal.emitLog(message, logLevel, Instant.now());
+			ReportPortal.emitLog(message, logLevel, time);
 		} else {
-			ReportPortal.emitLog(
-					new ReportPortalMessage(ByteSource.wrap(attachment), contentType, message),
-					logLevel,
-					Instant.now()
-			);
+			ReportPortal.emitLog(new ReportPortalMessage(ByteSource.wrap(attachment), contentType, message), logLevel, time);
 		}
 	}
 
-	protected void logMultiPartRequest(@Nonnull HttpRequestFormatter formatter) {
-		Instant currentDate = Instant.now();
+	protected void attachAsBinary(@Nullable String message, @Nullable byte[] attachment, @Nonnull String contentType) {
+		attachAsBinary(message, attachment, contentType, Instant.now());
+	}
+
+	/**
+	 * Log a multipart request or response: headers and cookies, then each part as a separate log entry.
+	 *
+	 * @param formatter request or response formatter with a multipart body
+	 * @param time      log time
+	 */
+	protected void logMultiPart(@Nonnull HttpFormatter formatter, @Nonnull Instant time) {
 		String headers = formatter.formatHeaders() + formatter.formatCookies();
 		if (!headers.isEmpty()) {
-			ReportPortal.emitLog(headers, logLevel, currentDate);
+			ReportPortal.emitLog(headers, logLevel, time);
 		}
 
-		Instant myDate = currentDate;
-		for (HttpPartFormatter part : formatter.getMultipartBody()) {
+		List<HttpPartFormatter> parts = formatter.getMultipartBody();
+		List<ForkJoinTask<String>> formattedParts = formatPartsInParallel(parts);
+		Instant myDate = time;
+		for (int i = 0; i < parts.size(); i++) {
+			HttpPartFormatter part = parts.get(i);
 			myDate = myDate.plusMillis(1);
 			HttpPartFormatter.PartType partType = part.getType();
 			switch (partType) {
 				case TEXT:
-					ReportPortal.emitLog(part.formatAsText(), logLevel, myDate);
+					String text = formattedParts == null ? part.formatAsText() : formattedParts.get(i).join();
+					ReportPortal.emitLog(text, logLevel, myDate);
 					break;
 				case BINARY:
-					attachAsBinary(part.formatForBinaryDataPrefix(), part.getBinaryPayload(), part.getMimeType());
+					attachAsBinary(part.formatForBinaryDataPrefix(), part.getBinaryPayload(), part.getMimeType(), myDate);
 			}
 		}
 	}
 
-	protected void emitLog(HttpFormatter formatter) {
+	/**
+	 * Start formatting of text parts in the formatting pool, if it's set and there are several text parts.
+	 *
+	 * @param parts multipart body parts
+	 * @return formatting tasks by part indexes, with <code>null</code> for binary parts, or <code>null</code> if parts should be
+	 * formatted sequentially
+	 */
+	@Nullable
+	private List<ForkJoinTask<String>> formatPartsInParallel(@Nonnull List<HttpPartFormatter> parts) {
+		ForkJoinPool pool = formattingPool;
+		if (pool == null || parts.stream().filter(p -> HttpPartFormatter.PartType.TEXT == p.getType()).count() < 2) {
+			return null;
+		}
+		List<ForkJoinTask<String>> result = new ArrayList<>(parts.size());
+		for (HttpPartFormatter part : parts) {
+			result.add(HttpPartFormatter.PartType.TEXT == part.getType() ? pool.submit(part::formatAsText) : null);
+		}
+		return result;
+	}
+
+	/**
+	 * Log a multipart request or response in a single log entry: head and text parts as the message, binary parts up to the part size
+	 * limit in one zip attachment. Larger binary parts and parts which do not fit into the total bundle size are attached separately.
+	 *
+	 * @param formatter request or response formatter with a multipart body
+	 * @param time      log time
+	 */
+	protected void logMultiPartConsolidated(@Nonnull HttpFormatter formatter, @Nonnull Instant time) {
+		List<HttpPartFormatter> parts = formatter.getMultipartBody();
+		List<ForkJoinTask<String>> formattedParts = formatPartsInParallel(parts);
+		StringBuilder message = new StringBuilder(formatter.formatHead());
+		List<HttpPartFormatter> largeParts = new ArrayList<>();
+		PartArchive archive = new PartArchive();
+		int maxPartSize = maxBundledPartSize;
+		long bundleBudget = maxBundleSize;
+		for (int i = 0; i < parts.size(); i++) {
+			HttpPartFormatter part = parts.get(i);
+			String text;
+			if (HttpPartFormatter.PartType.TEXT == part.getType()) {
+				text = formattedParts == null ? part.formatAsText() : formattedParts.get(i).join();
+			} else if (part.getBinaryPayload().length <= maxPartSize && part.getBinaryPayload().length <= bundleBudget) {
+				bundleBudget -= part.getBinaryPayload().length;
+				text = String.format(BUNDLED_PART_PATTERN, part.formatForBinaryDataPrefix(), archive.add(part));
+			} else {
+				largeParts.add(part);
+				continue;
+			}
+			message.append(LINE_DELIMITER).append(LINE_DELIMITER).append(text);
+		}
+		if (archive.size() > 0) {
+			attachAsBinary(message.toString(), archive.toByteArray(), ContentType.APPLICATION_ZIP, time);
+		} else {
+			ReportPortal.emitLog(message.toString(), logLevel, time);
+		}
+		Instant myDate = time;
+		for (HttpPartFormatter part : largeParts) {
+			myDate = myDate.plusMillis(1);
+			attachAsBinary(part.formatForBinaryDataPrefix(), part.getBinaryPayload(), part.getMimeType(), myDate);
+		}
+	}
+
+	/**
+	 * Log a multipart request with the specific log time. The request is passed to {@link #logMultiPartRequest(HttpRequestFormatter)},
+	 * so subclasses which override it keep working, the time is available there through the current thread.
+	 *
+	 * @param formatter request formatter with a multipart body
+	 * @param time      log time
+	 */
+	protected void logMultiPartRequest(@Nonnull HttpRequestFormatter formatter, @Nonnull Instant time) {
+		Instant previous = multipartTime.get();
+		multipartTime.set(time);
+		try {
+			logMultiPartRequest(formatter);
+		} finally {
+			if (previous == null) {
+				multipartTime.remove();
+			} else {
+				multipartTime.set(previous);
+			}
+		}
+	}
+
+	protected void logMultiPartRequest(@Nonnull HttpRequestFormatter formatter) {
+		logMultiPart(formatter, ofNullable(multipartTime.get()).orElseGet(Instant::now));
+	}
+
+	protected void emitLog(@Nonnull HttpFormatter formatter, @Nonnull Instant time) {
+		Function<HttpFormatter, Verbosity> policy = verbosityPolicy;
+		Verbosity verbosity = policy == null ? Verbosity.FULL : policy.apply(formatter);
+		if (Verbosity.TITLE == verbosity) {
+			ReportPortal.emitLog(formatter.formatTitle(), logLevel, time);
+			return;
+		}
+		if (Verbosity.HEAD == verbosity) {
+			ReportPortal.emitLog(formatter.formatHead(), logLevel, time);
+			return;
+		}
 		BodyType type = formatter.getType();
 		switch (type) {
 			case NONE:
-				ReportPortal.emitLog(formatter.formatHead(), logLevel, Instant.now());
+				ReportPortal.emitLog(formatter.formatHead(), logLevel, time);
 				break;
 			case TEXT:
 			case FORM:
-				ReportPortal.emitLog(formatter.formatAsText(), logLevel, Instant.now());
+				ReportPortal.emitLog(formatter.formatAsText(), logLevel, time);
 				break;
 			case BINARY:
 				attachAsBinary(
 						formatter.formatHead(),
 						formatter.getBinaryBody(),
-						ofNullable(formatter.getMimeType()).orElse(ContentType.APPLICATION_OCTET_STREAM)
+						ofNullable(formatter.getMimeType()).orElse(ContentType.APPLICATION_OCTET_STREAM),
+						time
 				);
 				break;
 			case MULTIPART:
+				if (MultipartMode.CONSOLIDATED == multipartMode) {
+					logMultiPartConsolidated(formatter, time);
+					break;
+				}
 				Optional<StepReporter> sr = ofNullable(Launch.currentLaunch()).map(Launch::getStepReporter);
 				//noinspection ReactiveStreamsUnusedPublisher
 				sr.ifPresent(r -> r.sendStep(ItemStatus.INFO, formatter.formatTitle()));
-				logMultiPartRequest((HttpRequestFormatter) formatter); // No multipart type for responses
+				if (formatter instanceof HttpRequestFormatter) {
+					logMultiPartRequest((HttpRequestFormatter) formatter, time);
+				} else {
+					logMultiPart(formatter, time);
+				}
 				sr.ifPresent(StepReporter::finishPreviousStep);
 				break;
 			default:
-				ReportPortal.emitLog("Unknown entity type: " + type.name(), LogLevel.ERROR.name(), Instant.now());
+				ReportPortal.emitLog("Unknown entity type: " + type.name(), LogLevel.ERROR.name(), time);
+		}
+	}
+
+	private void emitMessage(@Nonnull String message, @Nonnull Instant time) {
+		DeferredLogBuffer buffer = logBuffer;
+		if (buffer == null || !buffer.add(message.length(), () -> ReportPortal.emitLog(message, logLevel, time))) {
+			ReportPortal.emitLog(message, logLevel, time);
+		}
+	}
+
+	private void emitExchange(@Nonnull HttpFormatter formatter, @Nonnull Instant time) {
+		DeferredLogBuffer buffer = logBuffer;
+		if (buffer == null || !buffer.add(formatter.getBodySize(), () -> emitLog(formatter, time))) {
+			emitLog(formatter, time);
+		}
+	}
+
+	/**
+	 * Start logging of a streaming response body, like Server-Sent Events, formatted batches of events are sent with the formatter log
+	 * level and through the deferred log buffer if it's set. Should be called from the test thread: events can be added from any
+	 * thread, but batches are sent only from the calling thread, so they are attached to the current test item.
+	 *
+	 * @param builder stream formatter builder
+	 * @return the stream formatter, {@link HttpStreamFormatter#finish()} should be called from the test thread when the stream ends
+	 */
+	@Nonnull
+	public HttpStreamFormatter startStream(@Nonnull HttpStreamFormatter.Builder builder) {
+		return builder.build(this::emitMessage);
+	}
+
+	/**
+	 * Start logging of WebSocket frames, formatted batches of frames are sent with the formatter log level and through the deferred
+	 * log buffer if it's set. Should be called from the test thread: frames can be added from client I/O threads, but batches are
+	 * sent only from the calling thread, so they are attached to the current test item.
+	 *
+	 * @param builder frame formatter builder
+	 * @return the frame formatter, {@link WebSocketFrameFormatter#finish()} should be called from the test thread when the socket is
+	 * closed
+	 */
+	@Nonnull
+	public WebSocketFrameFormatter startWebSocket(@Nonnull WebSocketFrameFormatter.Builder builder) {
+		return builder.build(this::emitMessage);
+	}
+
+	protected void emitLog(HttpFormatter formatter) {
+		Predicate<HttpFormatter> filter = logFilter;
+		if (filter != null && !filter.test(formatter)) {
+			return;
+		}
+		Instant time = Instant.now();
+		HttpLogSampler sampler = logSampler;
+		if (sampler != null) {
+			sampler.process(formatter, time, this::emitSampled, this::emitMessage);
+		} else {
+			emitSampled(formatter, time);
+		}
+	}
+
+	private void emitSampled(@Nonnull HttpFormatter formatter, @Nonnull Instant time) {
+		ExchangeDeduplicator deduplicator = logDeduplicator;
+		if (deduplicator != null) {
+			deduplicator.process(formatter, time, this::emitExchange, this::emitMessage);
+		} else {
+			emitExchange(formatter, time);
 		}
 	}
 
+	/**
+	 * Set the deferred log buffer for the formatter.
+	 * <p>
+	 * If the buffer is set, requests and responses logged by threads which called {@link DeferredLogBuffer#start()} are not formatted
+	 * and sent immediately, but kept in the buffer until {@link DeferredLogBuffer#flush()} is called. Logs of other threads are sent
+	 * immediately. Set it to <code>null</code> to send logs immediately, which is the default behavior.
+	 *
+	 * @param buffer a buffer instance or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setLogBuffer(@Nullable DeferredLogBuffer buffer) {
+		this.logBuffer = buffer;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the deferred log buffer of the formatter.
+	 *
+	 * @return a buffer instance or <code>null</code> if logs are sent immediately
+	 */
+	@Nullable
+	public DeferredLogBuffer getLogBuffer() {
+		return logBuffer;
+	}
+
+	/**
+	 * Set the log filter for the formatter.
+	 * <p>
+	 * The filter is called before any formatting, requests/responses for which it returns <code>false</code> are not logged. See
+	 * {@link com.epam.reportportal.formatting.http.rules.HttpLogFilter} for rule-based implementation. Set it to <code>null</code> to
+	 * log everything, which is the default behavior.
+	 *
+	 * @param filter a predicate which returns <code>true</code> for requests/responses which should be logged or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setLogFilter(@Nullable Predicate<HttpFormatter> filter) {
+		this.logFilter = filter;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the log filter of the formatter.
+	 *
+	 * @return a log filter or <code>null</code> if everything is logged
+	 */
+	@Nullable
+	public Predicate<HttpFormatter> getLogFilter() {
+		return logFilter;
+	}
+
+	/**
+	 * Set the log sampler for the formatter.
+	 * <p>
+	 * The sampler is called after the log filter and before any formatting, it skips part of successful requests/responses and leaves a
+	 * message with the number of omitted ones before the next logged request/response to the same endpoint. A request omitted by the
+	 * sampler is still logged if its response is not successful.
+	 * {@link HttpLogSampler#finish()} should be called at the end of a test to log messages about the rest of omitted ones. Set it to
+	 * <code>null</code> to log everything, which is the default behavior.
+	 *
+	 * @param sampler a sampler instance or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setLogSampler(@Nullable HttpLogSampler sampler) {
+		this.logSampler = sampler;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the log sampler of the formatter.
+	 *
+	 * @return a log sampler or <code>null</code> if everything is logged
+	 */
+	@Nullable
+	public HttpLogSampler getLogSampler() {
+		return logSampler;
+	}
+
+	/**
+	 * Set the exchange deduplicator for the formatter.
+	 * <p>
+	 * The deduplicator is called after the log sampler and before any formatting, it suppresses consecutive identical requests and
+	 * responses and logs a single message about repeats instead. {@link ExchangeDeduplicator#finish()} should be called at the end of
+	 * a test to log the message about the last run of repeats. Set it to <code>null</code> to log every request/response, which is the
+	 * default behavior.
+	 *
+	 * @param deduplicator a deduplicator instance or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setLogDeduplicator(@Nullable ExchangeDeduplicator deduplicator) {
+		this.logDeduplicator = deduplicator;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the exchange deduplicator of the formatter.
+	 *
+	 * @return an exchange deduplicator or <code>null</code> if every request/response is logged
+	 */
+	@Nullable
+	public ExchangeDeduplicator getLogDeduplicator() {
+		return logDeduplicator;
+	}
+
+	/**
+	 * Set the verbosity policy for the formatter.
+	 * <p>
+	 * The policy is called before any formatting and decides whether only the title, the head (title, headers and cookies) or the full
+	 * request/response should be logged. See {@link com.epam.reportportal.formatting.http.rules.VerbosityPolicy} for rule-based
+	 * implementation. Set it to <code>null</code> to always log everything, which is the default behavior.
+	 *
+	 * @param policy a function which returns verbosity for the request/response or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setVerbosityPolicy(@Nullable Function<HttpFormatter, Verbosity> policy) {
+		this.verbosityPolicy = policy;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the verbosity policy of the formatter.
+	 *
+	 * @return a verbosity policy or <code>null</code> if everything is logged
+	 */
+	@Nullable
+	public Function<HttpFormatter, Verbosity> getVerbosityPolicy() {
+		return verbosityPolicy;
+	}
+
 	/**
 	 * Set the body type map for the formatter.
 	 * <p>
@@ -203,4 +552,181 @@ public abstract class AbstractHttpFormatter<SELF extends AbstractHttpFormatter<S
 	public Map<String, Function<String, String>> getContentPrettifiers() {
 		return contentPrettifiers;
 	}
+
+	/**
+	 * Set the body differ for the formatter.
+	 * <p>
+	 * The body differ should be passed to {@link com.epam.reportportal.formatting.http.HttpResponseFormatter.Builder#bodyDiffer} to
+	 * log only changes of response bodies comparing to the previous response of the same endpoint received by the same thread. It is
+	 * not set by default.
+	 *
+	 * @param differ a body differ or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setBodyDiffer(@Nullable BodyDiffer differ) {
+		this.bodyDiffer = differ;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the body differ for the formatter.
+	 *
+	 * @return a body differ or <code>null</code> if full bodies should be logged
+	 */
+	@Nullable
+	public BodyDiffer getBodyDiffer() {
+		return bodyDiffer;
+	}
+
+	/**
+	 * Set the prettifier circuit breaker for the formatter.
+	 * <p>
+	 * The circuit breaker should be passed to {@code prettifierBreaker} methods of request and response formatter builders to stop
+	 * prettifying bodies of endpoints where prettification is consistently slow or fails. It is not set by default.
+	 *
+	 * @param breaker a prettifier circuit breaker or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setPrettifierBreaker(@Nullable PrettifierCircuitBreaker breaker) {
+		this.prettifierBreaker = breaker;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the prettifier circuit breaker for the formatter.
+	 *
+	 * @return a prettifier circuit breaker or <code>null</code> if bodies are always prettified
+	 */
+	@Nullable
+	public PrettifierCircuitBreaker getPrettifierBreaker() {
+		return prettifierBreaker;
+	}
+
+	/**
+	 * Set the body sniffer for the formatter.
+	 * <p>
+	 * The body sniffer should be passed to {@code bodySniffer} methods of request and response formatter builders to log textual
+	 * bodies with binary or missing content types as text. It is not set by default.
+	 *
+	 * @param sniffer a body sniffer or <code>null</code>
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setBodySniffer(@Nullable BodySniffer sniffer) {
+		this.bodySniffer = sniffer;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the body sniffer for the formatter.
+	 *
+	 * @return a body sniffer or <code>null</code> if bodies are classified by content type only
+	 */
+	@Nullable
+	public BodySniffer getBodySniffer() {
+		return bodySniffer;
+	}
+
+	/**
+	 * Set how multipart requests and responses are logged. {@link MultipartMode#NESTED_STEP} creates a nested step with a log entry
+	 * per part, {@link MultipartMode#CONSOLIDATED} sends a single log entry with text parts and an archive of binary parts, which
+	 * reduces API calls for bodies with many parts. Default mode is {@link MultipartMode#NESTED_STEP}.
+	 *
+	 * @param mode multipart logging mode
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setMultipartMode(@Nonnull MultipartMode mode) {
+		this.multipartMode = mode;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get how multipart requests and responses are logged.
+	 *
+	 * @return multipart logging mode
+	 */
+	@Nonnull
+	public MultipartMode getMultipartMode() {
+		return multipartMode;
+	}
+
+	/**
+	 * Set the maximum size of a binary part which is bundled into the archive in {@link MultipartMode#CONSOLIDATED} mode, larger
+	 * parts are attached separately. Default value is {@link #DEFAULT_MAX_BUNDLED_PART_SIZE}.
+	 *
+	 * @param maxSize maximum part size in bytes
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setMaxBundledPartSize(int maxSize) {
+		this.maxBundledPartSize = maxSize;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the maximum size of a binary part which is bundled into the archive in {@link MultipartMode#CONSOLIDATED} mode.
+	 *
+	 * @return maximum part size in bytes
+	 */
+	public int getMaxBundledPartSize() {
+		return maxBundledPartSize;
+	}
+
+	/**
+	 * Set the maximum total size of binary parts bundled into the archive in {@link MultipartMode#CONSOLIDATED} mode, parts which do
+	 * not fit are attached separately. Default value is {@link #DEFAULT_MAX_BUNDLE_SIZE}.
+	 *
+	 * @param maxSize maximum total size of bundled parts in bytes
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setMaxBundleSize(long maxSize) {
+		this.maxBundleSize = maxSize;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the maximum total size of binary parts bundled into the archive in {@link MultipartMode#CONSOLIDATED} mode.
+	 *
+	 * @return maximum total size of bundled parts in bytes
+	 */
+	public long getMaxBundleSize() {
+		return maxBundleSize;
+	}
+
+	/**
+	 * Set the pool to format multipart body parts in parallel.
+	 * <p>
+	 * If the pool is set, text parts of multipart bodies are prettified concurrently in it, while logs are still sent in the part
+	 * order from the calling thread. To split large JSON array and NDJSON bodies wrap their prettifiers with
+	 * {@link com.epam.reportportal.formatting.http.prettifiers.ParallelPrettifier}. It is not set by default.
+	 *
+	 * @param pool a pool instance, like {@link ForkJoinPool#commonPool()}, or <code>null</code> to format parts sequentially
+	 * @return the formatter instance
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	public SELF setFormattingPool(@Nullable ForkJoinPool pool) {
+		this.formattingPool = pool;
+		return (SELF) this;
+	}
+
+	/**
+	 * Get the pool to format multipart body parts in parallel.
+	 *
+	 * @return a pool instance or <code>null</code> if parts are formatted sequentially
+	 */
+	@Nullable
+	public ForkJoinPool getFormattingPool() {
+		return formattingPool;
+	}
 }
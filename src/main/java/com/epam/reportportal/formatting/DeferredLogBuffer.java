@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Per-thread ring buffer of deferred log emissions.
+ * <p>
+ * When set to a formatter with {@link AbstractHttpFormatter#setLogBuffer(DeferredLogBuffer)} HTTP requests and responses are not
+ * formatted and sent immediately, instead the buffer keeps the last exchanges of the current test thread, bounded by entry count and
+ * by approximate body size. Buffered entries are formatted and sent with their original timestamps on {@link #flush()}, usually when a
+ * test fails, and dropped on {@link #discard()} otherwise. Both methods should be called from the test thread before the test item
+ * is finished, so the logs are attached to the correct item.
+ * <p>
+ * Buffering is enabled per thread with {@link #start()}, which should be called from the test thread at the test start. Exchanges
+ * logged from other threads, like async client callbacks or pool threads, are not buffered and sent immediately: the test thread could
+ * never flush or discard their entries, so they would be lost and kept for the life of the pool thread.
+ */
+public class DeferredLogBuffer {
+	public static final int DEFAULT_MAX_ENTRIES = 50;
+	public static final long DEFAULT_MAX_SIZE = 5 * 1024 * 1024;
+
+	private final int maxEntries;
+	private final long maxSize;
+
+	private final ThreadLocal<Ring> rings = new ThreadLocal<>();
+
+	/**
+	 * Create a buffer with the specific limits.
+	 *
+	 * @param maxEntryNumber maximum number of entries kept per thread
+	 * @param maxBodySize    maximum summary body size of entries kept per thread, the latest entry is always kept regardless of its
+	 *                       size
+	 */
+	public DeferredLogBuffer(int maxEntryNumber, long maxBodySize) {
+		if (maxEntryNumber <= 0) {
+			throw new IllegalArgumentException("Maximum entry number should be a positive number");
+		}
+		maxEntries = maxEntryNumber;
+		maxSize = maxBodySize;
+	}
+
+	public DeferredLogBuffer() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Start buffering on the current thread. Entries buffered earlier by the thread are dropped.
+	 */
+	public void start() {
+		rings.set(new Ring());
+	}
+
+	/**
+	 * Buffer an emission if buffering is started on the current thread.
+	 *
+	 * @param size     approximate entry size
+	 * @param emission the emission to run on flush
+	 * @return <code>false</code> if the current thread does not buffer and the emission should be run immediately
+	 */
+	boolean add(long size, @Nonnull Runnable emission) {
+		Ring ring = rings.get();
+		if (ring == null) {
+			return false;
+		}
+		ring.entries.addLast(new Entry(size, emission));
+		ring.size += size;
+		while (ring.entries.size() > 1 && (ring.entries.size() > maxEntries || ring.size > maxSize)) {
+			ring.size -= ring.entries.removeFirst().size;
+		}
+		return true;
+	}
+
+	/**
+	 * Format and send all entries buffered by the current thread with their original timestamps and stop buffering on the thread.
+	 */
+	public void flush() {
+		Ring ring = rings.get();
+		rings.remove();
+		if (ring != null) {
+			ring.entries.forEach(e -> e.emission.run());
+		}
+	}
+
+	/**
+	 * Drop all entries buffered by the current thread and stop buffering on the thread.
+	 */
+	public void discard() {
+		rings.remove();
+	}
+
+	/**
+	 * Finish buffering for the current test: flush entries if the test failed, discard them otherwise.
+	 *
+	 * @param status test status
+	 */
+	public void finish(@Nullable ItemStatus status) {
+		if (ItemStatus.FAILED == status) {
+			flush();
+		} else {
+			discard();
+		}
+	}
+
+	/**
+	 * @return number of entries buffered by the current thread
+	 */
+	public int size() {
+		Ring ring = rings.get();
+		return ring == null ? 0 : ring.entries.size();
+	}
+
+	private static class Entry {
+		private final long size;
+		private final Runnable emission;
+
+		private Entry(long entrySize, Runnable entryEmission) {
+			size = entrySize;
+			emission = entryEmission;
+		}
+	}
+
+	private static class Ring {
+		private final Deque<Entry> entries = new ArrayDeque<>();
+		private long size;
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import com.epam.reportportal.formatting.http.entities.Cookie;
+import com.epam.reportportal.formatting.http.entities.Header;
+import com.epam.reportportal.formatting.http.entities.Param;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-thread collapse of consecutive identical HTTP exchanges, like polling an endpoint until its state changes.
+ * <p>
+ * Each request and response is identified by a 64-bit FNV-1a hash of its method, URI, status, headers, cookies and raw body, which
+ * is calculated without any formatting. Headers which usually change from call to call, like <code>Date</code>, are ignored. If a
+ * request and its response are the same as the previous ones, they are not logged, instead a single message with the number of
+ * repeats and the time range is logged when the run of repeats ends: on a different exchange or on {@link #finish()}. Only hashes of
+ * the last exchange and one pending request are kept per thread.
+ */
+public class ExchangeDeduplicator {
+	public static final Set<String> DEFAULT_IGNORED_HEADERS = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(
+			"Date",
+			"Expires",
+			"Age",
+			"Last-Modified",
+			"ETag",
+			"X-Request-Id",
+			"X-Correlation-Id",
+			"X-Trace-Id",
+			"Traceparent",
+			"Tracestate"
+	)));
+	public static final String REPEATED_MESSAGE_PATTERN = "Previous exchange repeated %d times between %s and %s";
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Set<String> ignoredHeaders;
+	private final ThreadLocal<State> states = ThreadLocal.withInitial(State::new);
+
+	/**
+	 * Create a deduplicator which ignores specific headers.
+	 *
+	 * @param ignoredHeaderNames names of headers which are not taken into account, case-insensitive
+	 */
+	public ExchangeDeduplicator(@Nonnull Set<String> ignoredHeaderNames) {
+		TreeSet<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		names.addAll(ignoredHeaderNames);
+		ignoredHeaders = Collections.unmodifiableSet(names);
+	}
+
+	public ExchangeDeduplicator() {
+		this(DEFAULT_IGNORED_HEADERS);
+	}
+
+	private static long hash(long hash, @Nullable String value) {
+		long result = hash;
+		if (value != null) {
+			for (int i = 0; i < value.length(); i++) {
+				result = (result ^ value.charAt(i)) * FNV_PRIME;
+			}
+		}
+		return (result ^ 0xff) * FNV_PRIME;
+	}
+
+	private static long hash(long hash, @Nonnull byte[] value) {
+		long result = hash;
+		for (byte b : value) {
+			result = (result ^ (b & 0xff)) * FNV_PRIME;
+		}
+		return result;
+	}
+
+	/**
+	 * Calculate hash of a request or response without formatting it.
+	 *
+	 * @param formatter request or response
+	 * @return 64-bit hash
+	 */
+	public long hash(@Nonnull HttpFormatter formatter) {
+		long result = hash(FNV_OFFSET_BASIS, formatter.getMethod());
+		result = hash(result, formatter.getUri());
+		result = hash(result, Integer.toString(formatter.getStatusCode()));
+		for (Header header : formatter.getHeaders()) {
+			if (!ignoredHeaders.contains(header.getName())) {
+				result = hash(hash(result, header.getName().toLowerCase(Locale.ROOT)), header.getValue());
+			}
+		}
+		for (Cookie cookie : formatter.getCookies()) {
+			result = hash(hash(result, cookie.getName()), cookie.getValue());
+		}
+		BodyType type = formatter.getType();
+		result = hash(result, type.name());
+		switch (type) {
+			case TEXT:
+				byte[] bytes = formatter.getTextBodyBytes();
+				if (bytes == null) {
+					return hash(result, formatter.getTextBody());
+				}
+				Charset charset = formatter.getCharset();
+				return hash(hash(result, charset == null ? null : charset.name()), bytes);
+			case FORM:
+				for (Param param : formatter.getFormBody()) {
+					result = hash(hash(result, param.getName()), param.getValue());
+				}
+				return result;
+			case BINARY:
+				return hash(result, formatter.getBinaryBody());
+			default:
+				return result;
+		}
+	}
+
+	/**
+	 * Process a request or response.
+	 *
+	 * @param formatter        request or response
+	 * @param time             request or response time
+	 * @param exchangeConsumer consumer which logs requests and responses which are not suppressed
+	 * @param messageConsumer  consumer which logs messages about repeats
+	 */
+	public void process(@Nonnull HttpFormatter formatter, @Nonnull Instant time,
+			@Nonnull BiConsumer<HttpFormatter, Instant> exchangeConsumer, @Nonnull BiConsumer<String, Instant> messageConsumer) {
+		State state = states.get();
+		state.messageConsumer = messageConsumer;
+		if (BodyType.MULTIPART == formatter.getType()) {
+			state.endRun();
+			state.reset();
+			exchangeConsumer.accept(formatter, time);
+			return;
+		}
+		long hash = hash(formatter);
+		if (formatter.getStatusCode() < 0) {
+			processRequest(state, formatter, hash, time, exchangeConsumer);
+		} else {
+			processResponse(state, formatter, hash, time, exchangeConsumer);
+		}
+	}
+
+	private void processRequest(@Nonnull State state, @Nonnull HttpFormatter formatter, long hash, @Nonnull Instant time,
+			@Nonnull BiConsumer<HttpFormatter, Instant> exchangeConsumer) {
+		if (state.pendingRequest != null) {
+			// previous repeated request had no response
+			state.repeat(state.pendingTime);
+		}
+		if (state.hasRequest && hash == state.requestHash) {
+			state.pendingRequest = formatter;
+			state.pendingTime = time;
+			return;
+		}
+		state.endRun();
+		state.hasRequest = true;
+		state.requestHash = hash;
+		state.hasResponse = false;
+		state.requestLogged = true;
+		exchangeConsumer.accept(formatter, time);
+	}
+
+	private void processResponse(@Nonnull State state, @Nonnull HttpFormatter formatter, long hash, @Nonnull Instant time,
+			@Nonnull BiConsumer<HttpFormatter, Instant> exchangeConsumer) {
+		HttpFormatter pendingRequest = state.pendingRequest;
+		Instant pendingTime = state.pendingTime;
+		state.pendingRequest = null;
+		state.pendingTime = null;
+		boolean requestLogged = state.requestLogged;
+		state.requestLogged = false;
+		if (!requestLogged && state.hasResponse && hash == state.responseHash) {
+			state.repeat(pendingTime == null ? time : pendingTime);
+			state.lastRepeat = time;
+			return;
+		}
+		if (!requestLogged) {
+			state.endRun();
+			if (pendingRequest != null) {
+				exchangeConsumer.accept(pendingRequest, pendingTime);
+			} else {
+				state.hasRequest = false;
+			}
+		}
+		state.hasResponse = true;
+		state.responseHash = hash;
+		exchangeConsumer.accept(formatter, time);
+	}
+
+	/**
+	 * Finish the current thread run of repeats: log the message about repeats if there are any and reset the state.
+	 */
+	public void finish() {
+		State state = states.get();
+		states.remove();
+		if (state.pendingRequest != null) {
+			state.repeat(state.pendingTime);
+		}
+		state.endRun();
+	}
+
+	private static class State {
+		private boolean hasRequest;
+		private long requestHash;
+		private boolean hasResponse;
+		private long responseHash;
+		private boolean requestLogged;
+
+		private HttpFormatter pendingRequest;
+		private Instant pendingTime;
+
+		private long repeats;
+		private Instant firstRepeat;
+		private Instant lastRepeat;
+
+		private BiConsumer<String, Instant> messageConsumer;
+
+		private void repeat(@Nonnull Instant time) {
+			if (repeats++ == 0) {
+				firstRepeat = time;
+			}
+			lastRepeat = time;
+			pendingRequest = null;
+			pendingTime = null;
+		}
+
+		private void endRun() {
+			if (repeats > 0 && messageConsumer != null) {
+				messageConsumer.accept(String.format(REPEATED_MESSAGE_PATTERN, repeats, firstRepeat, lastRepeat), lastRepeat);
+			}
+			repeats = 0;
+			firstRepeat = null;
+			lastRepeat = null;
+		}
+
+		private void reset() {
+			hasRequest = false;
+			hasResponse = false;
+			requestLogged = false;
+			pendingRequest = null;
+			pendingTime = null;
+		}
+	}
+}
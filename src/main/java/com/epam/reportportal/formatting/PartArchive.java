@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.formatting.http.HttpPartFormatter;
+import jakarta.annotation.Nonnull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Zip archive of binary multipart body parts, which are logged as a single attachment.
+ */
+class PartArchive {
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private final ZipOutputStream zip = new ZipOutputStream(bytes);
+	private final Set<String> names = new HashSet<>();
+
+	/**
+	 * Add a binary part to the archive. Entry name is the part file name or the control name, unsafe characters are replaced and
+	 * repeating names get a numeric prefix.
+	 *
+	 * @param part binary part
+	 * @return the entry name
+	 */
+	@Nonnull
+	String add(@Nonnull HttpPartFormatter part) {
+		String name = part.getFileName();
+		if (name == null || name.isEmpty()) {
+			name = part.getControlName();
+		}
+		if (name == null || name.isEmpty()) {
+			name = "part";
+		}
+		name = name.replaceAll("[/\\\\:]", "_");
+		String entryName = name;
+		for (int i = 1; !names.add(entryName); i++) {
+			entryName = i + "-" + name;
+		}
+		try {
+			zip.putNextEntry(new ZipEntry(entryName));
+			zip.write(part.getBinaryPayload());
+			zip.closeEntry();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return entryName;
+	}
+
+	/**
+	 * @return number of entries in the archive
+	 */
+	int size() {
+		return names.size();
+	}
+
+	/**
+	 * Finish the archive.
+	 *
+	 * @return archive bytes
+	 */
+	@Nonnull
+	byte[] toByteArray() {
+		try {
+			zip.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+}
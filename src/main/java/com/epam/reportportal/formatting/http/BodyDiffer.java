@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+
+/**
+ * Keeps the last formatted body of each endpoint and renders changes of the next body to the same endpoint as a compact unified diff.
+ * <p>
+ * Bodies are stored in an LRU cache bounded by the number of endpoints, bodies larger than the specific size are not stored. The
+ * diff is line-based: common leading and trailing lines are skipped, the rest is compared with LCS algorithm, if it fits into the
+ * comparison budget. If the diff is not shorter than the body itself, the body should be logged as is.
+ * <p>
+ * The cache is kept per thread, so bodies of parallel tests are compared only with bodies received by the same test thread and the
+ * differ does not use any locks. Call {@link #reset()} on the test thread at the test start to forget bodies of the previous test.
+ */
+public class BodyDiffer {
+	public static final int DEFAULT_MAX_ENDPOINTS = 100;
+	public static final int DEFAULT_MAX_BODY_SIZE = 256 * 1024;
+	public static final int DEFAULT_CONTEXT_LINES = 3;
+
+	private static final long MAX_COMPARISONS = 1_000_000;
+
+	private final int maxBodySize;
+	private final int contextLines;
+	private final ThreadLocal<Map<String, String>> lastBodies;
+
+	public BodyDiffer(int maxEndpointNumber, int maxBodyLength, int contextLineNumber) {
+		maxBodySize = maxBodyLength;
+		contextLines = contextLineNumber;
+		lastBodies = ThreadLocal.withInitial(() -> new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEndpointNumber;
+			}
+		});
+	}
+
+	public BodyDiffer() {
+		this(DEFAULT_MAX_ENDPOINTS, DEFAULT_MAX_BODY_SIZE, DEFAULT_CONTEXT_LINES);
+	}
+
+	/**
+	 * Store the body for the endpoint and return its diff against the previous body of the same endpoint received by the current
+	 * thread.
+	 *
+	 * @param endpointKey endpoint identifier, e.g. method and URI
+	 * @param body        formatted body
+	 * @return unified diff or <code>null</code> if there is no previous body or the diff is not shorter than the body
+	 */
+	@Nullable
+	public String diff(@Nonnull String endpointKey, @Nonnull String body) {
+		Map<String, String> bodies = lastBodies.get();
+		String previous = body.length() > maxBodySize ? bodies.remove(endpointKey) : bodies.put(endpointKey, body);
+		if (previous == null || body.length() > maxBodySize) {
+			return null;
+		}
+		String result = diff(previous.split(LINE_DELIMITER, -1), body.split(LINE_DELIMITER, -1));
+		return result == null || result.length() >= body.length() ? null : result;
+	}
+
+	/**
+	 * Forget the current thread bodies.
+	 */
+	public void reset() {
+		lastBodies.remove();
+	}
+
+	@Nullable
+	private String diff(@Nonnull String[] oldLines, @Nonnull String[] newLines) {
+		int prefix = 0;
+		int maxPrefix = Math.min(oldLines.length, newLines.length);
+		while (prefix < maxPrefix && oldLines[prefix].equals(newLines[prefix])) {
+			prefix++;
+		}
+		int suffix = 0;
+		int maxSuffix = maxPrefix - prefix;
+		while (suffix < maxSuffix && oldLines[oldLines.length - 1 - suffix].equals(newLines[newLines.length - 1 - suffix])) {
+			suffix++;
+		}
+		int oldCount = oldLines.length - prefix - suffix;
+		int newCount = newLines.length - prefix - suffix;
+		if ((long) oldCount * newCount > MAX_COMPARISONS) {
+			return null;
+		}
+
+		// Edit script: ' ' - common line, '-' - removed line, '+' - added line
+		int[][] lcs = new int[oldCount + 1][newCount + 1];
+		for (int i = oldCount - 1; i >= 0; i--) {
+			for (int j = newCount - 1; j >= 0; j--) {
+				lcs[i][j] = oldLines[prefix + i].equals(newLines[prefix + j]) ?
+						lcs[i + 1][j + 1] + 1 :
+						Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+			}
+		}
+		List<Character> ops = new ArrayList<>(oldLines.length + newCount);
+		List<String> text = new ArrayList<>(oldLines.length + newCount);
+		for (int k = 0; k < prefix; k++) {
+			ops.add(' ');
+			text.add(oldLines[k]);
+		}
+		int i = 0;
+		int j = 0;
+		while (i < oldCount || j < newCount) {
+			if (i < oldCount && j < newCount && oldLines[prefix + i].equals(newLines[prefix + j])) {
+				ops.add(' ');
+				text.add(oldLines[prefix + i]);
+				i++;
+				j++;
+			} else if (i < oldCount && (j >= newCount || lcs[i + 1][j] >= lcs[i][j + 1])) {
+				ops.add('-');
+				text.add(oldLines[prefix + i]);
+				i++;
+			} else {
+				ops.add('+');
+				text.add(newLines[prefix + j]);
+				j++;
+			}
+		}
+		for (int k = oldLines.length - suffix; k < oldLines.length; k++) {
+			ops.add(' ');
+			text.add(oldLines[k]);
+		}
+		return render(ops, text);
+	}
+
+	@Nonnull
+	private String render(@Nonnull List<Character> ops, @Nonnull List<String> text) {
+		StringBuilder result = new StringBuilder("--- previous").append(LINE_DELIMITER).append("+++ current");
+		int position = 0;
+		int oldLine = 1;
+		int newLine = 1;
+		while (position < ops.size()) {
+			// find next change
+			int change = position;
+			while (change < ops.size() && ops.get(change) == ' ') {
+				change++;
+			}
+			if (change >= ops.size()) {
+				break;
+			}
+			int start = Math.max(position, change - contextLines);
+			oldLine += start - position;
+			newLine += start - position;
+			// extend hunk while changes are closer than two contexts
+			int end = change;
+			int lastChange = change;
+			while (end < ops.size() && (ops.get(end) != ' ' || end - lastChange <= 2 * contextLines)) {
+				if (ops.get(end) != ' ') {
+					lastChange = end;
+				}
+				end++;
+			}
+			end = Math.min(ops.size(), lastChange + 1 + contextLines);
+			int oldCount = 0;
+			int newCount = 0;
+			StringBuilder hunk = new StringBuilder();
+			for (int k = start; k < end; k++) {
+				char op = ops.get(k);
+				if (op != '+') {
+					oldCount++;
+				}
+				if (op != '-') {
+					newCount++;
+				}
+				hunk.append(LINE_DELIMITER).append(op).append(text.get(k));
+			}
+			result.append(LINE_DELIMITER)
+					.append("@@ -")
+					.append(oldLine)
+					.append(',')
+					.append(oldCount)
+					.append(" +")
+					.append(newLine)
+					.append(',')
+					.append(newCount)
+					.append(" @@")
+					.append(hunk);
+			oldLine += oldCount;
+			newLine += newCount;
+			position = end;
+		}
+		return result.toString();
+	}
+}
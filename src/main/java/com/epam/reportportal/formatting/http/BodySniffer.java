@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import com.epam.reportportal.formatting.http.prettifiers.ContentSniffer;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Inspects first bytes of bodies classified as binary to find textual payloads sent with <code>application/octet-stream</code>,
+ * vendor or missing content types, so they are logged as text instead of being uploaded as attachments.
+ * <p>
+ * The sniffer checks magic numbers of common binary formats, byte order marks and UTF-8 validity of the body prefix. Textual bodies
+ * get an inferred content type, so a suitable prettifier is used for them. Byte checks are done for every body, since an endpoint
+ * can return both text and binary bodies, only inferred text types are cached per endpoint and declared content type in an LRU
+ * cache, so text structure is inspected only for the first text body of an endpoint.
+ */
+public class BodySniffer {
+	public static final int DEFAULT_SAMPLE_SIZE = 4096;
+	public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+
+	private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G' };
+	private static final byte[] PDF = { '%', 'P', 'D', 'F' };
+	private static final byte[] ZIP = { 'P', 'K', 3, 4 };
+	private static final byte[] GZIP = { 0x1F, (byte) 0x8B };
+	private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+	private static final byte[] GIF = { 'G', 'I', 'F', '8' };
+	private static final byte[] UTF8_BOM = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+	private static final byte[] UTF16BE_BOM = { (byte) 0xFE, (byte) 0xFF };
+	private static final byte[] UTF16LE_BOM = { (byte) 0xFF, (byte) 0xFE };
+
+	private static final String[] NOT_SNIFFED_TYPE_PREFIXES = { "image/", "audio/", "video/", "font/" };
+
+	private final int sampleSize;
+	private final Map<String, String> textTypes;
+
+	/**
+	 * Sniffing result.
+	 */
+	public static class Result {
+		private final BodyType type;
+		private final String mimeType;
+		private final Charset charset;
+		private final int offset;
+
+		private Result(@Nonnull BodyType bodyType, @Nullable String bodyMimeType, @Nullable Charset bodyCharset, int bodyOffset) {
+			type = bodyType;
+			mimeType = bodyMimeType;
+			charset = bodyCharset;
+			offset = bodyOffset;
+		}
+
+		/**
+		 * @return {@link BodyType#TEXT} or {@link BodyType#BINARY}
+		 */
+		@Nonnull
+		public BodyType getType() {
+			return type;
+		}
+
+		/**
+		 * @return inferred or declared MIME type
+		 */
+		@Nullable
+		public String getMimeType() {
+			return mimeType;
+		}
+
+		/**
+		 * @return charset of a text body or <code>null</code> for a binary body
+		 */
+		@Nullable
+		public Charset getCharset() {
+			return charset;
+		}
+
+		/**
+		 * Decode a text body, skipping the byte order mark.
+		 *
+		 * @param body body bytes
+		 * @return body text
+		 */
+		@Nonnull
+		public String decode(@Nonnull byte[] body) {
+			int start = Math.min(offset, body.length);
+			return new String(body, start, body.length - start, charset == null ? StandardCharsets.UTF_8 : charset);
+		}
+	}
+
+	public BodySniffer(int sampleByteNumber, int maxEndpointNumber) {
+		sampleSize = sampleByteNumber;
+		textTypes = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEndpointNumber;
+			}
+		};
+	}
+
+	public BodySniffer() {
+		this(DEFAULT_SAMPLE_SIZE, DEFAULT_MAX_ENDPOINTS);
+	}
+
+	private static boolean startsWith(@Nonnull byte[] body, @Nonnull byte[] prefix) {
+		if (body.length < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (body[i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Classify a body which is binary by its declared content type.
+	 *
+	 * @param endpointKey endpoint identifier to cache inferred text types, e.g. method and URI path, or <code>null</code> to skip
+	 *                    caching
+	 * @param mimeType    declared MIME type
+	 * @param body        body bytes
+	 * @return sniffing result
+	 */
+	@Nonnull
+	public Result sniff(@Nullable String endpointKey, @Nullable String mimeType, @Nonnull byte[] body) {
+		if (mimeType != null) {
+			String type = mimeType.toLowerCase(Locale.ROOT);
+			for (String prefix : NOT_SNIFFED_TYPE_PREFIXES) {
+				if (type.startsWith(prefix)) {
+					return new Result(BodyType.BINARY, mimeType, null, 0);
+				}
+			}
+		}
+		String key = endpointKey == null ? null : endpointKey + " " + mimeType;
+		String cachedTextType = null;
+		if (key != null) {
+			synchronized (textTypes) {
+				cachedTextType = textTypes.get(key);
+			}
+		}
+		Result result = sniff(mimeType, body, cachedTextType);
+		if (key != null && cachedTextType == null && result.type == BodyType.TEXT) {
+			synchronized (textTypes) {
+				textTypes.put(key, result.mimeType);
+			}
+		}
+		return result;
+	}
+
+	private static int bomLength(@Nonnull byte[] body) {
+		if (startsWith(body, UTF8_BOM)) {
+			return UTF8_BOM.length;
+		}
+		return startsWith(body, UTF16BE_BOM) || startsWith(body, UTF16LE_BOM) ? UTF16BE_BOM.length : 0;
+	}
+
+	@Nonnull
+	private Result sniff(@Nullable String mimeType, @Nonnull byte[] body, @Nullable String cachedTextType) {
+		if (body.length == 0) {
+			return new Result(BodyType.BINARY, mimeType, null, 0);
+		}
+		if (startsWith(body, PNG)) {
+			return new Result(BodyType.BINARY, "image/png", null, 0);
+		}
+		if (startsWith(body, JPEG)) {
+			return new Result(BodyType.BINARY, "image/jpeg", null, 0);
+		}
+		if (startsWith(body, GIF)) {
+			return new Result(BodyType.BINARY, "image/gif", null, 0);
+		}
+		if (startsWith(body, PDF)) {
+			return new Result(BodyType.BINARY, "application/pdf", null, 0);
+		}
+		if (startsWith(body, ZIP)) {
+			return new Result(BodyType.BINARY, "application/zip", null, 0);
+		}
+		if (startsWith(body, GZIP)) {
+			return new Result(BodyType.BINARY, "application/gzip", null, 0);
+		}
+		Charset charset;
+		if (startsWith(body, UTF16BE_BOM) || startsWith(body, UTF16LE_BOM)) {
+			boolean bigEndian = startsWith(body, UTF16BE_BOM);
+			if (!isUtf16Text(body, UTF16BE_BOM.length, Math.min(body.length, UTF16BE_BOM.length + sampleSize), bigEndian)) {
+				return new Result(BodyType.BINARY, mimeType, null, 0);
+			}
+			charset = bigEndian ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_16LE;
+		} else if (startsWith(body, UTF8_BOM) || isUtf8Text(body, Math.min(body.length, sampleSize))) {
+			charset = StandardCharsets.UTF_8;
+		} else {
+			return new Result(BodyType.BINARY, mimeType, null, 0);
+		}
+		int offset = bomLength(body);
+		if (cachedTextType != null) {
+			return new Result(BodyType.TEXT, cachedTextType, charset, offset);
+		}
+		int sampleEnd = Math.min(body.length, offset + sampleSize);
+		String sample = new String(body, offset, sampleEnd - offset, charset);
+		return new Result(BodyType.TEXT, inferTextType(sample, sampleEnd == body.length), charset, offset);
+	}
+
+	/**
+	 * Check that the sample is valid UTF-8 without control characters other than whitespaces. A multibyte sequence cut by the
+	 * sample end is allowed.
+	 *
+	 * @param body   body bytes
+	 * @param length sample length
+	 * @return <code>true</code> if the sample looks like UTF-8 text
+	 */
+	static boolean isUtf8Text(@Nonnull byte[] body, int length) {
+		int i = 0;
+		while (i < length) {
+			int b = body[i] & 0xFF;
+			if (b < 0x80) {
+				if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' || b == 0x7F) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+			int continuation;
+			int minCodePoint;
+			int codePoint;
+			if ((b & 0xE0) == 0xC0) {
+				continuation = 1;
+				minCodePoint = 0x80;
+				codePoint = b & 0x1F;
+			} else if ((b & 0xF0) == 0xE0) {
+				continuation = 2;
+				minCodePoint = 0x800;
+				codePoint = b & 0x0F;
+			} else if ((b & 0xF8) == 0xF0) {
+				continuation = 3;
+				minCodePoint = 0x10000;
+				codePoint = b & 0x07;
+			} else {
+				return false;
+			}
+			if (i + continuation >= length) {
+				return length < body.length;
+			}
+			for (int j = 1; j <= continuation; j++) {
+				int c = body[i + j] & 0xFF;
+				if ((c & 0xC0) != 0x80) {
+					return false;
+				}
+				codePoint = (codePoint << 6) | (c & 0x3F);
+			}
+			if (codePoint < minCodePoint || codePoint > 0x10FFFF || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+				return false;
+			}
+			i += continuation + 1;
+		}
+		return true;
+	}
+
+	/**
+	 * Check that the sample is valid UTF-16 without control characters other than whitespaces. A code unit or a surrogate pair
+	 * cut by the sample end is allowed.
+	 *
+	 * @param body      body bytes
+	 * @param offset    sample start, after the byte order mark
+	 * @param end       sample end
+	 * @param bigEndian byte order
+	 * @return <code>true</code> if the sample looks like UTF-16 text
+	 */
+	static boolean isUtf16Text(@Nonnull byte[] body, int offset, int end, boolean bigEndian) {
+		int i = offset;
+		while (i + 1 < end) {
+			char c = utf16CodeUnit(body, i, bigEndian);
+			if (Character.isHighSurrogate(c)) {
+				if (i + 3 >= end) {
+					return end < body.length;
+				}
+				if (!Character.isLowSurrogate(utf16CodeUnit(body, i + 2, bigEndian))) {
+					return false;
+				}
+				i += 4;
+				continue;
+			}
+			if (Character.isLowSurrogate(c) || c < 0x20 && c != '\t' && c != '\n' && c != '\r' && c != '\f' || c == 0x7F) {
+				return false;
+			}
+			i += 2;
+		}
+		return i == end || end < body.length;
+	}
+
+	private static char utf16CodeUnit(@Nonnull byte[] body, int index, boolean bigEndian) {
+		int first = body[index] & 0xFF;
+		int second = body[index + 1] & 0xFF;
+		return (char) (bigEndian ? first << 8 | second : second << 8 | first);
+	}
+
+	@Nonnull
+	private static String inferTextType(@Nonnull String sample, boolean complete) {
+		String start = sample.stripLeading();
+		if (start.startsWith("{") || start.startsWith("[")) {
+			if (!complete || ContentSniffer.isJsonLike(sample)) {
+				return ContentType.APPLICATION_JSON;
+			}
+		}
+		String lowerCase = start.substring(0, Math.min(start.length(), 15)).toLowerCase(Locale.ROOT);
+		if (lowerCase.startsWith("<!doctype html") || lowerCase.startsWith("<html")) {
+			return ContentType.TEXT_HTML;
+		}
+		if (start.startsWith("<") && (!complete || ContentSniffer.isXmlLike(sample))) {
+			return ContentType.APPLICATION_XML;
+		}
+		return ContentType.TEXT_PLAIN;
+	}
+}
@@ -17,9 +17,7 @@
 package com.epam.reportportal.formatting.http;
 
 import com.epam.reportportal.formatting.http.entities.BodyType;
-import com.epam.reportportal.formatting.http.prettifiers.HtmlPrettifier;
-import com.epam.reportportal.formatting.http.prettifiers.JsonPrettifier;
-import com.epam.reportportal.formatting.http.prettifiers.XmlPrettifier;
+import com.epam.reportportal.formatting.http.prettifiers.PrettifierRegistry;
 import com.epam.reportportal.utils.http.ContentType;
 
 import java.util.*;
@@ -35,10 +33,16 @@ public class Constants {
 	public static final String RESPONSE_TAG = "**<<< RESPONSE**";
 	public static final String BODY_TAG = "**Body**";
 	public static final String BODY_FORM_TAG = "**Body form**";
+	public static final String BODY_DIFF_TAG = "**Body diff with previous response**";
 	public static final String COOKIES_TAG = "**Cookies**";
 	public static final String BODY_PART_TAG = "**Body part**";
 	public static final String BODY_HIGHLIGHT = "```";
 
+	// Can't use ContentType constants for these types, they are not defined there
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+	public static final String APPLICATION_JSONL = "application/jsonl";
+	public static final String APPLICATION_JSON_SEQ = "application/json-seq";
+
 	public static final Set<String> MULTIPART_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
 			ContentType.MULTIPART_FORM_DATA,
 			ContentType.MULTIPART_MIXED,
@@ -58,7 +62,10 @@ public class Constants {
 			// Can't use ContentType.TEXT_JSON, etc. because client-java dependency marked as compileOnly
 			"text/json",
 			"application/x.reportportal.launch.v2+json",
-			"application/x.reportportal.test.v2+json"
+			"application/x.reportportal.test.v2+json",
+			APPLICATION_NDJSON,
+			APPLICATION_JSONL,
+			APPLICATION_JSON_SEQ
 	)));
 
 	public static final Set<String> FORM_TYPES = Collections.singleton(ContentType.APPLICATION_FORM_URLENCODED);
@@ -69,19 +76,25 @@ public class Constants {
 			MULTIPART_TYPES.stream().collect(Collectors.toMap(k -> k, v -> BodyType.MULTIPART))
 	).flatMap(m -> m.entrySet().stream()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
 
+	/**
+	 * Default prettifiers by MIME type, prettifier instances are created on the first use, see {@link PrettifierRegistry}.
+	 */
 	public static final Map<String, Function<String, String>> DEFAULT_PRETTIFIERS = Map.ofEntries(
-			Map.entry(ContentType.APPLICATION_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.APPLICATION_SOAP_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.APPLICATION_ATOM_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.APPLICATION_SVG_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.APPLICATION_XHTML_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.TEXT_XML, XmlPrettifier.INSTANCE),
-			Map.entry(ContentType.APPLICATION_JSON, JsonPrettifier.INSTANCE),
+			Map.entry(ContentType.APPLICATION_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.APPLICATION_SOAP_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.APPLICATION_ATOM_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.APPLICATION_SVG_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.APPLICATION_XHTML_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.TEXT_XML, PrettifierRegistry.XML),
+			Map.entry(ContentType.APPLICATION_JSON, PrettifierRegistry.JSON),
 			// Can't use ContentType.TEXT_JSON, etc. because client-java dependency marked as compileOnly
-			Map.entry("text/json", JsonPrettifier.INSTANCE),
-			Map.entry("application/x.reportportal.launch.v2+json", JsonPrettifier.INSTANCE),
-			Map.entry("application/x.reportportal.test.v2+json", JsonPrettifier.INSTANCE),
-			Map.entry(ContentType.TEXT_HTML, HtmlPrettifier.INSTANCE)
+			Map.entry("text/json", PrettifierRegistry.JSON),
+			Map.entry("application/x.reportportal.launch.v2+json", PrettifierRegistry.JSON),
+			Map.entry("application/x.reportportal.test.v2+json", PrettifierRegistry.JSON),
+			Map.entry(ContentType.TEXT_HTML, PrettifierRegistry.HTML),
+			Map.entry(APPLICATION_NDJSON, PrettifierRegistry.NDJSON),
+			Map.entry(APPLICATION_JSONL, PrettifierRegistry.NDJSON),
+			Map.entry(APPLICATION_JSON_SEQ, PrettifierRegistry.NDJSON)
 	);
 
 	private Constants() {
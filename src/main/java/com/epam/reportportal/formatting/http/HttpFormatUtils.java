@@ -113,9 +113,18 @@ public class HttpFormatUtils {
 		}
 		return (header == null || header.isEmpty() ? "" : header + LINE_DELIMITER + LINE_DELIMITER) + (tag == null || tag.isEmpty() ?
 				"" :
-				tag + LINE_DELIMITER) + BODY_HIGHLIGHT + LINE_DELIMITER + (prettifiers.containsKey(contentType) ?
-				prettifiers.get(contentType).apply(body) :
-				body) + LINE_DELIMITER + BODY_HIGHLIGHT;
+				tag + LINE_DELIMITER) + BODY_HIGHLIGHT + LINE_DELIMITER + prettify(body, prettifiers, contentType) + LINE_DELIMITER
+				+ BODY_HIGHLIGHT;
+	}
+
+	@Nonnull
+	public static String prettify(@Nonnull String body, @Nullable Map<String, Function<String, String>> contentPrettifiers,
+			@Nullable String contentType) {
+		if (contentPrettifiers == null || contentType == null) {
+			return body;
+		}
+		Function<String, String> prettifier = contentPrettifiers.get(contentType);
+		return prettifier == null ? body : prettifier.apply(body);
 	}
 
 	@Nonnull
@@ -213,12 +222,78 @@ public class HttpFormatUtils {
 		return "set-cookie".equalsIgnoreCase(headerName);
 	}
 
+	/**
+	 * Get charset from <code>Content-Type</code> header value.
+	 *
+	 * @param contentType content type with parameters
+	 * @return charset from the <code>charset</code> parameter or UTF-8 if there is no such parameter or the charset is invalid or not
+	 * supported
+	 */
+	@Nonnull
+	public static Charset getCharset(@Nullable String contentType) {
+		if (contentType == null) {
+			return StandardCharsets.UTF_8;
+		}
+		for (String parameter : contentType.split(";")) {
+			int equals = parameter.indexOf('=');
+			if (equals < 0 || !"charset".equalsIgnoreCase(parameter.substring(0, equals).trim())) {
+				continue;
+			}
+			String name = parameter.substring(equals + 1).trim();
+			if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+				name = name.substring(1, name.length() - 1);
+			}
+			return toCharset(name);
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Get charset by its name.
+	 *
+	 * @param name charset name
+	 * @return the charset or UTF-8 if the name is invalid or the charset is not supported
+	 */
 	@Nonnull
-	private static Charset getCharset(@Nullable String contentType) {
-		return ofNullable(contentType).flatMap(h -> toKeyValue(h).filter(p -> "charset".equalsIgnoreCase(p.getKey())).findAny())
-				.map(Pair::getValue)
-				.map(Charset::forName)
-				.orElse(StandardCharsets.UTF_8);
+	public static Charset toCharset(@Nonnull String name) {
+		try {
+			return Charset.forName(name);
+		} catch (IllegalArgumentException e) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	/**
+	 * Decode a text body kept as bytes, skipping the byte order mark of the charset if there is one.
+	 *
+	 * @param body    body bytes
+	 * @param charset body charset, UTF-8 if <code>null</code>
+	 * @return body text
+	 */
+	@Nonnull
+	public static String decodeText(@Nonnull byte[] body, @Nullable Charset charset) {
+		Charset bodyCharset = charset == null ? StandardCharsets.UTF_8 : charset;
+		int offset = 0;
+		if (StandardCharsets.UTF_8.equals(bodyCharset)) {
+			offset = hasBom(body, 0xEF, 0xBB, 0xBF) ? 3 : 0;
+		} else if (StandardCharsets.UTF_16BE.equals(bodyCharset)) {
+			offset = hasBom(body, 0xFE, 0xFF) ? 2 : 0;
+		} else if (StandardCharsets.UTF_16LE.equals(bodyCharset)) {
+			offset = hasBom(body, 0xFF, 0xFE) ? 2 : 0;
+		}
+		return new String(body, offset, body.length - offset, bodyCharset);
+	}
+
+	private static boolean hasBom(@Nonnull byte[] body, int... bom) {
+		if (body.length < bom.length) {
+			return false;
+		}
+		for (int i = 0; i < bom.length; i++) {
+			if ((body[i] & 0xFF) != bom[i]) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Nonnull
@@ -255,6 +330,96 @@ public class HttpFormatUtils {
 				.collect(Collectors.toList())).orElse(Collections.emptyList());
 	}
 
+	/**
+	 * Extract path part of the URI without parsing it, query and fragment are omitted.
+	 *
+	 * @param uri absolute or relative URI
+	 * @return URI path or empty string if there is no path
+	 */
+	@Nonnull
+	public static String getUriPath(@Nullable String uri) {
+		if (uri == null) {
+			return "";
+		}
+		int start = 0;
+		int schemeEnd = uri.indexOf("://");
+		if (schemeEnd >= 0) {
+			start = uri.length();
+			for (int i = schemeEnd + 3; i < uri.length(); i++) {
+				char c = uri.charAt(i);
+				if (c == '/' || c == '?' || c == '#') {
+					start = i;
+					break;
+				}
+			}
+		}
+		int end = uri.length();
+		for (int i = start; i < end; i++) {
+			char c = uri.charAt(i);
+			if (c == '?' || c == '#') {
+				end = i;
+				break;
+			}
+		}
+		return uri.substring(start, end);
+	}
+
+	/**
+	 * Extract host part of the URI without parsing it. User info and port are omitted.
+	 *
+	 * @param uri absolute URI
+	 * @return lower-case host name or empty string if the URI is relative
+	 */
+	@Nonnull
+	public static String getUriHost(@Nullable String uri) {
+		if (uri == null) {
+			return "";
+		}
+		int schemeEnd = uri.indexOf("://");
+		if (schemeEnd < 0) {
+			return "";
+		}
+		int start = schemeEnd + 3;
+		int end = uri.length();
+		for (int i = start; i < end; i++) {
+			char c = uri.charAt(i);
+			if (c == '/' || c == '?' || c == '#') {
+				end = i;
+				break;
+			} else if (c == '@') {
+				start = i + 1;
+			}
+		}
+		int portStart = uri.lastIndexOf(':', end - 1);
+		if (portStart >= start && uri.indexOf(']', portStart) < 0) {
+			end = portStart;
+		}
+		return uri.substring(start, end).toLowerCase(Locale.ROOT);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static long getBodySize(@Nonnull BodyType type, @Nullable Object body) {
+		if (body == null) {
+			return 0;
+		}
+		switch (type) {
+			case TEXT:
+				return body instanceof byte[] ? ((byte[]) body).length : ((String) body).length();
+			case BINARY:
+				return ((byte[]) body).length;
+			case FORM:
+				return ((List<Param>) body).stream().mapToLong(p -> p.getName().length() + p.getValue().length() + 1).sum();
+			case MULTIPART:
+				return ((List<HttpPartFormatter>) body).stream()
+						.mapToLong(p -> HttpPartFormatter.PartType.TEXT == p.getType() ?
+								p.getTextPayloadSize() :
+								p.getBinaryPayload().length)
+						.sum();
+			default:
+				return 0;
+		}
+	}
+
 	@Nonnull
 	public static BodyType getBodyType(@Nullable String contentType, @Nullable Map<String, BodyType> typeMap) {
 		if (contentType == null || contentType.isEmpty()) {
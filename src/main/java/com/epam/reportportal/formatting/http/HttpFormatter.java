@@ -17,9 +17,16 @@
 package com.epam.reportportal.formatting.http;
 
 import com.epam.reportportal.formatting.http.entities.BodyType;
+import com.epam.reportportal.formatting.http.entities.Cookie;
+import com.epam.reportportal.formatting.http.entities.Header;
+import com.epam.reportportal.formatting.http.entities.Param;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+
 public interface HttpFormatter {
 
 	@Nonnull
@@ -40,4 +47,107 @@ public interface HttpFormatter {
 	@Nonnull
 	byte[] getBinaryBody();
 
+	@Nonnull
+	default String getTextBody() {
+		throw new ClassCastException("Cannot return text body for body type: " + getType().name());
+	}
+
+	/**
+	 * Return charset of a text body which is kept as bytes until it is rendered.
+	 *
+	 * @return body charset or <code>null</code> if the body is not kept as bytes
+	 */
+	@Nullable
+	default Charset getCharset() {
+		return null;
+	}
+
+	/**
+	 * Return bytes of a text body which is kept as bytes until it is rendered, to process the body without decoding it.
+	 *
+	 * @return body bytes in {@link #getCharset()} or <code>null</code> if the body is not kept as bytes
+	 */
+	@Nullable
+	default byte[] getTextBodyBytes() {
+		return null;
+	}
+
+	/**
+	 * Return parameters of a form body.
+	 *
+	 * @return form parameters
+	 */
+	@Nonnull
+	default List<Param> getFormBody() {
+		throw new ClassCastException("Cannot return form body for body type: " + getType().name());
+	}
+
+	/**
+	 * Return parts of a multipart body.
+	 *
+	 * @return body parts
+	 */
+	@Nonnull
+	default List<HttpPartFormatter> getMultipartBody() {
+		throw new ClassCastException("Cannot return multipart body for body type: " + getType().name());
+	}
+
+	@Nonnull
+	default String formatHeaders() {
+		return HttpFormatUtils.formatHeaders(getHeaders(), null);
+	}
+
+	@Nonnull
+	default String formatCookies() {
+		return HttpFormatUtils.formatCookies(getCookies(), null);
+	}
+
+	@Nonnull
+	default List<Header> getHeaders() {
+		return Collections.emptyList();
+	}
+
+	@Nonnull
+	default List<Cookie> getCookies() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Return HTTP method of the request, for responses it is the method of the corresponding request if it is known.
+	 *
+	 * @return HTTP method or <code>null</code> if unknown
+	 */
+	@Nullable
+	default String getMethod() {
+		return null;
+	}
+
+	/**
+	 * Return URI of the request, for responses it is the URI of the corresponding request if it is known.
+	 *
+	 * @return request URI or <code>null</code> if unknown
+	 */
+	@Nullable
+	default String getUri() {
+		return null;
+	}
+
+	/**
+	 * Return HTTP status code of the response.
+	 *
+	 * @return status code or -1 for requests
+	 */
+	default int getStatusCode() {
+		return -1;
+	}
+
+	/**
+	 * Return approximate size of the body in characters (for text bodies) or bytes (for binary bodies). The value is calculated
+	 * without any formatting, so it can be used to make decisions before formatting happens.
+	 *
+	 * @return body size or 0 if there is no body
+	 */
+	default long getBodySize() {
+		return 0;
+	}
 }
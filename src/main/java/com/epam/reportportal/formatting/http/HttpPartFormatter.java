@@ -41,6 +41,13 @@ public class HttpPartFormatter {
 	private Function<Header, String> headerConverter;
 	private Map<String, Function<String, String>> prettifiers;
 
+	/**
+	 * Create a part formatter.
+	 *
+	 * @param type     part type
+	 * @param mimeType part MIME type
+	 * @param payload  <code>byte[]</code> for a binary part, {@link String} or <code>byte[]</code> in the part charset for a text part
+	 */
 	public HttpPartFormatter(@Nonnull PartType type, @Nonnull String mimeType, @Nonnull Object payload) {
 		this.type = type;
 		this.payload = payload;
@@ -52,13 +59,33 @@ public class HttpPartFormatter {
 		return HttpFormatUtils.formatHeaders(headers, headerConverter);
 	}
 
+	/**
+	 * Get the text of a text part. A text payload kept as bytes is decoded with the part charset on each call and not cached.
+	 *
+	 * @return part text
+	 */
 	public String getTextPayload() {
 		if (PartType.TEXT == type) {
+			if (payload instanceof byte[]) {
+				return HttpFormatUtils.decodeText((byte[]) payload, charset == null ? null : HttpFormatUtils.toCharset(charset));
+			}
 			return (String) payload;
 		}
 		throw new ClassCastException("Cannot return text for payload type: " + type.name());
 	}
 
+	/**
+	 * Get the size of a text part payload without decoding it: byte length for a payload kept as bytes, character number otherwise.
+	 *
+	 * @return payload size
+	 */
+	public long getTextPayloadSize() {
+		if (PartType.TEXT == type) {
+			return payload instanceof byte[] ? ((byte[]) payload).length : ((String) payload).length();
+		}
+		throw new ClassCastException("Cannot return text for payload type: " + type.name());
+	}
+
 	public byte[] getBinaryPayload() {
 		if (PartType.BINARY == type) {
 			return (byte[]) payload;
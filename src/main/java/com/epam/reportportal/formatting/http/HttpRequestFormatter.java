@@ -28,6 +28,7 @@ import com.epam.reportportal.utils.http.ContentType;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.nio.charset.Charset;
 import java.util.*;
 import java.util.function.Function;
 
@@ -44,11 +45,13 @@ public class HttpRequestFormatter implements HttpFormatter {
 	private Function<Cookie, String> cookieConverter;
 	private Function<Param, String> paramConverter;
 	private Map<String, Function<String, String>> prettifiers;
+	private PrettifierCircuitBreaker prettifierBreaker;
 
 	private List<Header> headers;
 	private List<Cookie> cookies;
 
 	private String mimeType;
+	private Charset charset;
 	private BodyType type = BodyType.NONE;
 
 	private Object body;
@@ -64,6 +67,18 @@ public class HttpRequestFormatter implements HttpFormatter {
 		return REQUEST_TAG + LINE_DELIMITER + String.format("%s to %s", method, uriConverter.apply(uri));
 	}
 
+	@Override
+	@Nonnull
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	@Nonnull
+	public String getUri() {
+		return uri;
+	}
+
 	@Nonnull
 	public String formatHeaders() {
 		return HttpFormatUtils.formatHeaders(headers, headerConverter);
@@ -86,7 +101,12 @@ public class HttpRequestFormatter implements HttpFormatter {
 		if (BodyType.FORM == type) {
 			return HttpFormatUtils.formatText(formatHead(), getFormBody(), BODY_FORM_TAG, paramConverter);
 		}
-		return HttpFormatUtils.formatText(formatHead(), getTextBody(), BODY_TAG, prettifiers, mimeType);
+		String body = getTextBody();
+		if (prettifierBreaker == null || body == null || body.isEmpty()) {
+			return HttpFormatUtils.formatText(formatHead(), body, BODY_TAG, prettifiers, mimeType);
+		}
+		String text = prettifierBreaker.prettify(method + " " + HttpFormatUtils.getUriPath(uri), body, prettifiers, mimeType);
+		return HttpFormatUtils.formatText(formatHead(), text, BODY_TAG, null, mimeType);
 	}
 
 	public void setUriConverter(@Nonnull Function<String, String> uriConverter) {
@@ -105,10 +125,22 @@ public class HttpRequestFormatter implements HttpFormatter {
 		this.paramConverter = paramConverter;
 	}
 
+	@Override
+	@Nonnull
+	public List<Header> getHeaders() {
+		return ofNullable(headers).orElse(Collections.emptyList());
+	}
+
 	public void setHeaders(@Nonnull List<Header> requestHeaders) {
 		headers = requestHeaders;
 	}
 
+	@Override
+	@Nonnull
+	public List<Cookie> getCookies() {
+		return ofNullable(cookies).orElse(Collections.emptyList());
+	}
+
 	public void setCookies(@Nonnull List<Cookie> cookies) {
 		this.cookies = cookies;
 	}
@@ -123,6 +155,16 @@ public class HttpRequestFormatter implements HttpFormatter {
 		this.mimeType = mimeType;
 	}
 
+	public void setCharset(@Nullable Charset charset) {
+		this.charset = charset;
+	}
+
+	@Override
+	@Nullable
+	public Charset getCharset() {
+		return charset;
+	}
+
 	public void setType(@Nonnull BodyType type) {
 		this.type = type;
 	}
@@ -140,14 +182,28 @@ public class HttpRequestFormatter implements HttpFormatter {
 		this.body = body;
 	}
 
+	@Override
+	@Nonnull
 	public String getTextBody() {
 		if (BodyType.TEXT == type) {
-			return (String) body;
+			if (!(body instanceof byte[])) {
+				return (String) body;
+			}
+			// not cached: the formatter keeps only the bytes, the text lives as long as it is rendered
+			return HttpFormatUtils.decodeText((byte[]) body, charset);
 		}
 		throw new ClassCastException("Cannot return text body for body type: " + type.name());
 
 	}
 
+	@Override
+	@Nullable
+	public byte[] getTextBodyBytes() {
+		return BodyType.TEXT == type && body instanceof byte[] ? (byte[]) body : null;
+	}
+
+	@Override
+	@Nonnull
 	@SuppressWarnings("unchecked")
 	public List<Param> getFormBody() {
 		if (BodyType.FORM == type) {
@@ -166,6 +222,13 @@ public class HttpRequestFormatter implements HttpFormatter {
 		throw new ClassCastException("Cannot return binary body for body type: " + type.name());
 	}
 
+	@Override
+	public long getBodySize() {
+		return HttpFormatUtils.getBodySize(type, body);
+	}
+
+	@Override
+	@Nonnull
 	@SuppressWarnings("unchecked")
 	public List<HttpPartFormatter> getMultipartBody() {
 		Objects.requireNonNull(body);
@@ -179,6 +242,15 @@ public class HttpRequestFormatter implements HttpFormatter {
 		this.prettifiers = prettifiers;
 	}
 
+	/**
+	 * Set circuit breaker to stop prettifying bodies of endpoints where prettification is consistently slow or fails.
+	 *
+	 * @param prettifierBreaker circuit breaker or <code>null</code> to always prettify bodies
+	 */
+	public void setPrettifierBreaker(@Nullable PrettifierCircuitBreaker prettifierBreaker) {
+		this.prettifierBreaker = prettifierBreaker;
+	}
+
 	public static class Builder {
 		private final String method;
 		private final String uri;
@@ -192,10 +264,13 @@ public class HttpRequestFormatter implements HttpFormatter {
 
 		private BodyType type;
 		private String mimeType;
+		private Charset charset;
 
 		private Object body;
 
 		private Map<String, Function<String, String>> prettifiers;
+		private PrettifierCircuitBreaker prettifierBreaker;
+		private BodySniffer bodySniffer;
 
 		public Builder(@Nonnull String requestMethod, @Nonnull String requestUri) {
 			method = requestMethod;
@@ -264,6 +339,34 @@ public class HttpRequestFormatter implements HttpFormatter {
 			return this;
 		}
 
+		/**
+		 * Set a text body which is kept as bytes and decoded only when it is rendered, so bodies which are filtered out, sampled or
+		 * logged without body are never decoded.
+		 *
+		 * @param mimeType body MIME type
+		 * @param payload  body bytes
+		 * @param charset  body charset
+		 * @return the builder instance
+		 */
+		public Builder bodyTextBytes(String mimeType, byte[] payload, Charset charset) {
+			type = BodyType.TEXT;
+			this.mimeType = mimeType;
+			this.charset = charset;
+			body = payload;
+			return this;
+		}
+
+		/**
+		 * Set a text body which is kept as bytes and decoded only when it is rendered, the charset is taken from the content type.
+		 *
+		 * @param contentType <code>Content-Type</code> header value
+		 * @param payload     body bytes
+		 * @return the builder instance
+		 */
+		public Builder bodyTextBytes(String contentType, byte[] payload) {
+			return bodyTextBytes(HttpFormatUtils.getMimeType(contentType), payload, HttpFormatUtils.getCharset(contentType));
+		}
+
 		public Builder bodyBytes(String mimeType, byte[] payload) {
 			type = BodyType.BINARY;
 			this.mimeType = mimeType;
@@ -308,6 +411,22 @@ public class HttpRequestFormatter implements HttpFormatter {
 			return this;
 		}
 
+		public Builder prettifierBreaker(PrettifierCircuitBreaker breaker) {
+			this.prettifierBreaker = breaker;
+			return this;
+		}
+
+		/**
+		 * Set body sniffer to log textual binary bodies, e.g. with <code>application/octet-stream</code> content type, as text.
+		 *
+		 * @param sniffer body sniffer
+		 * @return the builder instance
+		 */
+		public Builder bodySniffer(BodySniffer sniffer) {
+			this.bodySniffer = sniffer;
+			return this;
+		}
+
 		public HttpRequestFormatter build() {
 			HttpRequestFormatter result = new HttpRequestFormatter(method, uri);
 			result.setUriConverter(ofNullable(uriConverter).orElse(DefaultUriConverter.INSTANCE));
@@ -315,11 +434,19 @@ public class HttpRequestFormatter implements HttpFormatter {
 			result.setCookieConverter(ofNullable(cookieConverter).orElse(DefaultCookieConverter.INSTANCE));
 			result.setParamConverter(ofNullable(paramConverter).orElse(DefaultFormParamConverter.INSTANCE));
 			result.setPrettifiers(ofNullable(prettifiers).orElse(DEFAULT_PRETTIFIERS));
+			result.setPrettifierBreaker(prettifierBreaker);
 			result.setHeaders(headers);
 			result.setCookies(cookies);
-			if (body != null) {
+			if (body != null && type == BodyType.BINARY && bodySniffer != null) {
+				BodySniffer.Result sniffed = bodySniffer.sniff(method + " " + HttpFormatUtils.getUriPath(uri), mimeType, (byte[]) body);
+				result.setType(sniffed.getType());
+				result.setMimeType(sniffed.getMimeType());
+				result.setCharset(sniffed.getCharset());
+				result.setBody(body);
+			} else if (body != null) {
 				result.setType(type);
 				result.setMimeType(mimeType);
+				result.setCharset(type == BodyType.TEXT && body instanceof byte[] ? charset : null);
 				result.setBody(body);
 			} else {
 				result.setType(BodyType.NONE);
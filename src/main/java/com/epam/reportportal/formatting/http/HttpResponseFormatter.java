@@ -24,9 +24,12 @@ import com.epam.reportportal.formatting.http.entities.Header;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import static com.epam.reportportal.formatting.http.Constants.*;
@@ -38,9 +41,14 @@ public class HttpResponseFormatter implements HttpFormatter {
 	private final int code;
 	private final String phrase;
 
+	private String method;
+	private String uri;
+
 	private Function<Header, String> headerConverter;
 	private Function<Cookie, String> cookieConverter;
 	private Map<String, Function<String, String>> prettifiers;
+	private BodyDiffer bodyDiffer;
+	private PrettifierCircuitBreaker prettifierBreaker;
 
 	private List<Header> headers;
 	private List<Cookie> cookies;
@@ -48,6 +56,7 @@ public class HttpResponseFormatter implements HttpFormatter {
 	private BodyType type = BodyType.NONE;
 
 	private String mimeType;
+	private Charset charset;
 	private Object body;
 
 	public HttpResponseFormatter(int statusCode, @Nullable String reasonPhrase) {
@@ -62,6 +71,36 @@ public class HttpResponseFormatter implements HttpFormatter {
 		return RESPONSE_TAG + LINE_DELIMITER + text;
 	}
 
+	@Override
+	public int getStatusCode() {
+		return code;
+	}
+
+	@Nullable
+	public String getReasonPhrase() {
+		return phrase;
+	}
+
+	@Override
+	@Nullable
+	public String getMethod() {
+		return method;
+	}
+
+	public void setMethod(@Nullable String method) {
+		this.method = method;
+	}
+
+	@Override
+	@Nullable
+	public String getUri() {
+		return uri;
+	}
+
+	public void setUri(@Nullable String uri) {
+		this.uri = uri;
+	}
+
 	@Nonnull
 	public String formatHeaders() {
 		return HttpFormatUtils.formatHeaders(headers, headerConverter);
@@ -92,6 +131,16 @@ public class HttpResponseFormatter implements HttpFormatter {
 		this.mimeType = mimeType;
 	}
 
+	public void setCharset(@Nullable Charset charset) {
+		this.charset = charset;
+	}
+
+	@Override
+	@Nullable
+	public Charset getCharset() {
+		return charset;
+	}
+
 	@Override
 	@Nullable
 	public String getMimeType() {
@@ -105,7 +154,22 @@ public class HttpResponseFormatter implements HttpFormatter {
 	@Override
 	@Nonnull
 	public String formatAsText() {
-		return HttpFormatUtils.formatText(formatHead(), getTextBody(), BODY_TAG, prettifiers, mimeType);
+		boolean diff = bodyDiffer != null && method != null && uri != null;
+		String body = getTextBody();
+		if ((!diff && prettifierBreaker == null) || body == null || body.isEmpty()) {
+			return HttpFormatUtils.formatText(formatHead(), body, BODY_TAG, prettifiers, mimeType);
+		}
+		String text = prettifierBreaker == null ?
+				HttpFormatUtils.prettify(body, prettifiers, mimeType) :
+				prettifierBreaker.prettify(method == null ? null : method + " " + HttpFormatUtils.getUriPath(uri), body, prettifiers, mimeType);
+		if (!diff) {
+			return HttpFormatUtils.formatText(formatHead(), text, BODY_TAG, null, mimeType);
+		}
+		String bodyDiff = bodyDiffer.diff(method + " " + uri, text);
+		if (bodyDiff == null) {
+			return HttpFormatUtils.formatText(formatHead(), text, BODY_TAG, null, mimeType);
+		}
+		return HttpFormatUtils.formatText(formatHead(), bodyDiff, BODY_DIFF_TAG, null, mimeType);
 	}
 
 	public void setHeaderConverter(Function<Header, String> headerConverter) {
@@ -116,22 +180,46 @@ public class HttpResponseFormatter implements HttpFormatter {
 		this.cookieConverter = cookieConverter;
 	}
 
+	@Override
+	@Nonnull
+	public List<Header> getHeaders() {
+		return ofNullable(headers).orElse(Collections.emptyList());
+	}
+
 	public void setHeaders(List<Header> headers) {
 		this.headers = headers;
 	}
 
+	@Override
+	@Nonnull
+	public List<Cookie> getCookies() {
+		return ofNullable(cookies).orElse(Collections.emptyList());
+	}
+
 	public void setCookies(List<Cookie> cookies) {
 		this.cookies = cookies;
 	}
 
+	@Override
+	@Nonnull
 	public String getTextBody() {
 		if (BodyType.TEXT == type) {
-			return (String) body;
+			if (!(body instanceof byte[])) {
+				return (String) body;
+			}
+			// not cached: the formatter keeps only the bytes, the text lives as long as it is rendered
+			return HttpFormatUtils.decodeText((byte[]) body, charset);
 		}
 		throw new ClassCastException("Cannot return text body for body type: " + type.name());
 
 	}
 
+	@Override
+	@Nullable
+	public byte[] getTextBodyBytes() {
+		return BodyType.TEXT == type && body instanceof byte[] ? (byte[]) body : null;
+	}
+
 	@Override
 	@Nonnull
 	public byte[] getBinaryBody() {
@@ -141,14 +229,52 @@ public class HttpResponseFormatter implements HttpFormatter {
 		throw new ClassCastException("Cannot return binary body for body type: " + type.name());
 	}
 
+	@Override
+	public long getBodySize() {
+		return HttpFormatUtils.getBodySize(type, body);
+	}
+
+	@Override
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	public List<HttpPartFormatter> getMultipartBody() {
+		Objects.requireNonNull(body);
+		if (BodyType.MULTIPART == type) {
+			return (List<HttpPartFormatter>) body;
+		}
+		throw new ClassCastException("Cannot return multipart body for body type: " + type.name());
+	}
+
 	public void setPrettifiers(Map<String, Function<String, String>> prettifiers) {
 		this.prettifiers = prettifiers;
 	}
 
+	/**
+	 * Set body differ to log only changes of the body comparing to the previous response of the same request method and URI. Since
+	 * the differ remembers every formatted body, {@link #formatAsText()} should be called only once per response.
+	 *
+	 * @param bodyDiffer body differ or <code>null</code> to log full body
+	 */
+	public void setBodyDiffer(@Nullable BodyDiffer bodyDiffer) {
+		this.bodyDiffer = bodyDiffer;
+	}
+
+	/**
+	 * Set circuit breaker to stop prettifying bodies of endpoints where prettification is consistently slow or fails.
+	 *
+	 * @param prettifierBreaker circuit breaker or <code>null</code> to always prettify bodies
+	 */
+	public void setPrettifierBreaker(@Nullable PrettifierCircuitBreaker prettifierBreaker) {
+		this.prettifierBreaker = prettifierBreaker;
+	}
+
 	public static class Builder {
 		private final int code;
 		private final String phrase;
 
+		private String method;
+		private String uri;
+
 		private Function<Header, String> headerConverter;
 		private Function<Cookie, String> cookieConverter;
 
@@ -157,16 +283,26 @@ public class HttpResponseFormatter implements HttpFormatter {
 
 		private BodyType type;
 		private String mimeType;
+		private Charset charset;
 
 		private Object body;
 
 		private Map<String, Function<String, String>> prettifiers;
+		private BodyDiffer bodyDiffer;
+		private PrettifierCircuitBreaker prettifierBreaker;
+		private BodySniffer bodySniffer;
 
 		public Builder(int statusCode, String reasonPhrase) {
 			this.code = statusCode;
 			this.phrase = reasonPhrase;
 		}
 
+		public Builder request(String requestMethod, String requestUri) {
+			method = requestMethod;
+			uri = requestUri;
+			return this;
+		}
+
 		public Builder headerConverter(Function<Header, String> headerConverter) {
 			this.headerConverter = headerConverter;
 			return this;
@@ -219,6 +355,34 @@ public class HttpResponseFormatter implements HttpFormatter {
 			return this;
 		}
 
+		/**
+		 * Set a text body which is kept as bytes and decoded only when it is rendered, so bodies which are filtered out, sampled or
+		 * logged without body are never decoded.
+		 *
+		 * @param mimeType body MIME type
+		 * @param payload  body bytes
+		 * @param charset  body charset
+		 * @return the builder instance
+		 */
+		public Builder bodyTextBytes(String mimeType, byte[] payload, Charset charset) {
+			type = BodyType.TEXT;
+			this.mimeType = mimeType;
+			this.charset = charset;
+			body = payload;
+			return this;
+		}
+
+		/**
+		 * Set a text body which is kept as bytes and decoded only when it is rendered, the charset is taken from the content type.
+		 *
+		 * @param contentType <code>Content-Type</code> header value
+		 * @param payload     body bytes
+		 * @return the builder instance
+		 */
+		public Builder bodyTextBytes(String contentType, byte[] payload) {
+			return bodyTextBytes(HttpFormatUtils.getMimeType(contentType), payload, HttpFormatUtils.getCharset(contentType));
+		}
+
 		public Builder bodyBytes(String mimeType, byte[] payload) {
 			type = BodyType.BINARY;
 			this.mimeType = mimeType;
@@ -226,21 +390,72 @@ public class HttpResponseFormatter implements HttpFormatter {
 			return this;
 		}
 
+		/**
+		 * Add a part of a multipart response body, like <code>multipart/mixed</code> batch responses. Use {@link MultipartBodyParser}
+		 * to get parts of a raw multipart body.
+		 *
+		 * @param part body part
+		 * @return the builder instance
+		 */
+		@SuppressWarnings("unchecked")
+		public Builder addBodyPart(HttpPartFormatter part) {
+			if (body != null && type == BodyType.MULTIPART) {
+				((List<HttpPartFormatter>) body).add(part);
+			} else {
+				type = BodyType.MULTIPART;
+				body = new ArrayList<>(Collections.singleton(part));
+			}
+			return this;
+		}
+
 		public Builder prettifiers(Map<String, Function<String, String>> formatPrettifiers) {
 			this.prettifiers = formatPrettifiers;
 			return this;
 		}
 
+		public Builder bodyDiffer(BodyDiffer differ) {
+			this.bodyDiffer = differ;
+			return this;
+		}
+
+		public Builder prettifierBreaker(PrettifierCircuitBreaker breaker) {
+			this.prettifierBreaker = breaker;
+			return this;
+		}
+
+		/**
+		 * Set body sniffer to log textual binary bodies, e.g. with <code>application/octet-stream</code> content type, as text.
+		 *
+		 * @param sniffer body sniffer
+		 * @return the builder instance
+		 */
+		public Builder bodySniffer(BodySniffer sniffer) {
+			this.bodySniffer = sniffer;
+			return this;
+		}
+
 		public HttpResponseFormatter build() {
 			HttpResponseFormatter result = new HttpResponseFormatter(code, phrase);
+			result.setMethod(method);
+			result.setUri(uri);
 			result.setHeaderConverter(ofNullable(headerConverter).orElse(DefaultHttpHeaderConverter.INSTANCE));
 			result.setCookieConverter(ofNullable(cookieConverter).orElse(DefaultCookieConverter.INSTANCE));
 			result.setPrettifiers(ofNullable(prettifiers).orElse(DEFAULT_PRETTIFIERS));
+			result.setBodyDiffer(bodyDiffer);
+			result.setPrettifierBreaker(prettifierBreaker);
 			result.setHeaders(headers);
 			result.setCookies(cookies);
-			if (body != null) {
+			if (body != null && type == BodyType.BINARY && bodySniffer != null) {
+				String endpointKey = method == null ? null : method + " " + HttpFormatUtils.getUriPath(uri);
+				BodySniffer.Result sniffed = bodySniffer.sniff(endpointKey, mimeType, (byte[]) body);
+				result.setType(sniffed.getType());
+				result.setMimeType(sniffed.getMimeType());
+				result.setCharset(sniffed.getCharset());
+				result.setBody(body);
+			} else if (body != null) {
 				result.setType(type);
 				result.setMimeType(mimeType);
+				result.setCharset(type == BodyType.TEXT && body instanceof byte[] ? charset : null);
 				result.setBody(body);
 			} else {
 				result.setType(BodyType.NONE);
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.prettifiers.ContentSniffer;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Incremental formatter of streaming response bodies: Server-Sent Events (<code>text/event-stream</code>) and chunked or long-poll
+ * bodies, which are never available as a whole.
+ * <p>
+ * Events and chunks are formatted as they arrive and collected into a batch, which is sent as one log entry when it exceeds the byte
+ * budget or when an event arrives after the time window of the batch is over. Event payloads which look like JSON and chunks of known
+ * content types are prettified with the prettifier map. {@link #finish()} sends the rest of the batch and a summary with the event
+ * count, bytes and duration of the stream. Only the current batch is kept in memory.
+ * <p>
+ * The formatter doesn't start any threads. Methods are synchronized, so events can be added from a client callback thread, but logs
+ * are sent only from the thread which created the formatter, since Report Portal logging context and deferred log buffers are bound
+ * to the test thread. Batches completed in other threads are sent on the next call from the creating thread, usually
+ * {@link #flush()} or {@link #finish()}, which should be called from the test thread.
+ */
+public class HttpStreamFormatter {
+	public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(5);
+	public static final long DEFAULT_MAX_BATCH_SIZE = 64 * 1024;
+	public static final String BATCH_TITLE_PATTERN = "**Stream events %d-%d**";
+	public static final String SUMMARY_PATTERN = "Stream finished: %d events, %d bytes in %d ms";
+
+	private final String mimeType;
+	private final Charset charset;
+	private final Map<String, Function<String, String>> prettifiers;
+	private final LogBatcher batcher;
+	private final CharsetDecoder decoder;
+	private byte[] undecoded;
+
+	private HttpStreamFormatter(@Nullable String requestLine, @Nullable String streamMimeType, @Nonnull Charset streamCharset,
+			@Nonnull Map<String, Function<String, String>> prettifierMap, @Nonnull Duration batchWindow, long maxBatchBytes,
+			@Nonnull BiConsumer<String, Instant> consumer) {
+		mimeType = streamMimeType;
+		charset = streamCharset;
+		prettifiers = prettifierMap;
+		batcher = new LogBatcher(BATCH_TITLE_PATTERN, requestLine, batchWindow, maxBatchBytes, consumer);
+		decoder = streamCharset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	/**
+	 * Add a single Server-Sent Event in its wire format: <code>id</code>, <code>event</code> and <code>data</code> fields, one per
+	 * line. Multiple <code>data</code> lines are joined with line breaks, comments and other fields are ignored.
+	 *
+	 * @param rawEvent event text without the trailing blank line
+	 */
+	public synchronized void addEvent(@Nonnull String rawEvent) {
+		String id = null;
+		String name = null;
+		StringBuilder data = null;
+		for (String line : rawEvent.split("\r?\n|\r")) {
+			if (line.isEmpty() || line.startsWith(":")) {
+				continue;
+			}
+			int colon = line.indexOf(':');
+			String field = colon < 0 ? line : line.substring(0, colon);
+			String value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+			switch (field) {
+				case "id":
+					id = value;
+					break;
+				case "event":
+					name = value;
+					break;
+				case "data":
+					data = data == null ? new StringBuilder(value) : data.append(LINE_DELIMITER).append(value);
+					break;
+				default:
+			}
+		}
+		add(describe("event", name, id), prettifyData(data == null ? "" : data.toString()), rawEvent.getBytes(charset).length);
+	}
+
+	/**
+	 * Add a parsed Server-Sent Event.
+	 *
+	 * @param id   event ID
+	 * @param name event type
+	 * @param data event data
+	 */
+	public synchronized void addEvent(@Nullable String id, @Nullable String name, @Nonnull String data) {
+		add(describe("event", name, id), prettifyData(data), data.getBytes(charset).length);
+	}
+
+	/**
+	 * Add a text chunk of a chunked or long-poll body.
+	 *
+	 * @param chunk chunk text
+	 */
+	public synchronized void addChunk(@Nonnull String chunk) {
+		add(describe("chunk", null, null), prettifyChunk(chunk), chunk.getBytes(charset).length);
+	}
+
+	/**
+	 * Add a chunk of a chunked or long-poll body, it's decoded with the stream charset. A character split between chunks is decoded
+	 * with the next chunk.
+	 *
+	 * @param chunk chunk bytes
+	 */
+	public synchronized void addChunk(@Nonnull byte[] chunk) {
+		add(describe("chunk", null, null), prettifyChunk(decode(chunk, false)), chunk.length);
+	}
+
+	/**
+	 * Send the current batch and batches completed by other threads, should be called from the thread which created the formatter.
+	 */
+	public synchronized void flush() {
+		batcher.sendAll();
+	}
+
+	/**
+	 * Send the current batch and the stream summary, events added after that are ignored. Should be called from the thread which
+	 * created the formatter.
+	 */
+	public synchronized void finish() {
+		if (undecoded != null) {
+			// the stream ended in the middle of a character
+			add(describe("chunk", null, null), decode(new byte[0], true), 0);
+		}
+		batcher.finish(SUMMARY_PATTERN);
+	}
+
+	/**
+	 * @return number of events and chunks added
+	 */
+	public synchronized long getEventCount() {
+		return batcher.getCount();
+	}
+
+	/**
+	 * @return size of added events and chunks in bytes
+	 */
+	public synchronized long getByteCount() {
+		return batcher.getBytes();
+	}
+
+	@Nonnull
+	private String describe(@Nonnull String kind, @Nullable String name, @Nullable String id) {
+		return HttpFormatUtils.joinParts(" ", batcher.nextEntryPrefix(kind), name, id == null ? null : "id: " + id);
+	}
+
+	@Nonnull
+	private String decode(@Nonnull byte[] chunk, boolean endOfInput) {
+		ByteBuffer input;
+		if (undecoded == null) {
+			input = ByteBuffer.wrap(chunk);
+		} else {
+			input = ByteBuffer.allocate(undecoded.length + chunk.length).put(undecoded).put(chunk);
+			input.flip();
+		}
+		CharBuffer output = CharBuffer.allocate((int) (input.remaining() * (double) decoder.maxCharsPerByte()) + 1);
+		decoder.decode(input, output, endOfInput);
+		if (endOfInput) {
+			decoder.flush(output);
+			decoder.reset();
+		}
+		if (input.hasRemaining()) {
+			undecoded = new byte[input.remaining()];
+			input.get(undecoded);
+		} else {
+			undecoded = null;
+		}
+		output.flip();
+		return output.toString();
+	}
+
+	@Nonnull
+	private String prettifyData(@Nonnull String data) {
+		if (!ContentSniffer.isJsonLike(data)) {
+			return data;
+		}
+		return HttpFormatUtils.prettify(data, prettifiers, ContentType.APPLICATION_JSON);
+	}
+
+	@Nonnull
+	private String prettifyChunk(@Nonnull String chunk) {
+		return HttpFormatUtils.prettify(chunk, prettifiers, mimeType);
+	}
+
+	private void add(@Nonnull String description, @Nonnull String text, long size) {
+		batcher.add(text.isEmpty() ? description : description + LINE_DELIMITER + text, size);
+	}
+
+	public static class Builder {
+		private String method;
+		private String uri;
+		private String mimeType;
+		private Charset charset = StandardCharsets.UTF_8;
+		private Map<String, Function<String, String>> prettifiers;
+		private Duration window = DEFAULT_WINDOW;
+		private long maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+		/**
+		 * Set the request of the stream, it's added to batch titles.
+		 *
+		 * @param requestMethod request method
+		 * @param requestUri    request URI
+		 * @return the builder instance
+		 */
+		public Builder request(@Nullable String requestMethod, @Nullable String requestUri) {
+			method = requestMethod;
+			uri = requestUri;
+			return this;
+		}
+
+		/**
+		 * Set the content type of the stream, it's used to select the prettifier for chunks and the charset.
+		 *
+		 * @param contentType content type header value
+		 * @return the builder instance
+		 */
+		public Builder contentType(@Nullable String contentType) {
+			mimeType = HttpFormatUtils.getMimeType(contentType);
+			charset = HttpFormatUtils.getCharset(contentType);
+			return this;
+		}
+
+		public Builder prettifiers(@Nullable Map<String, Function<String, String>> formatPrettifiers) {
+			prettifiers = formatPrettifiers;
+			return this;
+		}
+
+		/**
+		 * Set the time window of a batch, a batch is sent when the first event after its window arrives.
+		 *
+		 * @param batchWindow window duration
+		 * @return the builder instance
+		 */
+		public Builder window(@Nonnull Duration batchWindow) {
+			window = batchWindow;
+			return this;
+		}
+
+		/**
+		 * Set the byte budget of a batch, a batch is sent as soon as its events exceed it.
+		 *
+		 * @param maxBatchBytes maximum batch size in bytes
+		 * @return the builder instance
+		 */
+		public Builder maxBatchSize(long maxBatchBytes) {
+			maxBatchSize = maxBatchBytes;
+			return this;
+		}
+
+		/**
+		 * Create the formatter which sends formatted batches to the specific consumer. Use
+		 * {@link com.epam.reportportal.formatting.AbstractHttpFormatter#startStream(Builder)} to send them to Report Portal.
+		 *
+		 * @param consumer consumer of formatted messages and their timestamps
+		 * @return the formatter instance
+		 */
+		public HttpStreamFormatter build(@Nonnull BiConsumer<String, Instant> consumer) {
+			String request = method == null && uri == null ? null : HttpFormatUtils.joinParts(" ", method, uri);
+			return new HttpStreamFormatter(
+					request,
+					mimeType,
+					charset,
+					ofNullable(prettifiers).orElse(Constants.DEFAULT_PRETTIFIERS),
+					window,
+					maxBatchSize,
+					consumer
+			);
+		}
+	}
+}
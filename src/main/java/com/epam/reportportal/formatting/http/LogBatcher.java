@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.BiConsumer;
+
+import static com.epam.reportportal.formatting.http.Constants.BODY_HIGHLIGHT;
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+
+/**
+ * Collector of formatted entries, like stream events or WebSocket frames, into batches which are sent as single log messages. A batch
+ * is sent when its size exceeds the byte budget or when an entry arrives after the time window of the batch is over. Not thread-safe.
+ * <p>
+ * Messages are passed to the consumer only in the thread which created the batcher, usually a test thread, since Report Portal
+ * logging context and deferred log buffers are bound to it. Batches completed in other threads, like client callback threads, are
+ * queued and sent on the next call from the owner thread. At most {@link #MAX_PENDING_BATCHES} batches are queued, so a socket or a
+ * stream which is never flushed by its owner doesn't hold all its frames in memory: extra batches are dropped and their number is
+ * logged with the queued ones.
+ */
+class LogBatcher {
+	static final int MAX_PENDING_BATCHES = 100;
+	static final String DROPPED_PATTERN = "%d batches were dropped before the owner thread could send them";
+
+	private final String titlePattern;
+	private final String subtitle;
+	private final Duration window;
+	private final long maxBatchSize;
+	private final BiConsumer<String, Instant> messageConsumer;
+
+	private final Thread owner = Thread.currentThread();
+	private final Queue<Pair<String, Instant>> pending = new ArrayDeque<>();
+	private final Instant start = Instant.now();
+	private final StringBuilder batch = new StringBuilder();
+	private Instant batchStart;
+	private long batchSize;
+	private long batchFirst;
+	private long count;
+	private long bytes;
+	private long droppedBatches;
+	private boolean finished;
+
+	/**
+	 * @param batchTitlePattern title format with the first and the last entry numbers of a batch
+	 * @param batchSubtitle     optional second line of batch titles
+	 * @param batchWindow       time window of a batch
+	 * @param maxBatchBytes     byte budget of a batch
+	 * @param consumer          consumer of batch messages and their timestamps
+	 */
+	LogBatcher(@Nonnull String batchTitlePattern, @Nullable String batchSubtitle, @Nonnull Duration batchWindow, long maxBatchBytes,
+			@Nonnull BiConsumer<String, Instant> consumer) {
+		titlePattern = batchTitlePattern;
+		subtitle = batchSubtitle;
+		window = batchWindow;
+		maxBatchSize = maxBatchBytes;
+		messageConsumer = consumer;
+	}
+
+	/**
+	 * @param kind entry kind, like "event" or "frame"
+	 * @return prefix of the next entry: its time since the start, its kind and its number
+	 */
+	@Nonnull
+	String nextEntryPrefix(@Nonnull String kind) {
+		return "[+" + Duration.between(start, Instant.now()).toMillis() + " ms] " + kind + " " + (count + 1);
+	}
+
+	/**
+	 * Add an entry to the current batch.
+	 *
+	 * @param entry formatted entry
+	 * @param size  original entry size in bytes
+	 */
+	void add(@Nonnull String entry, long size) {
+		sendPending();
+		if (finished) {
+			return;
+		}
+		Instant now = Instant.now();
+		if (batchStart != null && !now.isBefore(batchStart.plus(window))) {
+			flush();
+		}
+		count++;
+		bytes += size;
+		if (batchStart == null) {
+			batchStart = now;
+			batchFirst = count;
+		} else {
+			batch.append(LINE_DELIMITER);
+		}
+		batch.append(entry);
+		batchSize += size;
+		if (batchSize >= maxBatchSize) {
+			flush();
+		}
+	}
+
+	private void flush() {
+		if (batchStart == null) {
+			return;
+		}
+		String title = String.format(titlePattern, batchFirst, count) + (subtitle == null ? "" : LINE_DELIMITER + subtitle);
+		String message = title + LINE_DELIMITER + BODY_HIGHLIGHT + LINE_DELIMITER + batch + LINE_DELIMITER + BODY_HIGHLIGHT;
+		send(message, batchStart);
+		batch.setLength(0);
+		batchSize = 0;
+		batchStart = null;
+	}
+
+	private void send(@Nonnull String message, @Nonnull Instant time) {
+		if (Thread.currentThread() == owner) {
+			sendPending();
+			messageConsumer.accept(message, time);
+		} else if (pending.size() < MAX_PENDING_BATCHES) {
+			pending.add(Pair.of(message, time));
+		} else {
+			droppedBatches++;
+		}
+	}
+
+	private void sendPending() {
+		if (Thread.currentThread() != owner) {
+			return;
+		}
+		Pair<String, Instant> message;
+		while ((message = pending.poll()) != null) {
+			messageConsumer.accept(message.getKey(), message.getValue());
+		}
+		if (droppedBatches > 0) {
+			messageConsumer.accept(String.format(DROPPED_PATTERN, droppedBatches), Instant.now());
+			droppedBatches = 0;
+		}
+	}
+
+	/**
+	 * Send the current batch and batches queued by other threads, if called from the owner thread.
+	 */
+	void sendAll() {
+		flush();
+		sendPending();
+	}
+
+	/**
+	 * Send the current batch and the summary, entries added after that are ignored.
+	 *
+	 * @param summaryPattern summary format with the entry count, the byte count and the duration in milliseconds
+	 */
+	void finish(@Nonnull String summaryPattern) {
+		if (finished) {
+			sendPending();
+			return;
+		}
+		finished = true;
+		flush();
+		Instant now = Instant.now();
+		send(String.format(summaryPattern, count, bytes, Duration.between(start, now).toMillis()), now);
+	}
+
+	long getCount() {
+		return count;
+	}
+
+	long getBytes() {
+		return bytes;
+	}
+}
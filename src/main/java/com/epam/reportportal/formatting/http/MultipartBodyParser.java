@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.converters.DefaultHttpHeaderConverter;
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import com.epam.reportportal.formatting.http.entities.Header;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Streaming parser of raw multipart bodies into {@link HttpPartFormatter}s.
+ * <p>
+ * The body is read through a fixed-size buffer and part delimiters are searched with Boyer-Moore-Horspool algorithm, part content is
+ * copied only up to the part size limit, so memory usage is bounded by the limits regardless of the body size. Parts over the limit
+ * are truncated at a character boundary, text parts get <code>&hellip;(+K bytes)</code> suffix. Parts over the count limit or with
+ * headers longer than {@link #DEFAULT_MAX_HEADERS_SIZE} are skipped and described with a summary text part:
+ * <code>&hellip;(+N parts, M bytes)</code>.
+ * <p>
+ * Parts are logged as text if their content type is a text type in the body type map, parts without content type are considered
+ * <code>text/plain</code>.
+ */
+public class MultipartBodyParser {
+	public static final int DEFAULT_MAX_PARTS = 100;
+	public static final int DEFAULT_MAX_PART_SIZE = 1024 * 1024;
+	public static final int DEFAULT_MAX_HEADERS_SIZE = 64 * 1024;
+
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final byte[] CRLF = { '\r', '\n' };
+	private static final byte[] HEADERS_END = { '\r', '\n', '\r', '\n' };
+	private static final int[] CRLF_SHIFTS = shifts(CRLF);
+	private static final int[] HEADERS_END_SHIFTS = shifts(HEADERS_END);
+
+	public static final MultipartBodyParser INSTANCE = new Builder().build();
+
+	private final int maxParts;
+	private final int maxPartSize;
+	private final Map<String, BodyType> bodyTypeMap;
+	private final Function<Header, String> headerConverter;
+	private final Map<String, Function<String, String>> prettifiers;
+
+	private MultipartBodyParser(int maxPartNumber, int maxPartLength, @Nonnull Map<String, BodyType> typeMap,
+			@Nonnull Function<Header, String> partHeaderConverter, @Nonnull Map<String, Function<String, String>> partPrettifiers) {
+		maxParts = maxPartNumber;
+		maxPartSize = maxPartLength;
+		bodyTypeMap = typeMap;
+		headerConverter = partHeaderConverter;
+		prettifiers = partPrettifiers;
+	}
+
+	/**
+	 * Get the boundary parameter of a multipart content type.
+	 *
+	 * @param contentType <code>Content-Type</code> header value
+	 * @return boundary or <code>null</code> if there is no such parameter
+	 */
+	@Nullable
+	public static String getBoundary(@Nullable String contentType) {
+		return contentType == null ? null : getParameter(contentType, "boundary");
+	}
+
+	@Nullable
+	private static String getParameter(@Nonnull String headerValue, @Nonnull String name) {
+		for (String parameter : headerValue.split(";")) {
+			int equals = parameter.indexOf('=');
+			if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase(name)) {
+				String value = parameter.substring(equals + 1).trim();
+				if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+					value = value.substring(1, value.length() - 1);
+				}
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Boyer-Moore-Horspool shift table of a pattern.
+	 */
+	@Nonnull
+	private static int[] shifts(@Nonnull byte[] pattern) {
+		int[] result = new int[256];
+		Arrays.fill(result, pattern.length);
+		for (int i = 0; i < pattern.length - 1; i++) {
+			result[pattern[i] & 0xFF] = pattern.length - 1 - i;
+		}
+		return result;
+	}
+
+	/**
+	 * Find a pattern in the buffer range with Boyer-Moore-Horspool algorithm.
+	 *
+	 * @return position of the pattern or -1 if it's not found
+	 */
+	static int indexOf(@Nonnull byte[] buffer, int from, int to, @Nonnull byte[] pattern, @Nonnull int[] shifts) {
+		int last = pattern.length - 1;
+		int i = from;
+		while (i + last < to) {
+			int j = last;
+			while (j >= 0 && buffer[i + j] == pattern[j]) {
+				j--;
+			}
+			if (j < 0) {
+				return i;
+			}
+			i += shifts[buffer[i + last] & 0xFF];
+		}
+		return -1;
+	}
+
+	/**
+	 * Parse a multipart body.
+	 *
+	 * @param contentType <code>Content-Type</code> header value of the body with the boundary parameter
+	 * @param body        body bytes
+	 * @return body parts
+	 */
+	@Nonnull
+	public List<HttpPartFormatter> parse(@Nonnull String contentType, @Nonnull byte[] body) {
+		try {
+			return parse(contentType, new ByteArrayInputStream(body));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Parse a multipart body stream, the stream is read till the closing delimiter or its end, but not closed.
+	 *
+	 * @param contentType <code>Content-Type</code> header value of the body with the boundary parameter
+	 * @param body        body stream
+	 * @return body parts
+	 * @throws IOException if the stream can't be read
+	 */
+	@Nonnull
+	public List<HttpPartFormatter> parse(@Nonnull String contentType, @Nonnull InputStream body) throws IOException {
+		String boundary = getBoundary(contentType);
+		if (boundary == null || boundary.isEmpty()) {
+			throw new IllegalArgumentException("No boundary in multipart content type: " + contentType);
+		}
+		return new Parser(body, ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1)).parse();
+	}
+
+	/**
+	 * Single body parsing state.
+	 */
+	private class Parser {
+		private final InputStream input;
+		private final byte[] delimiter;
+		private final int[] delimiterShifts;
+		private byte[] buffer = new byte[BUFFER_SIZE];
+		private int start;
+		private int end;
+		private boolean eof;
+
+		private final List<HttpPartFormatter> parts = new ArrayList<>();
+		private long omittedParts;
+		private long omittedBytes;
+
+		private Parser(@Nonnull InputStream body, @Nonnull byte[] delimiterBytes) {
+			input = body;
+			delimiter = delimiterBytes;
+			delimiterShifts = shifts(delimiterBytes);
+			if (buffer.length < delimiter.length * 2) {
+				buffer = new byte[delimiter.length * 2];
+			}
+			// the first delimiter has no leading line break
+			buffer[end++] = '\r';
+			buffer[end++] = '\n';
+		}
+
+		/**
+		 * Read more data into the buffer, unread data is moved to the buffer start and the buffer grows if it's full.
+		 *
+		 * @return false if the stream is over
+		 */
+		private boolean fill() throws IOException {
+			if (eof) {
+				return false;
+			}
+			if (start > 0) {
+				System.arraycopy(buffer, start, buffer, 0, end - start);
+				end -= start;
+				start = 0;
+			}
+			if (end == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+			int read = input.read(buffer, end, buffer.length - end);
+			if (read < 0) {
+				eof = true;
+				return false;
+			}
+			end += read;
+			return true;
+		}
+
+		/**
+		 * Skip or copy content till the next delimiter, the delimiter is skipped too.
+		 *
+		 * @return false if the stream ended before the delimiter
+		 */
+		private boolean readTillDelimiter(@Nullable PartContent content) throws IOException {
+			while (true) {
+				int index = indexOf(buffer, start, end, delimiter, delimiterShifts);
+				if (index >= 0) {
+					if (content != null) {
+						content.write(buffer, start, index - start);
+					}
+					start = index + delimiter.length;
+					return true;
+				}
+				int safeEnd = Math.max(start, end - delimiter.length + 1);
+				if (content != null) {
+					content.write(buffer, start, safeEnd - start);
+				}
+				start = safeEnd;
+				if (!fill()) {
+					if (content != null) {
+						content.write(buffer, start, end - start);
+					}
+					start = end;
+					return false;
+				}
+			}
+		}
+
+		private boolean ensure(int length) throws IOException {
+			while (end - start < length) {
+				if (!fill()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Skip the rest of the delimiter line.
+		 *
+		 * @return false if it was the closing delimiter or the stream is over
+		 */
+		private boolean skipDelimiterLine() throws IOException {
+			if (ensure(2) && buffer[start] == '-' && buffer[start + 1] == '-') {
+				return false;
+			}
+			while (true) {
+				int index = indexOf(buffer, start, end, CRLF, CRLF_SHIFTS);
+				if (index >= 0) {
+					start = index + CRLF.length;
+					return true;
+				}
+				start = Math.max(start, end - 1);
+				if (!fill()) {
+					return false;
+				}
+			}
+		}
+
+		@Nullable
+		private String readHeaders() throws IOException {
+			if (ensure(2) && buffer[start] == '\r' && buffer[start + 1] == '\n') {
+				start += 2;
+				return "";
+			}
+			int from = start;
+			while (true) {
+				int index = indexOf(buffer, from, end, HEADERS_END, HEADERS_END_SHIFTS);
+				if (index >= 0) {
+					String headers = new String(buffer, start, index - start, StandardCharsets.UTF_8);
+					start = index + HEADERS_END.length;
+					return headers;
+				}
+				if (end - start > DEFAULT_MAX_HEADERS_SIZE) {
+					return null;
+				}
+				from = Math.max(start, end - HEADERS_END.length + 1) - start;
+				if (!fill()) {
+					return null;
+				}
+				from += start;
+			}
+		}
+
+		@Nonnull
+		private List<HttpPartFormatter> parse() throws IOException {
+			if (!readTillDelimiter(null)) {
+				return parts;
+			}
+			while (skipDelimiterLine()) {
+				String headers = readHeaders();
+				// a part with headers over the limit or cut by the stream end is summarized with its header bytes
+				boolean omitted = headers == null || parts.size() >= maxParts;
+				PartContent content = new PartContent(omitted ? 0 : maxPartSize);
+				boolean more = readTillDelimiter(content);
+				if (omitted) {
+					omittedParts++;
+					omittedBytes += content.size;
+				} else {
+					parts.add(toPart(headers, content));
+				}
+				if (!more) {
+					break;
+				}
+			}
+			if (omittedParts > 0) {
+				String summary = "\u2026(+" + omittedParts + " parts, " + omittedBytes + " bytes)";
+				parts.add(new HttpPartFormatter.Builder(HttpPartFormatter.PartType.TEXT, ContentType.TEXT_PLAIN, summary).prettifiers(
+						prettifiers).headerConverter(headerConverter).build());
+			}
+			return parts;
+		}
+
+		@Nonnull
+		private HttpPartFormatter toPart(@Nonnull String headerText, @Nonnull PartContent content) {
+			List<Header> headers = new ArrayList<>();
+			String contentType = null;
+			String disposition = null;
+			for (String line : headerText.split("\r\n")) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				int colon = line.indexOf(':');
+				Header header = colon < 0 ?
+						HttpFormatUtils.toHeader(line.trim(), "") :
+						HttpFormatUtils.toHeader(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+				headers.add(header);
+				String name = header.getName().toLowerCase(Locale.ROOT);
+				if ("content-type".equals(name)) {
+					contentType = header.getValue();
+				} else if ("content-disposition".equals(name)) {
+					disposition = header.getValue();
+				}
+			}
+			String mimeType = contentType == null ? ContentType.TEXT_PLAIN : HttpFormatUtils.getMimeType(contentType);
+			Charset charset = HttpFormatUtils.getCharset(contentType);
+			boolean text = HttpFormatUtils.getBodyType(mimeType, bodyTypeMap) == BodyType.TEXT;
+			Object payload;
+			if (text && content.truncated() > 0) {
+				ByteBuffer bytes = ByteBuffer.wrap(content.toByteArray());
+				String value = decodeTruncated(bytes, charset);
+				payload = value + "\u2026(+" + (content.truncated() + bytes.remaining()) + " bytes)";
+			} else if (text) {
+				payload = new String(content.toByteArray(), charset);
+			} else {
+				payload = content.toByteArray();
+			}
+			HttpPartFormatter.Builder builder = new HttpPartFormatter.Builder(
+					text ? HttpPartFormatter.PartType.TEXT : HttpPartFormatter.PartType.BINARY,
+					mimeType,
+					payload
+			).headers(headers).charset(charset.name()).headerConverter(headerConverter).prettifiers(prettifiers);
+			if (disposition != null) {
+				builder.controlName(getParameter(disposition, "name")).fileName(getParameter(disposition, "filename"));
+			}
+			return builder.build();
+		}
+	}
+
+	/**
+	 * Decode text cut by the part size limit, a character cut by the limit is left in the buffer.
+	 *
+	 * @param bytes   text bytes, the position is moved to the first undecoded byte
+	 * @param charset text charset
+	 * @return decoded text
+	 */
+	@Nonnull
+	private static String decodeTruncated(@Nonnull ByteBuffer bytes, @Nonnull Charset charset) {
+		CharsetDecoder decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer chars = CharBuffer.allocate((int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte()));
+		decoder.decode(bytes, chars, false);
+		return chars.flip().toString();
+	}
+
+	/**
+	 * Part content, copied up to the limit.
+	 */
+	private static class PartContent extends ByteArrayOutputStream {
+		private final int limit;
+		private long size;
+
+		private PartContent(int maxSize) {
+			super(Math.min(maxSize, 1024));
+			limit = maxSize;
+		}
+
+		@Override
+		public synchronized void write(@Nonnull byte[] bytes, int offset, int length) {
+			size += length;
+			int copied = Math.min(length, limit - count);
+			if (copied > 0) {
+				super.write(bytes, offset, copied);
+			}
+		}
+
+		private long truncated() {
+			return size - count;
+		}
+	}
+
+	public static class Builder {
+		private int maxParts = DEFAULT_MAX_PARTS;
+		private int maxPartSize = DEFAULT_MAX_PART_SIZE;
+		private Map<String, BodyType> bodyTypeMap;
+		private Function<Header, String> headerConverter;
+		private Map<String, Function<String, String>> prettifiers;
+
+		/**
+		 * Set the maximum number of parsed parts, the rest are summarized.
+		 *
+		 * @param maxPartNumber maximum number of parts
+		 * @return the builder instance
+		 */
+		public Builder maxParts(int maxPartNumber) {
+			maxParts = maxPartNumber;
+			return this;
+		}
+
+		/**
+		 * Set the maximum size of a part content, longer parts are truncated.
+		 *
+		 * @param maxPartLength maximum part size in bytes
+		 * @return the builder instance
+		 */
+		public Builder maxPartSize(int maxPartLength) {
+			maxPartSize = maxPartLength;
+			return this;
+		}
+
+		public Builder bodyTypeMap(Map<String, BodyType> typeMap) {
+			bodyTypeMap = typeMap;
+			return this;
+		}
+
+		public Builder headerConverter(Function<Header, String> converter) {
+			headerConverter = converter;
+			return this;
+		}
+
+		public Builder prettifiers(Map<String, Function<String, String>> formatPrettifiers) {
+			prettifiers = formatPrettifiers;
+			return this;
+		}
+
+		public MultipartBodyParser build() {
+			return new MultipartBodyParser(
+					maxParts,
+					maxPartSize,
+					ofNullable(bodyTypeMap).orElse(Constants.BODY_TYPE_MAP),
+					ofNullable(headerConverter).orElse(DefaultHttpHeaderConverter.INSTANCE),
+					ofNullable(prettifiers).orElse(Constants.DEFAULT_PRETTIFIERS)
+			);
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.prettifiers.Prettifier;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Keeps statistics of prettification time and failures per endpoint and content type and stops using the prettifier for the pair
+ * where it is consistently slow or fails, so such bodies are logged raw or truncated.
+ * <p>
+ * A call is considered failed if the prettifier throws an exception or if a {@link Prettifier} returns the body as is, since
+ * prettifiers return unparseable bodies unchanged. When the failure or slow call rate of the pair exceeds the threshold the circuit
+ * opens, after the open duration one trial call is allowed: if it succeeds the circuit closes, otherwise it opens again.
+ * <p>
+ * Prettifiers which mask sensitive data, like masking {@link com.epam.reportportal.formatting.http.prettifiers.JsonStreamingPrettifier}
+ * or {@link com.epam.reportportal.formatting.http.converters.SanitizingBodyConverter}, are always called without statistics, since
+ * skipping them would log unmasked data, see {@link Prettifier#isMasking()}. Chained functions are not recognized as masking, wrap such
+ * chains into a {@link Prettifier} which returns <code>true</code> from {@link Prettifier#isMasking()}.
+ * <p>
+ * Statistics are kept in a lock-striped table of LRU maps bounded by the total number of entries.
+ */
+public class PrettifierCircuitBreaker {
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+	public static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofMillis(200);
+	public static final double DEFAULT_FAILURE_RATE = 0.5;
+	public static final int DEFAULT_MIN_CALLS = 5;
+	public static final Duration DEFAULT_OPEN_DURATION = Duration.ofMinutes(1);
+
+	private static final int STRIPE_NUMBER = 16;
+
+	public enum State {
+		CLOSED,
+		OPEN,
+		HALF_OPEN
+	}
+
+	private final long slowThreshold;
+	private final double failureRate;
+	private final int minCalls;
+	private final long openDuration;
+	private final int fallbackLength;
+	private final Map<String, Stats>[] stripes;
+	private final LongAdder shortCircuited = new LongAdder();
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private PrettifierCircuitBreaker(int maxEntries, @Nonnull Duration slowCallThreshold, double failureRateThreshold,
+			int minCallNumber, @Nonnull Duration openStateDuration, int fallbackBodyLength) {
+		slowThreshold = slowCallThreshold.toNanos();
+		failureRate = failureRateThreshold;
+		minCalls = minCallNumber;
+		openDuration = openStateDuration.toNanos();
+		fallbackLength = fallbackBodyLength;
+		int stripeSize = Math.max(1, maxEntries / STRIPE_NUMBER);
+		stripes = new Map[STRIPE_NUMBER];
+		for (int i = 0; i < STRIPE_NUMBER; i++) {
+			stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Stats> eldest) {
+					return size() > stripeSize;
+				}
+			};
+		}
+	}
+
+	public PrettifierCircuitBreaker() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_SLOW_THRESHOLD, DEFAULT_FAILURE_RATE, DEFAULT_MIN_CALLS, DEFAULT_OPEN_DURATION, 0);
+	}
+
+	@Nonnull
+	private static String key(@Nullable String endpoint, @Nonnull String contentType) {
+		return endpoint == null ? contentType : endpoint + " " + contentType;
+	}
+
+	@Nonnull
+	private Map<String, Stats> stripe(@Nonnull String key) {
+		int hash = key.hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & (STRIPE_NUMBER - 1)];
+	}
+
+	/**
+	 * Prettify the body with the prettifier for its content type unless the circuit for the endpoint and the content type is open.
+	 *
+	 * @param endpoint           endpoint identifier, e.g. method and URI path, or <code>null</code> to collect statistics per
+	 *                           content type only
+	 * @param body               body to prettify
+	 * @param contentPrettifiers prettifier map
+	 * @param contentType        body content type
+	 * @return prettified, raw or truncated body
+	 */
+	@Nonnull
+	public String prettify(@Nullable String endpoint, @Nonnull String body,
+			@Nullable Map<String, Function<String, String>> contentPrettifiers, @Nullable String contentType) {
+		if (contentPrettifiers == null || contentType == null) {
+			return body;
+		}
+		Function<String, String> prettifier = contentPrettifiers.get(contentType);
+		if (prettifier == null) {
+			return body;
+		}
+		if (prettifier instanceof Prettifier && ((Prettifier) prettifier).isMasking()) {
+			return prettifier.apply(body);
+		}
+		String key = key(endpoint, contentType);
+		Map<String, Stats> stripe = stripe(key);
+		boolean trial = false;
+		synchronized (stripe) {
+			Stats stats = stripe.get(key);
+			if (stats != null && stats.state != State.CLOSED) {
+				if (stats.state == State.HALF_OPEN || System.nanoTime() - stats.openedAt < openDuration) {
+					shortCircuited.increment();
+					return fallback(body);
+				}
+				// the only trial call, others are short-circuited until it completes
+				stats.state = State.HALF_OPEN;
+				trial = true;
+			}
+		}
+
+		long start = System.nanoTime();
+		String result = null;
+		boolean failed = true;
+		try {
+			result = prettifier.apply(body);
+			failed = result == null || result == body;
+		} catch (RuntimeException e) {
+			result = null;
+		} finally {
+			// errors, like StackOverflowError, are rethrown but still recorded, so a trial call can't leave the circuit half-open
+			complete(stripe, key, trial, failed, start, System.nanoTime());
+		}
+		return result == null ? body : result;
+	}
+
+	private void complete(@Nonnull Map<String, Stats> stripe, @Nonnull String key, boolean trial, boolean failed, long start,
+			long end) {
+		boolean slow = end - start > slowThreshold;
+		synchronized (stripe) {
+			Stats stats = stripe.computeIfAbsent(key, k -> new Stats());
+			if (trial) {
+				stats.reset();
+				if (failed || slow) {
+					stats.open(end);
+				} else {
+					stats.state = State.CLOSED;
+				}
+			} else if (stats.state == State.CLOSED) {
+				stats.record(failed, slow, end);
+			}
+		}
+	}
+
+	@Nonnull
+	private String fallback(@Nonnull String body) {
+		if (fallbackLength <= 0 || body.length() <= fallbackLength) {
+			return body;
+		}
+		return body.substring(0, fallbackLength) + "\u2026(+" + (body.length() - fallbackLength) + " chars)";
+	}
+
+	/**
+	 * @param endpoint    endpoint identifier
+	 * @param contentType body content type
+	 * @return circuit state for the endpoint and the content type
+	 */
+	@Nonnull
+	public State getState(@Nullable String endpoint, @Nonnull String contentType) {
+		String key = key(endpoint, contentType);
+		Map<String, Stats> stripe = stripe(key);
+		synchronized (stripe) {
+			Stats stats = stripe.get(key);
+			return stats == null ? State.CLOSED : stats.state;
+		}
+	}
+
+	/**
+	 * @return number of bodies which were not prettified because of open circuits
+	 */
+	public long getShortCircuitCount() {
+		return shortCircuited.sum();
+	}
+
+	private class Stats {
+		private State state = State.CLOSED;
+		private long openedAt;
+		private int calls;
+		private int failures;
+		private int slowCalls;
+
+		private void reset() {
+			calls = 0;
+			failures = 0;
+			slowCalls = 0;
+		}
+
+		private void open(long time) {
+			state = State.OPEN;
+			openedAt = time;
+			reset();
+		}
+
+		private void record(boolean failed, boolean slow, long time) {
+			calls++;
+			failures += failed ? 1 : 0;
+			slowCalls += slow ? 1 : 0;
+			if (calls < minCalls) {
+				return;
+			}
+			if (failures >= calls * failureRate || slowCalls >= calls * failureRate) {
+				open(time);
+			} else if (calls >= minCalls * 4) {
+				// decay old statistics to adapt to changes of the endpoint behavior
+				calls >>= 1;
+				failures >>= 1;
+				slowCalls >>= 1;
+			}
+		}
+	}
+
+	public static class Builder {
+		private int maxEntries = DEFAULT_MAX_ENTRIES;
+		private Duration slowThreshold = DEFAULT_SLOW_THRESHOLD;
+		private double failureRate = DEFAULT_FAILURE_RATE;
+		private int minCalls = DEFAULT_MIN_CALLS;
+		private Duration openDuration = DEFAULT_OPEN_DURATION;
+		private int fallbackLength;
+
+		/**
+		 * @param maxEntryNumber maximum number of endpoint and content type pairs to keep statistics for
+		 * @return the builder instance
+		 */
+		public Builder maxEntries(int maxEntryNumber) {
+			maxEntries = maxEntryNumber;
+			return this;
+		}
+
+		/**
+		 * @param threshold prettification time above which a call is considered slow
+		 * @return the builder instance
+		 */
+		public Builder slowThreshold(@Nonnull Duration threshold) {
+			slowThreshold = threshold;
+			return this;
+		}
+
+		/**
+		 * @param rate failed or slow call rate, from 0 to 1, at which the circuit opens
+		 * @return the builder instance
+		 */
+		public Builder failureRate(double rate) {
+			failureRate = rate;
+			return this;
+		}
+
+		/**
+		 * @param callNumber minimum number of calls before the rates are checked
+		 * @return the builder instance
+		 */
+		public Builder minCalls(int callNumber) {
+			minCalls = callNumber;
+			return this;
+		}
+
+		/**
+		 * @param duration time after which an open circuit allows a trial call
+		 * @return the builder instance
+		 */
+		public Builder openDuration(@Nonnull Duration duration) {
+			openDuration = duration;
+			return this;
+		}
+
+		/**
+		 * @param bodyLength maximum length of raw bodies logged while the circuit is open, zero or negative means no truncation
+		 * @return the builder instance
+		 */
+		public Builder fallbackLength(int bodyLength) {
+			fallbackLength = bodyLength;
+			return this;
+		}
+
+		public PrettifierCircuitBreaker build() {
+			return new PrettifierCircuitBreaker(maxEntries, slowThreshold, failureRate, minCalls, openDuration, fallbackLength);
+		}
+	}
+}
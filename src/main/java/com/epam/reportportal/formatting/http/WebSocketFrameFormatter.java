@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.prettifiers.ContentSniffer;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Formatter of WebSocket frames.
+ * <p>
+ * Each frame is recorded with its direction, opcode, size and payload: text payloads are prettified with the prettifier map by the
+ * message content type or, if it's not set, when they look like JSON, binary payloads are shown as a hex dump of their first bytes.
+ * Frames are coalesced into batches, which are sent as one log entry when they exceed the byte budget or when a frame arrives after
+ * the time window of the batch is over, so a socket with thousands of frames per second produces only a few log entries.
+ * {@link #finish()} sends the rest of the batch and a summary.
+ * <p>
+ * The formatter doesn't start any threads. Methods are synchronized, so frames can be added from client I/O threads, but logs are
+ * sent only from the thread which created the formatter, since Report Portal logging context and deferred log buffers are bound to
+ * the test thread. Batches completed in other threads are sent on the next call from the creating thread, usually
+ * {@link #flush()} or {@link #finish()}, which should be called from the test thread.
+ */
+public class WebSocketFrameFormatter {
+	public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(5);
+	public static final long DEFAULT_MAX_BATCH_SIZE = 64 * 1024;
+	public static final int DEFAULT_BINARY_PREVIEW_SIZE = 64;
+	public static final String BATCH_TITLE_PATTERN = "**WebSocket frames %d-%d**";
+	public static final String SUMMARY_PATTERN = "WebSocket finished: %d frames, %d bytes in %d ms";
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final String mimeType;
+	private final Map<String, Function<String, String>> prettifiers;
+	private final int binaryPreviewSize;
+	private final LogBatcher batcher;
+	private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private final Map<Direction, Opcode> messageOpcodes = new EnumMap<>(Direction.class);
+	private final Map<Direction, byte[]> undecoded = new EnumMap<>(Direction.class);
+
+	/**
+	 * Frame direction.
+	 */
+	public enum Direction {
+		SENT(">>>"),
+		RECEIVED("<<<");
+
+		private final String marker;
+
+		Direction(@Nonnull String directionMarker) {
+			marker = directionMarker;
+		}
+
+		@Nonnull
+		public String getMarker() {
+			return marker;
+		}
+	}
+
+	/**
+	 * Frame opcode.
+	 */
+	public enum Opcode {
+		CONTINUATION,
+		TEXT,
+		BINARY,
+		CLOSE,
+		PING,
+		PONG
+	}
+
+	private WebSocketFrameFormatter(@Nullable String endpoint, @Nullable String messageMimeType,
+			@Nonnull Map<String, Function<String, String>> prettifierMap, int binaryPreviewLength, @Nonnull Duration batchWindow,
+			long maxBatchBytes, @Nonnull BiConsumer<String, Instant> consumer) {
+		mimeType = messageMimeType;
+		prettifiers = prettifierMap;
+		binaryPreviewSize = binaryPreviewLength;
+		batcher = new LogBatcher(BATCH_TITLE_PATTERN, endpoint, batchWindow, maxBatchBytes, consumer);
+	}
+
+	/**
+	 * Add a text frame.
+	 *
+	 * @param direction frame direction
+	 * @param text      frame payload
+	 */
+	public synchronized void addText(@Nonnull Direction direction, @Nonnull String text) {
+		startMessage(direction, Opcode.TEXT);
+		long size = text.getBytes(StandardCharsets.UTF_8).length;
+		add(direction, Opcode.TEXT, size, prettify(text));
+	}
+
+	/**
+	 * Add a binary frame.
+	 *
+	 * @param direction frame direction
+	 * @param data      frame payload
+	 */
+	public synchronized void addBinary(@Nonnull Direction direction, @Nonnull byte[] data) {
+		startMessage(direction, Opcode.BINARY);
+		add(direction, Opcode.BINARY, data.length, hexDump(data));
+	}
+
+	/**
+	 * Add a frame with the specific opcode, close frames are shown with their status code and reason. Continuation frames are shown
+	 * as text if they continue a text message in the same direction, a character split between frames is decoded with the frame
+	 * where it ends.
+	 *
+	 * @param direction frame direction
+	 * @param opcode    frame opcode
+	 * @param data      frame payload
+	 */
+	public synchronized void addFrame(@Nonnull Direction direction, @Nonnull Opcode opcode, @Nullable byte[] data) {
+		byte[] payload = data == null ? new byte[0] : data;
+		switch (opcode) {
+			case TEXT:
+				startMessage(direction, Opcode.TEXT);
+				addTextFragment(direction, opcode, payload);
+				break;
+			case BINARY:
+				addBinary(direction, payload);
+				break;
+			case CONTINUATION:
+				if (messageOpcodes.get(direction) == Opcode.TEXT) {
+					addTextFragment(direction, opcode, payload);
+				} else {
+					add(direction, opcode, payload.length, hexDump(payload));
+				}
+				break;
+			case CLOSE:
+				String text = "";
+				if (payload.length >= 2) {
+					int code = (payload[0] & 0xFF) << 8 | payload[1] & 0xFF;
+					String reason = new String(payload, 2, payload.length - 2, StandardCharsets.UTF_8);
+					text = HttpFormatUtils.joinParts(" ", Integer.toString(code), reason);
+				}
+				add(direction, opcode, payload.length, text);
+				break;
+			default:
+				add(direction, opcode, payload.length, hexDump(payload));
+		}
+	}
+
+	/**
+	 * Send the current batch and batches completed by other threads, should be called from the thread which created the formatter.
+	 */
+	public synchronized void flush() {
+		batcher.sendAll();
+	}
+
+	/**
+	 * Send the current batch and the summary, frames added after that are ignored. Should be called from the thread which created
+	 * the formatter.
+	 */
+	public synchronized void finish() {
+		batcher.finish(SUMMARY_PATTERN);
+	}
+
+	/**
+	 * @return number of added frames
+	 */
+	public synchronized long getFrameCount() {
+		return batcher.getCount();
+	}
+
+	/**
+	 * @return payload size of added frames in bytes
+	 */
+	public synchronized long getByteCount() {
+		return batcher.getBytes();
+	}
+
+	@Nonnull
+	private String prettify(@Nonnull String text) {
+		if (mimeType != null) {
+			return HttpFormatUtils.prettify(text, prettifiers, mimeType);
+		}
+		return ContentSniffer.isJsonLike(text) ? HttpFormatUtils.prettify(text, prettifiers, ContentType.APPLICATION_JSON) : text;
+	}
+
+	private void startMessage(@Nonnull Direction direction, @Nonnull Opcode opcode) {
+		messageOpcodes.put(direction, opcode);
+		undecoded.remove(direction);
+	}
+
+	private void addTextFragment(@Nonnull Direction direction, @Nonnull Opcode opcode, @Nonnull byte[] payload) {
+		byte[] carried = undecoded.remove(direction);
+		byte[] bytes = payload;
+		if (carried != null) {
+			bytes = Arrays.copyOf(carried, carried.length + payload.length);
+			System.arraycopy(payload, 0, bytes, carried.length, payload.length);
+		}
+		ByteBuffer input = ByteBuffer.wrap(bytes);
+		CharBuffer output = CharBuffer.allocate(bytes.length);
+		decoder.reset().decode(input, output, false);
+		if (input.hasRemaining()) {
+			undecoded.put(direction, Arrays.copyOfRange(bytes, input.position(), bytes.length));
+		}
+		add(direction, opcode, payload.length, prettify(output.flip().toString()));
+	}
+
+	@Nonnull
+	private String hexDump(@Nonnull byte[] data) {
+		int length = Math.min(data.length, binaryPreviewSize);
+		StringBuilder result = new StringBuilder(length * 3 + 16);
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				result.append(i % 16 == 0 ? LINE_DELIMITER : " ");
+			}
+			result.append(HEX_DIGITS[(data[i] & 0xFF) >>> 4]).append(HEX_DIGITS[data[i] & 0x0F]);
+		}
+		if (data.length > length) {
+			result.append("\u2026(+").append(data.length - length).append(" bytes)");
+		}
+		return result.toString();
+	}
+
+	private void add(@Nonnull Direction direction, @Nonnull Opcode opcode, long size, @Nonnull String text) {
+		String description = HttpFormatUtils.joinParts(" ",
+				batcher.nextEntryPrefix("frame"),
+				direction.getMarker(),
+				opcode.name(),
+				size + " bytes"
+		);
+		batcher.add(text.isEmpty() ? description : description + LINE_DELIMITER + text, size);
+	}
+
+	public static class Builder {
+		private String uri;
+		private String mimeType;
+		private Map<String, Function<String, String>> prettifiers;
+		private int binaryPreviewSize = DEFAULT_BINARY_PREVIEW_SIZE;
+		private Duration window = DEFAULT_WINDOW;
+		private long maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+		/**
+		 * Set the WebSocket URI, it's added to batch titles.
+		 *
+		 * @param socketUri WebSocket URI
+		 * @return the builder instance
+		 */
+		public Builder uri(@Nullable String socketUri) {
+			uri = socketUri;
+			return this;
+		}
+
+		/**
+		 * Set the content type of text messages to select their prettifier, by default JSON messages are detected by their content.
+		 *
+		 * @param contentType content type of text messages
+		 * @return the builder instance
+		 */
+		public Builder contentType(@Nullable String contentType) {
+			mimeType = HttpFormatUtils.getMimeType(contentType);
+			return this;
+		}
+
+		public Builder prettifiers(@Nullable Map<String, Function<String, String>> formatPrettifiers) {
+			prettifiers = formatPrettifiers;
+			return this;
+		}
+
+		/**
+		 * Set the number of first bytes of binary payloads shown in the hex dump.
+		 *
+		 * @param previewLength number of bytes
+		 * @return the builder instance
+		 */
+		public Builder binaryPreviewSize(int previewLength) {
+			binaryPreviewSize = previewLength;
+			return this;
+		}
+
+		/**
+		 * Set the time window of a batch, a batch is sent when the first frame after its window arrives.
+		 *
+		 * @param batchWindow window duration
+		 * @return the builder instance
+		 */
+		public Builder window(@Nonnull Duration batchWindow) {
+			window = batchWindow;
+			return this;
+		}
+
+		/**
+		 * Set the byte budget of a batch, a batch is sent as soon as payloads of its frames exceed it.
+		 *
+		 * @param maxBatchBytes maximum batch size in bytes
+		 * @return the builder instance
+		 */
+		public Builder maxBatchSize(long maxBatchBytes) {
+			maxBatchSize = maxBatchBytes;
+			return this;
+		}
+
+		/**
+		 * Create the formatter which sends formatted batches to the specific consumer. Use
+		 * {@link com.epam.reportportal.formatting.AbstractHttpFormatter#startWebSocket(Builder)} to send them to Report Portal.
+		 *
+		 * @param consumer consumer of formatted messages and their timestamps
+		 * @return the formatter instance
+		 */
+		public WebSocketFrameFormatter build(@Nonnull BiConsumer<String, Instant> consumer) {
+			return new WebSocketFrameFormatter(
+					uri,
+					mimeType,
+					ofNullable(prettifiers).orElse(Constants.DEFAULT_PRETTIFIERS),
+					binaryPreviewSize,
+					window,
+					maxBatchSize,
+					consumer
+			);
+		}
+	}
+}
@@ -30,8 +30,26 @@ public class DefaultHttpHeaderConverter implements Function<Header, String> {
 	private DefaultHttpHeaderConverter() {
 	}
 
+	/**
+	 * Escape asterisks in a single pass, values without asterisks are returned as is.
+	 */
+	private static String escapeAsterisks(String value) {
+		int index = value.indexOf('*');
+		if (index < 0) {
+			return value;
+		}
+		StringBuilder result = new StringBuilder(value.length() + 8);
+		int start = 0;
+		do {
+			result.append(value, start, index).append("\\*");
+			start = index + 1;
+			index = value.indexOf('*', start);
+		} while (index >= 0);
+		return result.append(value, start, value.length()).toString();
+	}
+
 	@Override
 	public @Nullable String apply(@Nullable Header header) {
-		return ofNullable(header).map(h -> h.getName() + ": " + h.getValue().replace("*", "\\*")).orElse(null);
+		return ofNullable(header).map(h -> h.getName() + ": " + escapeAsterisks(h.getValue())).orElse(null);
 	}
 }
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.converters;
+
+import com.epam.reportportal.formatting.http.prettifiers.Prettifier;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converter which masks secrets in arbitrary text bodies, like <code>text/plain</code> or HTML, which have no structured
+ * prettifier. Can be used as a content prettifier itself or after another prettifier: <code>prettifier.andThen(converter)</code>.
+ * <p>
+ * The text is scanned once with an Aho-Corasick automaton, built from anchor strings of known secret formats and custom literal
+ * secrets, each anchor match is then confirmed with a small validator. No regular expressions are used. Detected secrets:
+ * <ul>
+ *     <li>JSON Web Tokens;</li>
+ *     <li>Bearer tokens, the scheme name is kept;</li>
+ *     <li>AWS access key IDs;</li>
+ *     <li>payment card numbers, 13-19 digits, optionally separated with spaces or dashes, which pass Luhn check;</li>
+ *     <li>custom literal secrets.</li>
+ * </ul>
+ * If nothing is found the same string instance is returned, otherwise a masked copy.
+ */
+public class SanitizingBodyConverter implements Prettifier {
+	public static final String DEFAULT_MASK = "<removed>";
+
+	private static final String[] AWS_KEY_PREFIXES = { "AKIA", "ASIA", "AIDA", "AROA", "AGPA", "ANPA", "ANVA", "APKA" };
+	private static final int AWS_KEY_LENGTH = 20;
+	private static final int MIN_BEARER_TOKEN_LENGTH = 8;
+	private static final int MIN_PAN_LENGTH = 13;
+	private static final int MAX_PAN_LENGTH = 19;
+
+	public static final SanitizingBodyConverter INSTANCE = new Builder().build();
+
+	public enum SecretType {
+		JWT,
+		BEARER,
+		AWS_KEY,
+		PAN,
+		LITERAL
+	}
+
+	private final Automaton automaton;
+	private final boolean detectPan;
+	private final String mask;
+	private final Map<SecretType, LongAdder> counters = new EnumMap<>(SecretType.class);
+
+	private SanitizingBodyConverter(@Nonnull Set<SecretType> types, @Nonnull Collection<String> literals, @Nonnull String maskString) {
+		Automaton.Builder builder = new Automaton.Builder();
+		if (types.contains(SecretType.JWT)) {
+			builder.add("eyj", SecretType.JWT, null);
+		}
+		if (types.contains(SecretType.BEARER)) {
+			builder.add("bearer ", SecretType.BEARER, null);
+		}
+		if (types.contains(SecretType.AWS_KEY)) {
+			Arrays.stream(AWS_KEY_PREFIXES).forEach(p -> builder.add(p, SecretType.AWS_KEY, p));
+		}
+		literals.stream().filter(l -> !l.isEmpty()).forEach(l -> builder.add(l, SecretType.LITERAL, l));
+		automaton = builder.build();
+		detectPan = types.contains(SecretType.PAN);
+		mask = maskString;
+		Arrays.stream(SecretType.values()).forEach(t -> counters.put(t, new LongAdder()));
+	}
+
+	/**
+	 * @param type secret type
+	 * @return number of secrets of the type masked by this converter
+	 */
+	public long getMatchCount(@Nonnull SecretType type) {
+		return counters.get(type).sum();
+	}
+
+	@Override
+	public boolean isMasking() {
+		return true;
+	}
+
+	@Override
+	@Nullable
+	public String apply(@Nullable String text) {
+		if (text == null || text.isEmpty()) {
+			return text;
+		}
+		// pairs of [start, end) offsets of found secrets in order of their ends
+		int[] ranges = new int[8];
+		int count = 0;
+		int state = 0;
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (detectPan && isDigit(c) && (i == 0 || !isWordChar(text.charAt(i - 1)))) {
+				int end = validatePan(text, i);
+				if (end > 0) {
+					ranges = add(ranges, count++, i, end);
+					counters.get(SecretType.PAN).increment();
+				}
+			}
+			state = automaton.next(state, c);
+			for (int output = automaton.outputs[state]; output >= 0; output = automaton.outputLinks[output]) {
+				Automaton.Pattern pattern = automaton.patterns[output];
+				int start = i + 1 - pattern.text.length();
+				int[] range = validate(pattern, text, start);
+				if (range != null) {
+					ranges = add(ranges, count++, range[0], range[1]);
+					counters.get(pattern.type).increment();
+				}
+			}
+		}
+		if (count == 0) {
+			return text;
+		}
+		return mask(text, ranges, count);
+	}
+
+	@Nonnull
+	private String mask(@Nonnull String text, @Nonnull int[] ranges, int count) {
+		Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingInt(i -> ranges[i * 2]));
+		StringBuilder result = new StringBuilder(text.length());
+		int position = 0;
+		for (int index : order) {
+			int start = ranges[index * 2];
+			int end = ranges[index * 2 + 1];
+			if (end <= position) {
+				continue;
+			}
+			if (start >= position) {
+				result.append(text, position, start).append(mask);
+			}
+			position = end;
+		}
+		return result.append(text, position, text.length()).toString();
+	}
+
+	@Nonnull
+	private static int[] add(@Nonnull int[] ranges, int index, int start, int end) {
+		int[] result = ranges.length < (index + 1) * 2 ? Arrays.copyOf(ranges, ranges.length * 2) : ranges;
+		result[index * 2] = start;
+		result[index * 2 + 1] = end;
+		return result;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWordChar(char c) {
+		return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+	}
+
+	private static boolean isBase64UrlChar(char c) {
+		return isWordChar(c) || c == '-';
+	}
+
+	private static boolean isTokenChar(char c) {
+		return isBase64UrlChar(c) || c == '.' || c == '~' || c == '+' || c == '/';
+	}
+
+	@Nullable
+	private static int[] validate(@Nonnull Automaton.Pattern pattern, @Nonnull String text, int start) {
+		switch (pattern.type) {
+			case JWT:
+				return validateJwt(text, start);
+			case BEARER:
+				return validateBearer(text, start + pattern.text.length());
+			case AWS_KEY:
+				return validateAwsKey(text, start, pattern.original);
+			default:
+				return text.startsWith(pattern.original, start) ? new int[] { start, start + pattern.original.length() } : null;
+		}
+	}
+
+	@Nullable
+	private static int[] validateJwt(@Nonnull String text, int start) {
+		if (!text.startsWith("eyJ", start) || (start > 0 && isBase64UrlChar(text.charAt(start - 1)))) {
+			return null;
+		}
+		int position = start;
+		for (int segment = 0; segment < 3; segment++) {
+			int segmentStart = position;
+			while (position < text.length() && isBase64UrlChar(text.charAt(position))) {
+				position++;
+			}
+			if (segment < 2) {
+				if (position - segmentStart < 4 || position >= text.length() || text.charAt(position) != '.') {
+					return null;
+				}
+				position++;
+			}
+		}
+		return new int[] { start, position };
+	}
+
+	@Nullable
+	private static int[] validateBearer(@Nonnull String text, int tokenStart) {
+		int position = tokenStart;
+		while (position < text.length() && isTokenChar(text.charAt(position))) {
+			position++;
+		}
+		while (position < text.length() && text.charAt(position) == '=') {
+			position++;
+		}
+		return position - tokenStart >= MIN_BEARER_TOKEN_LENGTH ? new int[] { tokenStart, position } : null;
+	}
+
+	@Nullable
+	private static int[] validateAwsKey(@Nonnull String text, int start, @Nonnull String prefix) {
+		int end = start + AWS_KEY_LENGTH;
+		if (!text.startsWith(prefix, start) || end > text.length() || (start > 0 && isWordChar(text.charAt(start - 1))) || (
+				end < text.length() && isWordChar(text.charAt(end)))) {
+			return null;
+		}
+		for (int i = start + prefix.length(); i < end; i++) {
+			char c = text.charAt(i);
+			if (!isDigit(c) && (c < 'A' || c > 'Z')) {
+				return null;
+			}
+		}
+		return new int[] { start, end };
+	}
+
+	/**
+	 * Check a payment card number which starts at the specific position.
+	 *
+	 * @param text  text to check
+	 * @param start position of the first digit
+	 * @return end of the card number or -1 if there is no valid card number
+	 */
+	private static int validatePan(@Nonnull String text, int start) {
+		int digits = 0;
+		int sum = 0;
+		int end = start;
+		int position = start;
+		// collect digits first, Luhn check is calculated from the right
+		int[] values = new int[MAX_PAN_LENGTH];
+		while (position < text.length()) {
+			char c = text.charAt(position);
+			if (isDigit(c)) {
+				if (digits == MAX_PAN_LENGTH) {
+					return -1;
+				}
+				values[digits++] = c - '0';
+				end = ++position;
+			} else if ((c == ' ' || c == '-') && position + 1 < text.length() && isDigit(text.charAt(position + 1))) {
+				position++;
+			} else {
+				break;
+			}
+		}
+		if (digits < MIN_PAN_LENGTH || (end < text.length() && isWordChar(text.charAt(end)))) {
+			return -1;
+		}
+		for (int i = 0; i < digits; i++) {
+			int value = values[digits - 1 - i];
+			if (i % 2 == 1) {
+				value *= 2;
+				if (value > 9) {
+					value -= 9;
+				}
+			}
+			sum += value;
+		}
+		return sum % 10 == 0 ? end : -1;
+	}
+
+	/**
+	 * Case-insensitive Aho-Corasick automaton with a full transition table over the compacted alphabet of pattern characters.
+	 */
+	private static class Automaton {
+		private final char[] alphabet;
+		private final int[] alphabetIndex;
+		private final int[][] transitions;
+		private final int[] outputs;
+		private final int[] outputLinks;
+		private final Pattern[] patterns;
+
+		private Automaton(char[] alphabetChars, int[] charIndex, int[][] transitionTable, int[] stateOutputs, int[] patternLinks,
+				Pattern[] patternArray) {
+			alphabet = alphabetChars;
+			alphabetIndex = charIndex;
+			transitions = transitionTable;
+			outputs = stateOutputs;
+			outputLinks = patternLinks;
+			patterns = patternArray;
+		}
+
+		private static char normalize(char c) {
+			return c < 128 ? Character.toLowerCase(c) : c;
+		}
+
+		private int next(int state, char c) {
+			char n = normalize(c);
+			if (n >= alphabetIndex.length) {
+				int index = Arrays.binarySearch(alphabet, n);
+				return index < 0 ? 0 : transitions[state][index];
+			}
+			int index = alphabetIndex[n];
+			return index < 0 ? 0 : transitions[state][index];
+		}
+
+		private static class Pattern {
+			private final String text;
+			private final SecretType type;
+			private final String original;
+
+			private Pattern(@Nonnull String patternText, @Nonnull SecretType secretType, @Nullable String originalText) {
+				text = patternText;
+				type = secretType;
+				original = originalText;
+			}
+		}
+
+		private static class Builder {
+			private final List<Pattern> patterns = new ArrayList<>();
+
+			private void add(@Nonnull String text, @Nonnull SecretType type, @Nullable String original) {
+				StringBuilder normalized = new StringBuilder(text.length());
+				text.chars().forEach(c -> normalized.append(normalize((char) c)));
+				patterns.add(new Pattern(normalized.toString(), type, original));
+			}
+
+			private Automaton build() {
+				TreeSet<Character> chars = new TreeSet<>();
+				patterns.forEach(p -> p.text.chars().forEach(c -> chars.add((char) c)));
+				char[] alphabet = new char[chars.size()];
+				int[] alphabetIndex = new int[128];
+				Arrays.fill(alphabetIndex, -1);
+				int k = 0;
+				for (char c : chars) {
+					if (c < 128) {
+						alphabetIndex[c] = k;
+					}
+					alphabet[k++] = c;
+				}
+
+				// trie
+				List<int[]> trie = new ArrayList<>();
+				List<Integer> outputs = new ArrayList<>();
+				trie.add(newRow(alphabet.length));
+				outputs.add(-1);
+				int[] patternLinks = new int[patterns.size()];
+				Arrays.fill(patternLinks, -1);
+				for (int p = 0; p < patterns.size(); p++) {
+					int state = 0;
+					for (char c : patterns.get(p).text.toCharArray()) {
+						int index = Arrays.binarySearch(alphabet, c);
+						if (trie.get(state)[index] < 0) {
+							trie.get(state)[index] = trie.size();
+							trie.add(newRow(alphabet.length));
+							outputs.add(-1);
+						}
+						state = trie.get(state)[index];
+					}
+					patternLinks[p] = outputs.get(state);
+					outputs.set(state, p);
+				}
+
+				// failure links converted into full transition table, breadth-first
+				int[][] transitions = trie.toArray(new int[0][]);
+				int[] stateOutputs = outputs.stream().mapToInt(Integer::intValue).toArray();
+				int[] failure = new int[transitions.length];
+				Deque<Integer> queue = new ArrayDeque<>();
+				for (int i = 0; i < alphabet.length; i++) {
+					if (transitions[0][i] < 0) {
+						transitions[0][i] = 0;
+					} else {
+						failure[transitions[0][i]] = 0;
+						queue.add(transitions[0][i]);
+					}
+				}
+				while (!queue.isEmpty()) {
+					int state = queue.poll();
+					// append outputs of the failure state to the end of this state output chain
+					int fallbackOutput = stateOutputs[failure[state]];
+					if (fallbackOutput >= 0) {
+						if (stateOutputs[state] < 0) {
+							stateOutputs[state] = fallbackOutput;
+						} else {
+							int last = stateOutputs[state];
+							while (patternLinks[last] >= 0) {
+								last = patternLinks[last];
+							}
+							if (last != fallbackOutput) {
+								patternLinks[last] = fallbackOutput;
+							}
+						}
+					}
+					for (int i = 0; i < alphabet.length; i++) {
+						int child = transitions[state][i];
+						if (child < 0) {
+							transitions[state][i] = transitions[failure[state]][i];
+						} else {
+							failure[child] = transitions[failure[state]][i];
+							queue.add(child);
+						}
+					}
+				}
+				return new Automaton(alphabet, alphabetIndex, transitions, stateOutputs, patternLinks, patterns.toArray(new Pattern[0]));
+			}
+
+			private static int[] newRow(int size) {
+				int[] row = new int[size];
+				Arrays.fill(row, -1);
+				return row;
+			}
+		}
+	}
+
+	public static class Builder {
+		private final Set<SecretType> types = EnumSet.of(SecretType.JWT, SecretType.BEARER, SecretType.AWS_KEY, SecretType.PAN);
+		private final List<String> literals = new ArrayList<>();
+		private String mask = DEFAULT_MASK;
+
+		/**
+		 * Set secret types to detect, all built-in types are detected by default.
+		 *
+		 * @param secretTypes secret types
+		 * @return the builder instance
+		 */
+		public Builder types(@Nonnull SecretType... secretTypes) {
+			types.clear();
+			types.addAll(Arrays.asList(secretTypes));
+			return this;
+		}
+
+		/**
+		 * Mask custom literal secrets, like passwords of test users.
+		 *
+		 * @param secrets secret strings
+		 * @return the builder instance
+		 */
+		public Builder literals(@Nonnull String... secrets) {
+			literals.addAll(Arrays.asList(secrets));
+			return this;
+		}
+
+		public Builder mask(@Nonnull String maskString) {
+			mask = maskString;
+			return this;
+		}
+
+		public SanitizingBodyConverter build() {
+			return new SanitizingBodyConverter(types, literals, mask);
+		}
+	}
+}
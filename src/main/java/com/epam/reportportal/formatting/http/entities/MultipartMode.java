@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.entities;
+
+/**
+ * How a multipart request or response should be logged.
+ */
+public enum MultipartMode {
+	/**
+	 * A nested step with headers and a separate log entry or attachment for each part
+	 */
+	NESTED_STEP,
+	/**
+	 * A single log entry with the head and all text parts, binary parts are attached in one archive, parts larger than the part
+	 * limit or not fitting into the total bundle limit are attached separately
+	 */
+	CONSOLIDATED
+}
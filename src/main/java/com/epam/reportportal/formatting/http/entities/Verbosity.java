@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.entities;
+
+/**
+ * How much of an HTTP request or response should be logged.
+ */
+public enum Verbosity {
+	/**
+	 * Title only: request method and URI or response status
+	 */
+	TITLE,
+	/**
+	 * Title, headers and cookies, without body
+	 */
+	HEAD,
+	/**
+	 * Everything, including body
+	 */
+	FULL
+}
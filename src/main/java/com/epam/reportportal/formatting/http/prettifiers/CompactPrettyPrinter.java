@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import jakarta.annotation.Nonnull;
+
+import java.io.IOException;
+
+/**
+ * Pretty printer for compact mode of {@link JsonStreamingPrettifier}. The printer does not decide the layout itself, the prettifier
+ * looks ahead and switches it: containers written in inline mode take one line, values of multi-line arrays are wrapped by the width
+ * budget, multi-line object fields always take separate lines.
+ */
+class CompactPrettyPrinter implements PrettyPrinter {
+	private final String indent;
+	private final int width;
+
+	private int nesting;
+	private int lineWidth;
+	private boolean inlineNext;
+	private boolean inline;
+	private boolean wrap;
+
+	CompactPrettyPrinter(int indentSize, int maxWidth) {
+		indent = " ".repeat(indentSize);
+		width = maxWidth;
+	}
+
+	/**
+	 * Write the next container in one line, the container should contain only scalar values.
+	 */
+	void inlineNext() {
+		inlineNext = true;
+	}
+
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Notify the printer about the next value of a multi-line array, so it can decide if the value should start a new line.
+	 *
+	 * @param valueWidth approximate value width in characters
+	 */
+	void beforeValue(int valueWidth) {
+		wrap = lineWidth + valueWidth > width;
+		lineWidth = wrap ? valueWidth : lineWidth + valueWidth + 2;
+	}
+
+	private void newLine(@Nonnull JsonGenerator generator) throws IOException {
+		generator.writeRaw(DefaultIndenter.SYS_LF);
+		for (int i = 0; i < nesting; i++) {
+			generator.writeRaw(indent);
+		}
+	}
+
+	@Override
+	public void writeRootValueSeparator(JsonGenerator generator) throws IOException {
+		generator.writeRaw(' ');
+	}
+
+	@Override
+	public void writeStartObject(JsonGenerator generator) throws IOException {
+		generator.writeRaw('{');
+		inline = inlineNext;
+		inlineNext = false;
+		if (!inline) {
+			nesting++;
+		}
+	}
+
+	@Override
+	public void writeEndObject(JsonGenerator generator, int nrOfEntries) throws IOException {
+		writeEnd(generator, nrOfEntries, '}');
+	}
+
+	@Override
+	public void writeObjectEntrySeparator(JsonGenerator generator) throws IOException {
+		generator.writeRaw(',');
+		if (inline) {
+			generator.writeRaw(' ');
+		} else {
+			newLine(generator);
+		}
+	}
+
+	@Override
+	public void writeObjectFieldValueSeparator(JsonGenerator generator) throws IOException {
+		generator.writeRaw(" : ");
+	}
+
+	@Override
+	public void writeStartArray(JsonGenerator generator) throws IOException {
+		generator.writeRaw('[');
+		inline = inlineNext;
+		inlineNext = false;
+		if (!inline) {
+			nesting++;
+			// the first value always starts a new line
+			lineWidth = width;
+		}
+	}
+
+	@Override
+	public void writeEndArray(JsonGenerator generator, int nrOfValues) throws IOException {
+		writeEnd(generator, nrOfValues, ']');
+	}
+
+	@Override
+	public void writeArrayValueSeparator(JsonGenerator generator) throws IOException {
+		generator.writeRaw(',');
+		if (inline || !wrap) {
+			generator.writeRaw(' ');
+		} else {
+			newLine(generator);
+		}
+	}
+
+	@Override
+	public void beforeArrayValues(JsonGenerator generator) throws IOException {
+		if (inline) {
+			generator.writeRaw(' ');
+		} else {
+			newLine(generator);
+		}
+	}
+
+	@Override
+	public void beforeObjectEntries(JsonGenerator generator) throws IOException {
+		beforeArrayValues(generator);
+	}
+
+	private void writeEnd(@Nonnull JsonGenerator generator, int nrOfValues, char end) throws IOException {
+		if (inline) {
+			generator.writeRaw(' ');
+			inline = false;
+		} else {
+			nesting--;
+			if (nrOfValues > 0) {
+				newLine(generator);
+			} else {
+				generator.writeRaw(' ');
+			}
+			// a value after a multi-line container always starts a new line
+			lineWidth = width;
+		}
+		generator.writeRaw(end);
+	}
+}
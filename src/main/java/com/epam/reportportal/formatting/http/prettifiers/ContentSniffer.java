@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Cheap structural checks of text bodies which are done before parsing, so mislabelled bodies, like HTML error pages from gateways
+ * with JSON content type, or empty bodies are rejected without a failed parse and exception construction. The checks are
+ * conservative: a body which passes them still can be invalid, but a body which fails them can't be parsed.
+ */
+public final class ContentSniffer {
+	/**
+	 * Maximum number of characters scanned by the balanced brackets check.
+	 */
+	public static final int SCAN_LIMIT = 4096;
+
+	private static final char BOM = '\uFEFF';
+
+	private ContentSniffer() {
+		throw new RuntimeException("No instances should exist for the class!");
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == BOM;
+	}
+
+	private static int firstSignificant(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (!isWhitespace(text.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastSignificant(String text) {
+		for (int i = text.length() - 1; i >= 0; i--) {
+			if (!isWhitespace(text.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isJsonStructuralChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == ',' || c == ':' || c == '-' || c == '+' || c == '.' || c == 'E'
+				|| isWhitespace(c);
+	}
+
+	/**
+	 * Check if the text looks like a JSON object or array: it starts and ends with matching brackets and the brackets are balanced
+	 * and there are no characters outside strings which can't appear in JSON, within the first {@link #SCAN_LIMIT} characters.
+	 *
+	 * @param text body text
+	 * @return <code>false</code> if the text is definitely not a JSON object or array
+	 */
+	public static boolean isJsonLike(@Nullable String text) {
+		if (text == null) {
+			return false;
+		}
+		int start = firstSignificant(text);
+		if (start < 0) {
+			return false;
+		}
+		char first = text.charAt(start);
+		if (first != '{' && first != '[') {
+			return false;
+		}
+		int end = lastSignificant(text);
+		if (text.charAt(end) != (first == '{' ? '}' : ']')) {
+			return false;
+		}
+		int limit = Math.min(end + 1, start + SCAN_LIMIT);
+		char[] stack = new char[Math.min(limit - start, 64)];
+		int depth = 0;
+		boolean inString = false;
+		for (int i = start; i < limit; i++) {
+			char c = text.charAt(i);
+			if (inString) {
+				if (c == '\\') {
+					i++;
+				} else if (c == '"') {
+					inString = false;
+				}
+				continue;
+			}
+			switch (c) {
+				case '"':
+					inString = true;
+					break;
+				case '{':
+				case '[':
+					if (depth == stack.length) {
+						char[] newStack = new char[stack.length * 2];
+						System.arraycopy(stack, 0, newStack, 0, depth);
+						stack = newStack;
+					}
+					stack[depth++] = c == '{' ? '}' : ']';
+					break;
+				case '}':
+				case ']':
+					if (depth == 0 || stack[--depth] != c || (depth == 0 && i != end)) {
+						return false;
+					}
+					break;
+				default:
+					if (!isJsonStructuralChar(c)) {
+						return false;
+					}
+			}
+		}
+		return limit <= end || (depth == 0 && !inString);
+	}
+
+	/**
+	 * Check if the text looks like an XML document: it starts with a tag, a processing instruction, a comment or a declaration and
+	 * ends with <code>&gt;</code>.
+	 *
+	 * @param text body text
+	 * @return <code>false</code> if the text is definitely not an XML document
+	 */
+	public static boolean isXmlLike(@Nullable String text) {
+		if (text == null) {
+			return false;
+		}
+		int start = firstSignificant(text);
+		if (start < 0 || start + 1 >= text.length() || text.charAt(start) != '<' || text.charAt(lastSignificant(text)) != '>') {
+			return false;
+		}
+		char next = text.charAt(start + 1);
+		return next == '?' || next == '!' || next == '_' || next == ':' || Character.isLetter(next);
+	}
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HTML prettifier which re-indents the document in a single pass over its tags, without building a DOM, so it's suitable for large
+ * error pages and server-side rendered responses.
+ * <p>
+ * Block elements start on a new line and are indented by their nesting level, inline elements and text stay on the line of their
+ * parent, text whitespace is collapsed. Content of <code>&lt;script&gt;</code>, <code>&lt;style&gt;</code>,
+ * <code>&lt;pre&gt;</code> and <code>&lt;textarea&gt;</code> elements is copied as is. Nesting is tracked up to a limit, deeper
+ * elements keep the indentation of the limit. Unlike Jsoup the prettifier doesn't fix markup, so unclosed elements don't change the
+ * indentation of their siblings.
+ * <p>
+ * Documents shorter than {@link Builder#jsoupThreshold(int)} are formatted with Jsoup, since for them the DOM is cheap and its output
+ * is more accurate.
+ */
+public class HtmlStreamingPrettifier implements Prettifier {
+	public static final int DEFAULT_INDENT = 2;
+	public static final int DEFAULT_MAX_DEPTH = 128;
+	public static final int DEFAULT_JSOUP_THRESHOLD = 64 * 1024;
+
+	private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList("area",
+			"base",
+			"br",
+			"col",
+			"embed",
+			"hr",
+			"img",
+			"input",
+			"link",
+			"meta",
+			"param",
+			"source",
+			"track",
+			"wbr"
+	));
+
+	private static final Set<String> INLINE_ELEMENTS = new HashSet<>(Arrays.asList("a",
+			"abbr",
+			"b",
+			"bdi",
+			"bdo",
+			"big",
+			"br",
+			"button",
+			"cite",
+			"code",
+			"data",
+			"dfn",
+			"em",
+			"font",
+			"i",
+			"img",
+			"input",
+			"kbd",
+			"label",
+			"mark",
+			"q",
+			"s",
+			"samp",
+			"select",
+			"small",
+			"span",
+			"strong",
+			"sub",
+			"sup",
+			"textarea",
+			"time",
+			"tt",
+			"u",
+			"var",
+			"wbr"
+	));
+
+	private static final Set<String> RAW_TEXT_ELEMENTS = new HashSet<>(Arrays.asList("script", "style", "pre", "textarea"));
+
+	public static final HtmlStreamingPrettifier INSTANCE = new Builder().build();
+
+	private final int indent;
+	private final int maxDepth;
+	private final int jsoupThreshold;
+	private final boolean stripScripts;
+	private final boolean stripStyles;
+	private final Document.OutputSettings outputSettings;
+
+	private HtmlStreamingPrettifier(int indentSize, int maxDepthLimit, int jsoupThresholdLength, boolean stripScriptElements,
+			boolean stripStyleElements) {
+		indent = indentSize;
+		maxDepth = maxDepthLimit;
+		jsoupThreshold = jsoupThresholdLength;
+		stripScripts = stripScriptElements;
+		stripStyles = stripStyleElements;
+		outputSettings = new Document.OutputSettings().indentAmount(indentSize);
+	}
+
+	@Override
+	public String apply(String html) {
+		if (html == null) {
+			return html;
+		}
+		try {
+			if (html.length() < jsoupThreshold) {
+				return applyJsoup(html);
+			}
+			StringBuilder out = new StringBuilder(html.length() + (html.length() >> 3));
+			new Writer(html, out).write();
+			return out.toString().trim();
+		} catch (Exception ignore) {
+			return html;
+		}
+	}
+
+	@Nonnull
+	private String applyJsoup(@Nonnull String html) {
+		Document document = Jsoup.parse(html);
+		if (stripScripts) {
+			for (Element script : document.select("script")) {
+				if (!script.data().trim().isEmpty()) {
+					script.remove();
+				}
+			}
+		}
+		if (stripStyles) {
+			document.select("style").remove();
+		}
+		return document.outputSettings(outputSettings).html().trim();
+	}
+
+	private static boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == ':' || c == '.';
+	}
+
+	private static int indexOfIgnoreCase(@Nonnull String text, @Nonnull String search, int from) {
+		int last = text.length() - search.length();
+		for (int i = from; i <= last; i++) {
+			if (text.regionMatches(true, i, search, 0, search.length())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Single document pass state.
+	 */
+	private class Writer {
+		private final String html;
+		private final StringBuilder out;
+		private final String[] stack = new String[maxDepth];
+		private int depth;
+		private int overflow;
+		private int position;
+		// nesting level of the block element which opened the current line, -1 if the line was opened by something else
+		private int openedBy = -1;
+		private boolean lineStart = true;
+		private boolean needBreak;
+		private boolean pendingSpace;
+
+		private Writer(@Nonnull String source, @Nonnull StringBuilder output) {
+			html = source;
+			out = output;
+		}
+
+		private void newLine() {
+			if (out.length() > 0) {
+				out.append('\n');
+			}
+			for (int i = depth * indent; i > 0; i--) {
+				out.append(' ');
+			}
+			openedBy = -1;
+			lineStart = true;
+			needBreak = false;
+			pendingSpace = false;
+		}
+
+		private void appendBlock(@Nonnull CharSequence text) {
+			newLine();
+			out.append(text);
+			lineStart = false;
+		}
+
+		private void appendInline(@Nonnull CharSequence text, int start, int end) {
+			if (needBreak) {
+				newLine();
+			} else if (pendingSpace && !lineStart) {
+				out.append(' ');
+			}
+			pendingSpace = false;
+			out.append(text, start, end);
+			lineStart = false;
+		}
+
+		private void push(@Nonnull String name) {
+			if (depth < stack.length) {
+				stack[depth++] = name;
+			} else {
+				overflow++;
+			}
+		}
+
+		/**
+		 * @return true if the element was found in the stack and closed
+		 */
+		private boolean pop(@Nonnull String name) {
+			if (overflow > 0) {
+				overflow--;
+				return true;
+			}
+			for (int i = depth - 1; i >= 0; i--) {
+				if (stack[i].equals(name)) {
+					depth = i;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void write() {
+			int length = html.length();
+			while (position < length) {
+				int tag = html.indexOf('<', position);
+				if (tag < 0) {
+					writeText(position, length);
+					break;
+				}
+				if (tag > position) {
+					writeText(position, tag);
+				}
+				position = tag;
+				if (!writeMarkup()) {
+					writeText(tag, tag + 1);
+					position = tag + 1;
+				}
+			}
+		}
+
+		private void writeText(int start, int end) {
+			StringBuilder text = new StringBuilder(end - start);
+			boolean space = false;
+			for (int i = start; i < end; i++) {
+				char c = html.charAt(i);
+				if (Character.isWhitespace(c)) {
+					space = true;
+				} else {
+					if (space && text.length() > 0) {
+						text.append(' ');
+					}
+					space = false;
+					text.append(c);
+				}
+			}
+			if (text.length() == 0) {
+				pendingSpace |= space;
+				return;
+			}
+			pendingSpace |= Character.isWhitespace(html.charAt(start));
+			appendInline(text, 0, text.length());
+			pendingSpace = space;
+		}
+
+		/**
+		 * Write markup at the current position.
+		 *
+		 * @return false if there is no valid markup at the position and the character should be treated as text
+		 */
+		private boolean writeMarkup() {
+			int start = position;
+			if (html.startsWith("<!--", start)) {
+				int end = html.indexOf("-->", start + 4);
+				end = end < 0 ? html.length() : end + 3;
+				writeStandalone(start, end);
+				return true;
+			}
+			if (start + 1 >= html.length()) {
+				return false;
+			}
+			char next = html.charAt(start + 1);
+			if (next == '!' || next == '?') {
+				int end = html.indexOf('>', start);
+				end = end < 0 ? html.length() : end + 1;
+				writeStandalone(start, end);
+				return true;
+			}
+			boolean closing = next == '/';
+			int nameStart = closing ? start + 2 : start + 1;
+			int nameEnd = nameStart;
+			while (nameEnd < html.length() && isNameChar(html.charAt(nameEnd))) {
+				nameEnd++;
+			}
+			if (nameEnd == nameStart || !Character.isLetter(html.charAt(nameStart))) {
+				return false;
+			}
+			int end = findTagEnd(nameEnd);
+			if (end < 0) {
+				return false;
+			}
+			String name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+			position = end;
+			if (closing) {
+				writeEndTag(name, start, end);
+			} else {
+				writeStartTag(name, start, end, html.charAt(end - 2) == '/');
+			}
+			return true;
+		}
+
+		/**
+		 * Find the end of a tag. A quoted attribute value may contain '&gt;', but a quote which is still open at the end of the line
+		 * where such '&gt;' is found is considered unbalanced and the tag ends at that '&gt;', so an unbalanced quote doesn't swallow
+		 * the rest of the document.
+		 *
+		 * @param from position after the tag name
+		 * @return position after the tag or -1 if the tag is not closed
+		 */
+		private int findTagEnd(int from) {
+			char quote = 0;
+			int quotedEnd = -1;
+			for (int i = from; i < html.length(); i++) {
+				char c = html.charAt(i);
+				if (quote != 0) {
+					if (c == quote) {
+						quote = 0;
+						quotedEnd = -1;
+					} else if (c == '>' && quotedEnd < 0) {
+						quotedEnd = i + 1;
+					} else if (c == '\n' && quotedEnd >= 0) {
+						return quotedEnd;
+					}
+				} else if (c == '"' || c == '\'') {
+					quote = c;
+				} else if (c == '>') {
+					return i + 1;
+				}
+			}
+			return quotedEnd;
+		}
+
+		private void writeStandalone(int start, int end) {
+			appendBlock(html.subSequence(start, end));
+			needBreak = true;
+			position = end;
+		}
+
+		private void writeStartTag(@Nonnull String name, int start, int end, boolean selfClosing) {
+			boolean inline = INLINE_ELEMENTS.contains(name);
+			if (!selfClosing && RAW_TEXT_ELEMENTS.contains(name)) {
+				writeRawTextElement(name, start, end, inline);
+				return;
+			}
+			if (inline) {
+				appendInline(html, start, end);
+			} else {
+				appendBlock(html.subSequence(start, end));
+			}
+			if (selfClosing || VOID_ELEMENTS.contains(name)) {
+				needBreak = !inline;
+				return;
+			}
+			push(name);
+			if (!inline) {
+				openedBy = depth + overflow;
+			}
+		}
+
+		private void writeEndTag(@Nonnull String name, int start, int end) {
+			boolean closed = pop(name);
+			if (INLINE_ELEMENTS.contains(name)) {
+				appendInline(html, start, end);
+				return;
+			}
+			if (closed && openedBy == depth + overflow + 1) {
+				out.append(html, start, end);
+			} else {
+				appendBlock(html.subSequence(start, end));
+			}
+			openedBy = -1;
+			needBreak = true;
+		}
+
+		private void writeRawTextElement(@Nonnull String name, int start, int end, boolean inline) {
+			int close = indexOfIgnoreCase(html, "</" + name, end);
+			int closeEnd = close < 0 ? html.length() : findTagEnd(close + name.length() + 2);
+			if (closeEnd < 0) {
+				closeEnd = html.length();
+			}
+			position = closeEnd;
+			boolean hasContent = close < 0 || html.substring(end, close).trim().length() > 0;
+			if (hasContent && (stripScripts && "script".equals(name) || stripStyles && "style".equals(name))) {
+				return;
+			}
+			if (inline) {
+				appendInline(html, start, closeEnd);
+			} else {
+				appendBlock(html.subSequence(start, closeEnd));
+				needBreak = true;
+			}
+		}
+	}
+
+	public static class Builder {
+		private int indent = DEFAULT_INDENT;
+		private int maxDepth = DEFAULT_MAX_DEPTH;
+		private int jsoupThreshold = DEFAULT_JSOUP_THRESHOLD;
+		private boolean stripScripts;
+		private boolean stripStyles;
+
+		public Builder indent(int indentSize) {
+			indent = indentSize;
+			return this;
+		}
+
+		/**
+		 * Set maximum tracked nesting level, deeper elements are not indented further.
+		 *
+		 * @param maxDepthLimit maximum nesting level
+		 * @return the builder instance
+		 */
+		public Builder maxDepth(int maxDepthLimit) {
+			if (maxDepthLimit <= 0) {
+				throw new IllegalArgumentException("Maximum depth should be a positive number");
+			}
+			maxDepth = maxDepthLimit;
+			return this;
+		}
+
+		/**
+		 * Set the length of documents below which Jsoup is used instead of the streaming pass.
+		 *
+		 * @param length document length in characters, zero or negative means Jsoup is never used
+		 * @return the builder instance
+		 */
+		public Builder jsoupThreshold(int length) {
+			jsoupThreshold = length;
+			return this;
+		}
+
+		/**
+		 * Remove inline <code>&lt;script&gt;</code> elements, scripts loaded by <code>src</code> attribute are kept.
+		 *
+		 * @param strip remove or not
+		 * @return the builder instance
+		 */
+		public Builder stripScripts(boolean strip) {
+			stripScripts = strip;
+			return this;
+		}
+
+		/**
+		 * Remove <code>&lt;style&gt;</code> elements.
+		 *
+		 * @param strip remove or not
+		 * @return the builder instance
+		 */
+		public Builder stripStyles(boolean strip) {
+			stripStyles = strip;
+			return this;
+		}
+
+		public HtmlStreamingPrettifier build() {
+			return new HtmlStreamingPrettifier(indent, maxDepth, jsoupThreshold, stripScripts, stripStyles);
+		}
+	}
+}
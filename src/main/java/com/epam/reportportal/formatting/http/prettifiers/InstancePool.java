@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free pool of reusable instances, like XML parsers and transformers, which are expensive to create and can't be shared
+ * between threads.
+ * <p>
+ * Idle instances are kept in a fixed number of slots. A borrower never waits: if there is no idle instance a new one is created, and
+ * if there is no free slot on release the instance is discarded. So the pool memory doesn't depend on the number of threads.
+ * <p>
+ * Creation on a miss is not limited: the number of instances in use at the same time equals the number of concurrent borrowers, the
+ * pool size only bounds the instances kept idle between uses. Callers which need a hard limit should bound their concurrency, e.g.
+ * with a fixed thread pool.
+ *
+ * @param <T> instance type
+ */
+public final class InstancePool<T> {
+	private final AtomicReferenceArray<T> slots;
+	private final Supplier<T> factory;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder discards = new LongAdder();
+
+	public InstancePool(int size, @Nonnull Supplier<T> instanceFactory) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Pool size should be a positive number");
+		}
+		slots = new AtomicReferenceArray<>(size);
+		factory = instanceFactory;
+	}
+
+	private int startSlot() {
+		return (int) (Thread.currentThread().getId() % slots.length());
+	}
+
+	/**
+	 * Take an idle instance or create a new one, without waiting and without limiting the number of created instances.
+	 *
+	 * @return instance which should be returned with {@link #release(Object)} after use
+	 */
+	@Nonnull
+	public T borrow() {
+		int start = startSlot();
+		for (int i = 0; i < slots.length(); i++) {
+			int index = (start + i) % slots.length();
+			if (slots.get(index) != null) {
+				T instance = slots.getAndSet(index, null);
+				if (instance != null) {
+					hits.increment();
+					return instance;
+				}
+			}
+		}
+		misses.increment();
+		return factory.get();
+	}
+
+	/**
+	 * Return an instance into the pool, the instance should be in a reusable state.
+	 *
+	 * @param instance instance to return
+	 */
+	public void release(@Nonnull T instance) {
+		int start = startSlot();
+		for (int i = 0; i < slots.length(); i++) {
+			int index = (start + i) % slots.length();
+			if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+				return;
+			}
+		}
+		discards.increment();
+	}
+
+	/**
+	 * @return maximum number of idle instances
+	 */
+	public int getSize() {
+		return slots.length();
+	}
+
+	/**
+	 * @return current number of idle instances
+	 */
+	public int getIdleCount() {
+		int result = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if (slots.get(i) != null) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return number of borrows served with an idle instance
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of borrows which created a new instance
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of released instances discarded because the pool was full
+	 */
+	public long getDiscardCount() {
+		return discards.sum();
+	}
+}
@@ -36,6 +36,9 @@ public class JsonPrettifier implements Prettifier {
 
 	@Override
 	public String apply(String json) {
+		if (!ContentSniffer.isJsonLike(json)) {
+			return json;
+		}
 		try {
 			JsonNode node = mapper.readTree(json);
 			return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(node).trim();
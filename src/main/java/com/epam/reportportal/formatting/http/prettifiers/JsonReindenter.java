@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Fast path JSON re-indentation for large bodies which doesn't tokenize values.
+ * <p>
+ * The body is scanned for structural characters only: brackets, commas and colons outside strings and quotes and escapes inside
+ * strings. String ends are located with {@link String#indexOf(int, int)}, which is a vectorized intrinsic in HotSpot, directly over
+ * the body, without copying it, and string contents, as well as numbers and literals, are copied to the output as blocks. The layout
+ * is the same as Jackson's default pretty printer output, but strings and numbers are kept as they appear in the source, Jackson
+ * would normalize their escapes and exponent notation.
+ */
+final class JsonReindenter {
+	private static final char BOM = '\uFEFF';
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private JsonReindenter() {
+		throw new RuntimeException("No instances should exist for the class!");
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+	}
+
+	private static boolean isDelimiter(char c) {
+		return isWhitespace(c) || c == ',' || c == ':' || c == ']' || c == '}' || c == '[' || c == '{' || c == '"';
+	}
+
+	private static int digits(@Nonnull String json, int from, int end) {
+		int i = from;
+		while (i < end && json.charAt(i) >= '0' && json.charAt(i) <= '9') {
+			i++;
+		}
+		return i - from;
+	}
+
+	static boolean isScalar(@Nonnull String json, int start, int end) {
+		char first = json.charAt(start);
+		if (first == 't' || first == 'f' || first == 'n') {
+			return json.startsWith("true", start) && end - start == 4 || json.startsWith("false", start) && end - start == 5
+					|| json.startsWith("null", start) && end - start == 4;
+		}
+		int i = start;
+		if (first == '-') {
+			i++;
+		}
+		int integer = digits(json, i, end);
+		if (integer == 0 || integer > 1 && json.charAt(i) == '0') {
+			return false;
+		}
+		i += integer;
+		if (i < end && json.charAt(i) == '.') {
+			int fraction = digits(json, ++i, end);
+			if (fraction == 0) {
+				return false;
+			}
+			i += fraction;
+		}
+		if (i < end && (json.charAt(i) == 'e' || json.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (json.charAt(i) == '+' || json.charAt(i) == '-')) {
+				i++;
+			}
+			int exponent = digits(json, i, end);
+			if (exponent == 0) {
+				return false;
+			}
+			i += exponent;
+		}
+		return i == end;
+	}
+
+	private static void newLine(@Nonnull StringBuilder out, int indent, int level) {
+		out.append(LINE_SEPARATOR);
+		for (int i = indent * level; i > 0; i--) {
+			out.append(' ');
+		}
+	}
+
+	private static void beforeFirstEntry(@Nonnull StringBuilder out, int indent, int level, boolean inObject) {
+		if (inObject) {
+			newLine(out, indent, level);
+		} else {
+			out.append(' ');
+		}
+	}
+
+	/**
+	 * Re-indent JSON document.
+	 *
+	 * @param json   JSON text
+	 * @param indent indentation size, negative value means minified output
+	 * @return re-indented document or <code>null</code> if the text is not a valid JSON document
+	 */
+	@Nullable
+	static String reindent(@Nonnull String json, int indent) {
+		boolean pretty = indent >= 0;
+		StringEnds strings = new StringEnds(json);
+		StringBuilder out = new StringBuilder(pretty ? json.length() + (json.length() >> 2) : json.length());
+		// true for objects, false for arrays
+		boolean[] containers = new boolean[64];
+		int depth = 0;
+		int objectLevel = 0;
+		boolean expectValue = true;
+		boolean expectKey = false;
+		boolean afterKey = false;
+		boolean empty = false;
+		boolean closed = false;
+		int length = json.length();
+		int i = 0;
+		while (i < length) {
+			char c = json.charAt(i);
+			if (isWhitespace(c) || i == 0 && c == BOM) {
+				i++;
+				continue;
+			}
+			if (closed) {
+				return null;
+			}
+			switch (c) {
+				case '{':
+				case '[':
+					if (!expectValue || expectKey) {
+						return null;
+					}
+					if (empty && pretty && depth > 0) {
+						beforeFirstEntry(out, indent, objectLevel, containers[depth - 1]);
+					}
+					if (depth == containers.length) {
+						boolean[] newContainers = new boolean[depth * 2];
+						System.arraycopy(containers, 0, newContainers, 0, depth);
+						containers = newContainers;
+					}
+					boolean openingObject = c == '{';
+					containers[depth++] = openingObject;
+					out.append(c);
+					if (openingObject) {
+						objectLevel++;
+					}
+					expectKey = openingObject;
+					empty = true;
+					i++;
+					break;
+				case '}':
+				case ']':
+					boolean closingObject = c == '}';
+					if (depth == 0 || containers[depth - 1] != closingObject || afterKey || expectValue && !empty) {
+						return null;
+					}
+					depth--;
+					if (closingObject) {
+						objectLevel--;
+					}
+					if (pretty) {
+						if (closingObject && !empty) {
+							newLine(out, indent, objectLevel);
+						} else {
+							out.append(' ');
+						}
+					}
+					out.append(c);
+					expectValue = false;
+					expectKey = false;
+					empty = false;
+					closed = depth == 0;
+					i++;
+					break;
+				case ',':
+					if (depth == 0 || expectValue || afterKey) {
+						return null;
+					}
+					out.append(',');
+					if (containers[depth - 1]) {
+						if (pretty) {
+							newLine(out, indent, objectLevel);
+						}
+						expectKey = true;
+					} else if (pretty) {
+						out.append(' ');
+					}
+					expectValue = true;
+					i++;
+					break;
+				case ':':
+					if (!afterKey) {
+						return null;
+					}
+					out.append(pretty ? " : " : ":");
+					afterKey = false;
+					expectValue = true;
+					i++;
+					break;
+				default:
+					if (!expectValue || afterKey) {
+						return null;
+					}
+					if (empty && pretty && depth > 0) {
+						beforeFirstEntry(out, indent, objectLevel, containers[depth - 1]);
+					}
+					empty = false;
+					int end;
+					if (c == '"') {
+						end = strings.find(i + 1);
+						if (end < 0) {
+							return null;
+						}
+						end++;
+					} else {
+						if (expectKey) {
+							return null;
+						}
+						end = i + 1;
+						while (end < length && !isDelimiter(json.charAt(end))) {
+							end++;
+						}
+						if (!isScalar(json, i, end)) {
+							return null;
+						}
+					}
+					out.append(json, i, end);
+					if (expectKey) {
+						expectKey = false;
+						afterKey = true;
+					} else {
+						closed = depth == 0;
+					}
+					expectValue = false;
+					i = end;
+			}
+		}
+		return closed ? out.toString() : null;
+	}
+
+	/**
+	 * Finder of closing quotes of JSON strings in a single body. The position of the next backslash is remembered between calls, so
+	 * the body is scanned at most twice regardless of the number of strings.
+	 */
+	static final class StringEnds {
+		private final String json;
+		// -2: not searched yet, -1: no more backslashes
+		private int nextEscape = -2;
+
+		StringEnds(@Nonnull String text) {
+			json = text;
+		}
+
+		/**
+		 * Find the closing quote of a string.
+		 *
+		 * @param from position after the opening quote
+		 * @return position of the closing quote or -1 if the string is not closed
+		 */
+		int find(int from) {
+			int i = from;
+			while (true) {
+				int quote = json.indexOf('"', i);
+				if (quote < 0) {
+					return -1;
+				}
+				if (nextEscape != -1 && nextEscape < i) {
+					nextEscape = json.indexOf('\\', i);
+				}
+				if (nextEscape < 0 || nextEscape > quote) {
+					return quote;
+				}
+				i = nextEscape + 2;
+			}
+		}
+	}
+}
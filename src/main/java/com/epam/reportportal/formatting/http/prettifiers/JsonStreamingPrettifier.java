@@ -0,0 +1,601 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+
+/**
+ * JSON prettifier which copies tokens from parser to generator in a single streaming pass, without building a tree, so memory usage
+ * does not depend on the body size.
+ * <p>
+ * During the same pass the prettifier can mask values: by field names, at any depth, and by simple JSONPath expressions. Supported
+ * JSONPath syntax: root <code>$</code>, child <code>.name</code> or <code>['name']</code>, array index <code>[0]</code>, wildcard
+ * <code>.*</code> or <code>[*]</code> and recursive descent <code>..name</code>. If an object or an array is masked, it is replaced
+ * with the mask string entirely. String values longer than the limit, set with {@link Builder#truncateValues(int)}, are truncated to
+ * <code>prefix&hellip;(+K chars)</code>, so big base64 blobs don't inflate the log while the document structure stays intact. Example:
+ * <pre>{@code
+ * Prettifier prettifier = new JsonStreamingPrettifier.Builder()
+ *     .maskKeys("password", "access_token")
+ *     .maskPaths("$.card.number", "$.items[*].token")
+ *     .build();
+ * }</pre>
+ * Output layout is defined by {@link Mode}: usual pretty printing, compact pretty printing, which keeps small objects and arrays of
+ * scalar values in one line and wraps long arrays of scalar values by the width, or minified output. Bodies longer than the threshold
+ * set with {@link Builder#minifyAbove(int)} are always minified. Use different instances in the prettifier map to select the layout
+ * by media type.
+ * <p>
+ * Bodies longer than the threshold set with {@link Builder#fastPathAbove(int)} are re-indented without tokenizing values, by
+ * scanning for structural characters only, if no masking and truncation is configured and the mode is not {@link Mode#COMPACT}. The
+ * layout is the same, but strings and numbers are copied as they appear in the source.
+ * <p>
+ * If the body can't be parsed it is returned as is. If masking is configured, the output before the invalid content is returned
+ * followed by the mask instead, or the mask only if the body doesn't look like JSON at all, so secrets are not logged.
+ */
+public class JsonStreamingPrettifier implements Prettifier {
+	public static final String DEFAULT_MASK = "<removed>";
+	public static final int DEFAULT_INDENT = 2;
+	public static final int DEFAULT_WIDTH = 80;
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	/**
+	 * Preallocated failure signal without stack trace, it's caught in {@link #apply(String)} to return the body as is.
+	 */
+	private static final RuntimeException FAILURE = new RuntimeException("Invalid JSON content", null, false, false) {
+	};
+
+	public static final JsonStreamingPrettifier INSTANCE = new Builder().build();
+
+	private final Set<String> maskKeys;
+	private final List<PathSegment[]> maskPaths;
+	private final String mask;
+	private final Mode mode;
+	private final int indent;
+	private final int width;
+	private final int minifyThreshold;
+	private final int maxValueLength;
+	private final int fastPathThreshold;
+
+	/**
+	 * Output layout.
+	 */
+	public enum Mode {
+		/**
+		 * Jackson's default pretty printing, the same as {@link JsonPrettifier} output.
+		 */
+		PRETTY,
+		/**
+		 * Pretty printing which keeps objects and arrays of scalar values in one line if they fit into the width and wraps long arrays
+		 * of scalar values by the width.
+		 */
+		COMPACT,
+		/**
+		 * No whitespaces at all.
+		 */
+		MINIFY
+	}
+
+	private JsonStreamingPrettifier(@Nonnull Set<String> keys, @Nonnull List<PathSegment[]> paths, @Nonnull String maskString,
+			@Nonnull Mode outputMode, int indentSize, int maxWidth, int minifyAboveLength, int maxValueLengthLimit,
+			int fastPathAboveLength) {
+		maskKeys = keys;
+		maskPaths = paths;
+		mask = maskString;
+		mode = outputMode;
+		indent = indentSize;
+		width = maxWidth;
+		minifyThreshold = minifyAboveLength;
+		maxValueLength = maxValueLengthLimit;
+		fastPathThreshold = fastPathAboveLength;
+	}
+
+	@Override
+	public String apply(String json) {
+		if (!ContentSniffer.isJsonLike(json)) {
+			return isMasking() && json != null && !json.trim().isEmpty() ? mask : json;
+		}
+		Mode outputMode = minifyThreshold > 0 && json.length() > minifyThreshold ? Mode.MINIFY : mode;
+		StringWriter writer = new StringWriter(outputMode == Mode.MINIFY ? json.length() : json.length() + (json.length() >> 2));
+		try {
+			if (fastPathThreshold > 0 && json.length() > fastPathThreshold && outputMode != Mode.COMPACT && !isMasking()
+					&& maxValueLength <= 0) {
+				String result = JsonReindenter.reindent(json, outputMode == Mode.MINIFY ? -1 : indent);
+				if (result != null) {
+					return result;
+				}
+				// not a valid document for the fast path, let Jackson decide
+			}
+			try (JsonParser parser = JSON_FACTORY.createParser(json); JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+				if (outputMode == Mode.COMPACT) {
+					CompactPrettyPrinter printer = new CompactPrettyPrinter(indent, width);
+					generator.setPrettyPrinter(printer);
+					new CompactWriter(parser, generator, printer).write();
+				} else {
+					if (outputMode == Mode.PRETTY) {
+						generator.setPrettyPrinter(new DefaultPrettyPrinter().withObjectIndenter(new DefaultIndenter(
+								" ".repeat(indent),
+								DefaultIndenter.SYS_LF
+						)));
+					}
+					copy(parser, generator);
+				}
+			}
+			return writer.toString().trim();
+		} catch (Exception ignore) {
+			return isMasking() ? redact(writer) : json;
+		}
+	}
+
+	/**
+	 * Output for an invalid body when masking is configured: the body can't be returned as is, since unparsed values may contain
+	 * secrets, so the output written before the failure, where values are already masked, is returned followed by the mask.
+	 */
+	@Nonnull
+	private String redact(@Nonnull StringWriter writer) {
+		String written = writer.toString().trim();
+		return written.isEmpty() ? mask : written + DefaultIndenter.SYS_LF + mask;
+	}
+
+	@Override
+	public boolean isMasking() {
+		return !maskKeys.isEmpty() || !maskPaths.isEmpty();
+	}
+
+	private void copy(@Nonnull JsonParser parser, @Nonnull JsonGenerator generator) throws IOException {
+		boolean masking = isMasking();
+		JsonToken token = parser.nextToken();
+		if (token == null) {
+			throw FAILURE;
+		}
+		int depth = 0;
+		do {
+			switch (token) {
+				case FIELD_NAME:
+					generator.copyCurrentEvent(parser);
+					break;
+				case START_OBJECT:
+				case START_ARRAY:
+					if (masking && isMasked(parser.getParsingContext().getParent())) {
+						generator.writeString(mask);
+						parser.skipChildren();
+					} else {
+						generator.copyCurrentEvent(parser);
+						depth++;
+					}
+					break;
+				case END_OBJECT:
+				case END_ARRAY:
+					generator.copyCurrentEvent(parser);
+					depth--;
+					break;
+				default:
+					if (masking && isMasked(parser.getParsingContext())) {
+						generator.writeString(mask);
+					} else if (token == JsonToken.VALUE_STRING && maxValueLength > 0 && parser.getTextLength() > maxValueLength) {
+						generator.writeString(ValueTruncator.truncate(parser.getText(), maxValueLength));
+					} else {
+						generator.copyCurrentEvent(parser);
+					}
+			}
+		} while (depth > 0 && (token = parser.nextToken()) != null);
+		if (depth > 0) {
+			throw FAILURE;
+		}
+	}
+
+	/**
+	 * Single document writer for compact mode. Objects and arrays are buffered until their end, the first nested container or the
+	 * width overflow, then written either in one line or as multi-line containers.
+	 */
+	private class CompactWriter {
+		private final JsonParser parser;
+		private final JsonGenerator generator;
+		private final CompactPrettyPrinter printer;
+		private final boolean masking;
+
+		private CompactWriter(@Nonnull JsonParser jsonParser, @Nonnull JsonGenerator jsonGenerator,
+				@Nonnull CompactPrettyPrinter prettyPrinter) {
+			parser = jsonParser;
+			generator = jsonGenerator;
+			printer = prettyPrinter;
+			masking = isMasking();
+		}
+
+		private void write() throws IOException {
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				throw FAILURE;
+			}
+			writeValue(token);
+		}
+
+		@Nonnull
+		private JsonToken nextToken() throws IOException {
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				throw FAILURE;
+			}
+			return token;
+		}
+
+		private void writeValue(@Nonnull JsonToken token) throws IOException {
+			if (token.isStructStart()) {
+				if (masking && isMasked(parser.getParsingContext().getParent())) {
+					parser.skipChildren();
+					writeScalarValue(JsonToken.VALUE_STRING, mask);
+				} else {
+					writeContainer(token);
+				}
+			} else if (masking && isMasked(parser.getParsingContext())) {
+				writeScalarValue(JsonToken.VALUE_STRING, mask);
+			} else {
+				writeScalarValue(token, scalarText(token));
+			}
+		}
+
+		@Nonnull
+		private String scalarText(@Nonnull JsonToken token) throws IOException {
+			return token == JsonToken.VALUE_STRING ? ValueTruncator.truncate(parser.getText(), maxValueLength) : parser.getText();
+		}
+
+		private void writeScalarValue(@Nonnull JsonToken token, @Nonnull String text) throws IOException {
+			printer.beforeValue(valueWidth(token, text));
+			writeScalar(token, text);
+		}
+
+		private void writeScalar(@Nonnull JsonToken token, @Nonnull String text) throws IOException {
+			switch (token) {
+				case FIELD_NAME:
+					generator.writeFieldName(text);
+					break;
+				case VALUE_STRING:
+					generator.writeString(text);
+					break;
+				case VALUE_NUMBER_INT:
+				case VALUE_NUMBER_FLOAT:
+					generator.writeNumber(text);
+					break;
+				case VALUE_TRUE:
+				case VALUE_FALSE:
+					generator.writeBoolean(token == JsonToken.VALUE_TRUE);
+					break;
+				default:
+					generator.writeNull();
+			}
+		}
+
+		private int valueWidth(@Nonnull JsonToken token, @Nonnull String text) {
+			return token == JsonToken.VALUE_STRING ? text.length() + 2 : text.length();
+		}
+
+		private void writeContainer(@Nonnull JsonToken start) throws IOException {
+			List<JsonToken> tokens = new ArrayList<>();
+			List<String> texts = new ArrayList<>();
+			int containerWidth = 4;
+			JsonToken token;
+			while (true) {
+				token = nextToken();
+				if (token.isStructEnd()) {
+					printer.beforeValue(containerWidth);
+					printer.inlineNext();
+					writeStart(start);
+					for (int i = 0; i < tokens.size(); i++) {
+						writeScalar(tokens.get(i), texts.get(i));
+					}
+					generator.copyCurrentEvent(parser);
+					return;
+				}
+				String text;
+				if (token == JsonToken.FIELD_NAME) {
+					text = parser.currentName();
+					containerWidth += text.length() + 5;
+				} else {
+					if (token.isStructStart()) {
+						if (!masking || !isMasked(parser.getParsingContext().getParent())) {
+							break;
+						}
+						parser.skipChildren();
+						token = JsonToken.VALUE_STRING;
+						text = mask;
+					} else if (masking && isMasked(parser.getParsingContext())) {
+						token = JsonToken.VALUE_STRING;
+						text = mask;
+					} else {
+						text = scalarText(token);
+					}
+					containerWidth += valueWidth(token, text) + 2;
+				}
+				tokens.add(token);
+				texts.add(text);
+				if (containerWidth > printer.getWidth()) {
+					token = null;
+					break;
+				}
+			}
+
+			// the container doesn't fit into one line
+			printer.beforeValue(printer.getWidth() + 1);
+			writeStart(start);
+			for (int i = 0; i < tokens.size(); i++) {
+				JsonToken bufferedToken = tokens.get(i);
+				if (bufferedToken == JsonToken.FIELD_NAME) {
+					writeScalar(bufferedToken, texts.get(i));
+				} else {
+					writeScalarValue(bufferedToken, texts.get(i));
+				}
+			}
+			for (token = token == null ? nextToken() : token; !token.isStructEnd(); token = nextToken()) {
+				if (token == JsonToken.FIELD_NAME) {
+					generator.writeFieldName(parser.currentName());
+				} else {
+					writeValue(token);
+				}
+			}
+			generator.copyCurrentEvent(parser);
+		}
+
+		private void writeStart(@Nonnull JsonToken start) throws IOException {
+			if (start == JsonToken.START_OBJECT) {
+				generator.writeStartObject();
+			} else {
+				generator.writeStartArray();
+			}
+		}
+	}
+
+	/**
+	 * Check if a value should be masked.
+	 *
+	 * @param context parsing context the value belongs to
+	 * @return <code>true</code> if the value should be masked
+	 */
+	private boolean isMasked(@Nullable JsonStreamContext context) {
+		if (context == null) {
+			return false;
+		}
+		if (context.inObject() && maskKeys.contains(context.getCurrentName())) {
+			return true;
+		}
+		for (PathSegment[] path : maskPaths) {
+			if (matches(path, path.length - 1, context)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean matches(@Nonnull PathSegment[] path, int index, @Nullable JsonStreamContext context) {
+		if (context == null) {
+			return false;
+		}
+		if (index < 0) {
+			return context.inRoot();
+		}
+		if (context.inRoot() || !path[index].matches(context)) {
+			return false;
+		}
+		if (!path[index].recursive) {
+			return matches(path, index - 1, context.getParent());
+		}
+		for (JsonStreamContext ancestor = context.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+			if (matches(path, index - 1, ancestor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Nonnull
+	static PathSegment[] parsePath(@Nonnull String path) {
+		if (!path.startsWith("$")) {
+			throw new IllegalArgumentException("JSONPath should start with '$': " + path);
+		}
+		List<PathSegment> segments = new ArrayList<>();
+		int i = 1;
+		while (i < path.length()) {
+			char c = path.charAt(i);
+			boolean recursive = false;
+			if (c == '.') {
+				if (i + 1 < path.length() && path.charAt(i + 1) == '.') {
+					recursive = true;
+					i++;
+				}
+				i++;
+				if (i < path.length() && path.charAt(i) == '[') {
+					continue;
+				}
+				int end = i;
+				while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					end++;
+				}
+				String name = path.substring(i, end);
+				if (name.isEmpty()) {
+					throw new IllegalArgumentException("Invalid JSONPath: " + path);
+				}
+				segments.add("*".equals(name) ? new PathSegment(null, -1, recursive) : new PathSegment(name, -1, recursive));
+				i = end;
+			} else if (c == '[') {
+				boolean previousDots = i >= 2 && path.charAt(i - 1) == '.' && path.charAt(i - 2) == '.';
+				int end = path.indexOf(']', i);
+				if (end < 0) {
+					throw new IllegalArgumentException("Invalid JSONPath: " + path);
+				}
+				String selector = path.substring(i + 1, end).trim();
+				if ("*".equals(selector)) {
+					segments.add(new PathSegment(null, -1, previousDots));
+				} else if (selector.startsWith("'") || selector.startsWith("\"")) {
+					segments.add(new PathSegment(selector.substring(1, selector.length() - 1), -1, previousDots));
+				} else {
+					segments.add(new PathSegment(null, Integer.parseInt(selector), previousDots));
+				}
+				i = end + 1;
+			} else {
+				throw new IllegalArgumentException("Invalid JSONPath: " + path);
+			}
+		}
+		return segments.toArray(new PathSegment[0]);
+	}
+
+	static class PathSegment {
+		private final String name;
+		private final int index;
+		private final boolean recursive;
+
+		private PathSegment(@Nullable String segmentName, int segmentIndex, boolean recursiveDescent) {
+			name = segmentName;
+			index = segmentIndex;
+			recursive = recursiveDescent;
+		}
+
+		private boolean matches(@Nonnull JsonStreamContext context) {
+			if (name != null) {
+				return context.inObject() && name.equals(context.getCurrentName());
+			}
+			if (index >= 0) {
+				return context.inArray() && index == context.getCurrentIndex();
+			}
+			return true;
+		}
+	}
+
+	public static class Builder {
+		private final Set<String> maskKeys = new HashSet<>();
+		private final List<PathSegment[]> maskPaths = new ArrayList<>();
+		private String mask = DEFAULT_MASK;
+		private Mode mode = Mode.PRETTY;
+		private int indent = DEFAULT_INDENT;
+		private int width = DEFAULT_WIDTH;
+		private int minifyThreshold;
+		private int maxValueLength;
+		private int fastPathThreshold;
+
+		/**
+		 * Mask values of fields with the specific names at any depth.
+		 *
+		 * @param keys field names
+		 * @return the builder instance
+		 */
+		public Builder maskKeys(@Nonnull String... keys) {
+			maskKeys.addAll(Arrays.asList(keys));
+			return this;
+		}
+
+		/**
+		 * Mask values at the specific JSONPath expressions.
+		 *
+		 * @param paths JSONPath expressions
+		 * @return the builder instance
+		 */
+		public Builder maskPaths(@Nonnull String... paths) {
+			Arrays.stream(paths).map(JsonStreamingPrettifier::parsePath).forEach(maskPaths::add);
+			return this;
+		}
+
+		public Builder mask(@Nonnull String maskString) {
+			mask = maskString;
+			return this;
+		}
+
+		/**
+		 * Output JSON without any whitespaces instead of pretty printing it.
+		 *
+		 * @param minifyOutput <code>true</code> to minify output
+		 * @return the builder instance
+		 */
+		public Builder minify(boolean minifyOutput) {
+			mode = minifyOutput ? Mode.MINIFY : Mode.PRETTY;
+			return this;
+		}
+
+		public Builder mode(@Nonnull Mode outputMode) {
+			mode = outputMode;
+			return this;
+		}
+
+		public Builder indent(int indentSize) {
+			indent = indentSize;
+			return this;
+		}
+
+		/**
+		 * Set maximum width of objects and arrays written in one line in compact mode.
+		 *
+		 * @param maxWidth width in characters
+		 * @return the builder instance
+		 */
+		public Builder width(int maxWidth) {
+			width = maxWidth;
+			return this;
+		}
+
+		/**
+		 * Minify bodies longer than the specific length regardless of the mode.
+		 *
+		 * @param bodyLength body length in characters, zero or negative means no threshold
+		 * @return the builder instance
+		 */
+		public Builder minifyAbove(int bodyLength) {
+			minifyThreshold = bodyLength;
+			return this;
+		}
+
+		/**
+		 * Truncate string values longer than the specific length, Data URI headers are kept.
+		 *
+		 * @param maxLength maximum string value length, zero or negative means no truncation
+		 * @return the builder instance
+		 */
+		public Builder truncateValues(int maxLength) {
+			maxValueLength = maxLength;
+			return this;
+		}
+
+		/**
+		 * Re-indent bodies longer than the specific length by structural characters scanning instead of tokenizing, see the class
+		 * description for the conditions.
+		 *
+		 * @param bodyLength body length in characters, zero or negative means the fast path is not used
+		 * @return the builder instance
+		 */
+		public Builder fastPathAbove(int bodyLength) {
+			fastPathThreshold = bodyLength;
+			return this;
+		}
+
+		public JsonStreamingPrettifier build() {
+			return new JsonStreamingPrettifier(
+					Collections.unmodifiableSet(new HashSet<>(maskKeys)),
+					Collections.unmodifiableList(new ArrayList<>(maskPaths)),
+					mask,
+					mode,
+					indent,
+					width,
+					minifyThreshold,
+					maxValueLength,
+					fastPathThreshold
+			);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+
+/**
+ * Prettifier for bodies of multiple JSON records: NDJSON and JSON Lines, where records are separated by line feeds, and JSON text
+ * sequences (RFC 7464), where each record is prefixed with the record separator character. If a body starts with the record
+ * separator only it delimits records, so records of JSON text sequences may span multiple lines.
+ * <p>
+ * Records are prettified one at a time with the record prettifier and separated with line breaks, so memory usage depends on the
+ * record size only. Only the first records, up to the limit set with {@link Builder#maxRecords(int)}, are rendered, the rest are
+ * counted and replaced with a summary line: <code>&hellip;(+N records, M bytes)</code>. Records which can't be prettified are written
+ * as is.
+ */
+public class NdjsonPrettifier implements Prettifier {
+	public static final int DEFAULT_MAX_RECORDS = 100;
+
+	private static final char RECORD_SEPARATOR = '\u001E';
+
+	public static final NdjsonPrettifier INSTANCE = new Builder().build();
+
+	private final Prettifier recordPrettifier;
+	private final int maxRecords;
+
+	private NdjsonPrettifier(@Nonnull Prettifier prettifier, int maxRecordNumber) {
+		recordPrettifier = prettifier;
+		maxRecords = maxRecordNumber;
+	}
+
+	@Override
+	public boolean isMasking() {
+		return recordPrettifier.isMasking();
+	}
+
+	private static boolean isDelimiter(char c, boolean sequence) {
+		return c == RECORD_SEPARATOR || !sequence && c == '\n';
+	}
+
+	private static boolean isBlank(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\uFEFF';
+	}
+
+	private static boolean isSequence(@Nonnull String body) {
+		for (int i = 0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			if (!isBlank(c)) {
+				return c == RECORD_SEPARATOR;
+			}
+		}
+		return false;
+	}
+
+	private static long utf8Length(@Nonnull String text, int start, int end) {
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				result++;
+			} else if (c < 0x800) {
+				result += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+				result += 4;
+				i++;
+			} else {
+				result += 3;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public String apply(String body) {
+		if (body == null || body.isEmpty()) {
+			return body;
+		}
+		StringBuilder out = new StringBuilder();
+		int rendered = 0;
+		long omittedRecords = 0;
+		long omittedBytes = 0;
+		boolean sequence = isSequence(body);
+		int length = body.length();
+		int position = 0;
+		while (position < length) {
+			int start = position;
+			while (start < length && (isBlank(body.charAt(start)) || isDelimiter(body.charAt(start), sequence))) {
+				start++;
+			}
+			int end = start;
+			while (end < length && !isDelimiter(body.charAt(end), sequence)) {
+				end++;
+			}
+			position = end;
+			while (end > start && isBlank(body.charAt(end - 1))) {
+				end--;
+			}
+			if (end <= start) {
+				continue;
+			}
+			if (rendered >= maxRecords) {
+				omittedRecords++;
+				omittedBytes += utf8Length(body, start, end);
+				continue;
+			}
+			String record = body.substring(start, end);
+			String result;
+			try {
+				result = recordPrettifier.apply(record);
+			} catch (RuntimeException ignore) {
+				result = null;
+			}
+			if (out.length() > 0) {
+				out.append(LINE_DELIMITER);
+			}
+			out.append(result == null ? record : result);
+			rendered++;
+		}
+		if (omittedRecords > 0) {
+			if (out.length() > 0) {
+				out.append(LINE_DELIMITER);
+			}
+			out.append("\u2026(+").append(omittedRecords).append(" records, ").append(omittedBytes).append(" bytes)");
+		}
+		return out.toString();
+	}
+
+	public static class Builder {
+		private Prettifier recordPrettifier = JsonStreamingPrettifier.INSTANCE;
+		private int maxRecords = DEFAULT_MAX_RECORDS;
+
+		/**
+		 * Set the prettifier for a single record, {@link JsonStreamingPrettifier#INSTANCE} is used by default.
+		 *
+		 * @param prettifier record prettifier
+		 * @return the builder instance
+		 */
+		public Builder recordPrettifier(@Nonnull Prettifier prettifier) {
+			recordPrettifier = prettifier;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of rendered records, the rest are summarized.
+		 *
+		 * @param maxRecordNumber maximum number of records
+		 * @return the builder instance
+		 */
+		public Builder maxRecords(int maxRecordNumber) {
+			if (maxRecordNumber < 0) {
+				throw new IllegalArgumentException("Maximum record number should not be negative");
+			}
+			maxRecords = maxRecordNumber;
+			return this;
+		}
+
+		public NdjsonPrettifier build() {
+			return new NdjsonPrettifier(recordPrettifier, maxRecords);
+		}
+	}
+}
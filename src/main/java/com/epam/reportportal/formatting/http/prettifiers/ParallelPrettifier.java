@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+
+/**
+ * Prettifier which splits large bodies into chunks, prettifies them with the delegate prettifier in a {@link ForkJoinPool} and
+ * stitches the results back in the original order.
+ * <p>
+ * Two body layouts are supported:
+ * <ul>
+ *     <li>{@link Split#ARRAY}: top-level JSON arrays are split at element boundaries, each chunk is prettified as a smaller array. The
+ *     delegate should produce Jackson's default pretty printer layout, like {@link JsonPrettifier}, or minified output, see
+ *     {@link Builder#minified(boolean)}, and shouldn't depend on the body length. Since the default layout doesn't indent array
+ *     elements, the stitched output is the same as the delegate output for the whole body.</li>
+ *     <li>{@link Split#LINES}: line-delimited bodies, like NDJSON, are split into chunks of lines, each non-blank line is prettified
+ *     separately and the results are joined with line breaks.</li>
+ * </ul>
+ * Bodies shorter than the threshold and bodies which can't be split are prettified by the delegate in the calling thread. If the
+ * delegate fails to prettify any chunk the body is returned as is.
+ */
+public class ParallelPrettifier implements Prettifier {
+	public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+	public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+	private static final String PRETTY_SEPARATOR = ", ";
+	private static final String MINIFIED_SEPARATOR = ",";
+
+	private final Prettifier delegate;
+	private final ForkJoinPool pool;
+	private final Split split;
+	private final int threshold;
+	private final int chunkSize;
+	private final boolean minified;
+
+	/**
+	 * Body layout which defines how the body is split into chunks.
+	 */
+	public enum Split {
+		/**
+		 * Top-level JSON array split at element boundaries.
+		 */
+		ARRAY,
+		/**
+		 * Line-delimited records.
+		 */
+		LINES
+	}
+
+	private ParallelPrettifier(@Nonnull Prettifier delegatePrettifier, @Nonnull ForkJoinPool forkJoinPool, @Nonnull Split splitMode,
+			int thresholdLength, int chunkLength, boolean minifiedOutput) {
+		delegate = delegatePrettifier;
+		pool = forkJoinPool;
+		split = splitMode;
+		threshold = thresholdLength;
+		chunkSize = chunkLength;
+		minified = minifiedOutput;
+	}
+
+	@Override
+	public boolean isMasking() {
+		return delegate.isMasking();
+	}
+
+	@Override
+	public String apply(String body) {
+		if (body == null || body.length() < threshold) {
+			return split == Split.ARRAY || body == null ? delegate.apply(body) : prettifyLines(body);
+		}
+		List<String> chunks = split == Split.ARRAY ? splitArray(body) : splitLines(body);
+		if (chunks == null || chunks.size() <= 1) {
+			return split == Split.ARRAY ? delegate.apply(body) : prettifyLines(body);
+		}
+		List<ForkJoinTask<String>> tasks = new ArrayList<>(chunks.size());
+		for (String chunk : chunks) {
+			tasks.add(pool.submit(() -> split == Split.ARRAY ? prettifyArrayChunk(chunk) : prettifyLines(chunk)));
+		}
+		StringBuilder result = new StringBuilder(body.length() + (body.length() >> 2));
+		if (split == Split.ARRAY) {
+			result.append(minified ? "[" : "[ ");
+		}
+		for (int i = 0; i < tasks.size(); i++) {
+			String prettified = tasks.get(i).join();
+			if (prettified == null) {
+				tasks.subList(i + 1, tasks.size()).forEach(t -> t.cancel(false));
+				return body;
+			}
+			if (i > 0) {
+				result.append(split == Split.ARRAY ? (minified ? MINIFIED_SEPARATOR : PRETTY_SEPARATOR) : LINE_DELIMITER);
+			}
+			result.append(prettified);
+		}
+		if (split == Split.ARRAY) {
+			result.append(minified ? "]" : " ]");
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @return array elements of the chunk, prettified, without enclosing brackets or <code>null</code> if the chunk can't be prettified
+	 */
+	private String prettifyArrayChunk(@Nonnull String chunk) {
+		String result = delegate.apply(chunk);
+		if (result == null || result == chunk || !result.startsWith("[") || !result.endsWith("]")) {
+			return null;
+		}
+		return result.substring(1, result.length() - 1).trim();
+	}
+
+	@Nonnull
+	private String prettifyLines(@Nonnull String lines) {
+		StringBuilder result = new StringBuilder(lines.length() + (lines.length() >> 2));
+		int start = 0;
+		while (start < lines.length()) {
+			int end = lines.indexOf('\n', start);
+			if (end < 0) {
+				end = lines.length();
+			}
+			String line = lines.substring(start, end).trim();
+			if (!line.isEmpty()) {
+				if (result.length() > 0) {
+					result.append(LINE_DELIMITER);
+				}
+				result.append(delegate.apply(line));
+			}
+			start = end + 1;
+		}
+		return result.toString();
+	}
+
+	@Nonnull
+	private List<String> splitLines(@Nonnull String body) {
+		List<String> chunks = new ArrayList<>();
+		int start = 0;
+		while (start < body.length()) {
+			int end = start + chunkSize >= body.length() ? -1 : body.indexOf('\n', start + chunkSize);
+			if (end < 0) {
+				chunks.add(body.substring(start));
+				break;
+			}
+			chunks.add(body.substring(start, end));
+			start = end + 1;
+		}
+		return chunks;
+	}
+
+	/**
+	 * Split a top-level JSON array into smaller arrays of the chunk size.
+	 *
+	 * @return list of arrays or <code>null</code> if the body is not an array or its brackets are not balanced
+	 */
+	private List<String> splitArray(@Nonnull String body) {
+		int start = 0;
+		while (start < body.length() && Character.isWhitespace(body.charAt(start))) {
+			start++;
+		}
+		int end = body.length() - 1;
+		while (end > start && Character.isWhitespace(body.charAt(end))) {
+			end--;
+		}
+		if (start >= end || body.charAt(start) != '[' || body.charAt(end) != ']') {
+			return null;
+		}
+		JsonReindenter.StringEnds strings = new JsonReindenter.StringEnds(body);
+		List<String> chunks = new ArrayList<>();
+		int chunkStart = start + 1;
+		int depth = 0;
+		for (int i = start + 1; i < end; i++) {
+			char c = body.charAt(i);
+			switch (c) {
+				case '"':
+					int quote = strings.find(i + 1);
+					if (quote < 0 || quote >= end) {
+						return null;
+					}
+					i = quote;
+					break;
+				case '[':
+				case '{':
+					depth++;
+					break;
+				case ']':
+				case '}':
+					if (--depth < 0) {
+						return null;
+					}
+					break;
+				case ',':
+					if (depth == 0 && i - chunkStart >= chunkSize) {
+						chunks.add("[" + body.substring(chunkStart, i) + "]");
+						chunkStart = i + 1;
+					}
+					break;
+				default:
+			}
+		}
+		if (depth != 0) {
+			return null;
+		}
+		chunks.add("[" + body.substring(chunkStart, end) + "]");
+		return chunks;
+	}
+
+	public static class Builder {
+		private final Prettifier delegate;
+		private ForkJoinPool pool = ForkJoinPool.commonPool();
+		private Split split = Split.ARRAY;
+		private int threshold = DEFAULT_THRESHOLD;
+		private int chunkSize = DEFAULT_CHUNK_SIZE;
+		private boolean minified;
+
+		public Builder(@Nonnull Prettifier delegatePrettifier) {
+			delegate = delegatePrettifier;
+		}
+
+		/**
+		 * Set the pool to prettify chunks in, the common pool is used by default.
+		 *
+		 * @param forkJoinPool pool instance
+		 * @return the builder instance
+		 */
+		public Builder pool(@Nonnull ForkJoinPool forkJoinPool) {
+			pool = forkJoinPool;
+			return this;
+		}
+
+		public Builder split(@Nonnull Split splitMode) {
+			split = splitMode;
+			return this;
+		}
+
+		/**
+		 * Set the body length from which bodies are split.
+		 *
+		 * @param length body length in characters
+		 * @return the builder instance
+		 */
+		public Builder threshold(int length) {
+			threshold = length;
+			return this;
+		}
+
+		/**
+		 * Set approximate chunk length, chunks are cut at the first element or line boundary after it.
+		 *
+		 * @param length chunk length in characters
+		 * @return the builder instance
+		 */
+		public Builder chunkSize(int length) {
+			if (length <= 0) {
+				throw new IllegalArgumentException("Chunk size should be a positive number");
+			}
+			chunkSize = length;
+			return this;
+		}
+
+		/**
+		 * Stitch array chunks without whitespaces, for delegates which minify JSON.
+		 *
+		 * @param minifiedOutput <code>true</code> if the delegate minifies JSON
+		 * @return the builder instance
+		 */
+		public Builder minified(boolean minifiedOutput) {
+			minified = minifiedOutput;
+			return this;
+		}
+
+		public ParallelPrettifier build() {
+			return new ParallelPrettifier(delegate, pool, split, threshold, chunkSize, minified);
+		}
+	}
+}
@@ -19,4 +19,14 @@ package com.epam.reportportal.formatting.http.prettifiers;
 import java.util.function.Function;
 
 public interface Prettifier extends Function<String, String> {
+
+	/**
+	 * Whether the prettifier masks sensitive data. Such prettifiers must always be applied, e.g. they are not skipped by
+	 * {@link com.epam.reportportal.formatting.http.PrettifierCircuitBreaker}.
+	 *
+	 * @return true if the prettifier masks data
+	 */
+	default boolean isMasking() {
+		return false;
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Lazy handles of default prettifiers.
+ * <p>
+ * Each handle creates its prettifier on the first use with the holder class idiom, so referencing the default prettifier map doesn't
+ * load Jackson, JAXP and Jsoup classes until a body of the corresponding type is logged. To avoid slow formatting of the first
+ * logged body call {@link #warmUp()} on startup: it initializes the prettifiers and formats small samples in a daemon thread.
+ */
+public final class PrettifierRegistry {
+	public static final Prettifier JSON = body -> JsonHolder.INSTANCE.apply(body);
+	public static final Prettifier XML = body -> XmlHolder.INSTANCE.apply(body);
+	public static final Prettifier HTML = body -> HtmlHolder.INSTANCE.apply(body);
+	public static final Prettifier NDJSON = body -> NdjsonHolder.INSTANCE.apply(body);
+
+	private static final String WARM_UP_THREAD_NAME = "rp-prettifier-warm-up";
+
+	private PrettifierRegistry() {
+		throw new RuntimeException("No instances should exist for the class!");
+	}
+
+	private static class JsonHolder {
+		private static final Prettifier INSTANCE = JsonPrettifier.INSTANCE;
+	}
+
+	private static class XmlHolder {
+		private static final Prettifier INSTANCE = XmlPrettifier.INSTANCE;
+	}
+
+	private static class HtmlHolder {
+		private static final Prettifier INSTANCE = HtmlStreamingPrettifier.INSTANCE;
+	}
+
+	private static class NdjsonHolder {
+		private static final Prettifier INSTANCE = NdjsonPrettifier.INSTANCE;
+	}
+
+	/**
+	 * Initialize default prettifiers and format small samples in the current thread.
+	 */
+	public static void warmUpNow() {
+		JSON.apply("{\"warm\": [\"up\", 1, true, null]}");
+		XML.apply("<?xml version=\"1.0\"?><warm><up attribute=\"1\">text</up></warm>");
+		HTML.apply("<!DOCTYPE html><html><head><title>warm</title></head><body><p>up</p></body></html>");
+		NDJSON.apply("{\"warm\": 1}\n{\"up\": 2}\n");
+	}
+
+	/**
+	 * Initialize default prettifiers and format small samples in a background daemon thread.
+	 *
+	 * @return future which is completed when the warm-up is finished
+	 */
+	@Nonnull
+	public static CompletableFuture<Void> warmUp() {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				warmUpNow();
+				result.complete(null);
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}, WARM_UP_THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+		return result;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Truncation of long scalar values for streaming prettifiers: <code>prefix&hellip;(+K chars)</code>.
+ */
+final class ValueTruncator {
+	private static final String DATA_URI_PREFIX = "data:";
+	private static final int MAX_DATA_URI_HEADER_LENGTH = 256;
+
+	private ValueTruncator() {
+		throw new RuntimeException("No instances should exist for the class!");
+	}
+
+	/**
+	 * Truncate the value if it's longer than the limit. Header of a Data URI, like <code>data:image/png;base64,</code>, is always kept
+	 * to show the content type.
+	 *
+	 * @param value     value to truncate
+	 * @param maxLength maximum value length, zero or negative means no truncation
+	 * @return the same value or its truncated copy
+	 */
+	@Nonnull
+	static String truncate(@Nonnull String value, int maxLength) {
+		if (maxLength <= 0 || value.length() <= maxLength) {
+			return value;
+		}
+		int prefix = maxLength;
+		if (value.startsWith(DATA_URI_PREFIX)) {
+			int comma = value.indexOf(',');
+			if (comma > 0 && comma < MAX_DATA_URI_HEADER_LENGTH) {
+				prefix = Math.max(prefix, comma + 1);
+			}
+		}
+		if (Character.isHighSurrogate(value.charAt(prefix - 1))) {
+			prefix--;
+		}
+		if (prefix >= value.length()) {
+			return value;
+		}
+		return value.substring(0, prefix) + "\u2026(+" + (value.length() - prefix) + " chars)";
+	}
+}
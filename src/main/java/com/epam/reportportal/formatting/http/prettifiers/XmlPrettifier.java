@@ -16,9 +16,13 @@
 
 package com.epam.reportportal.formatting.http.prettifiers;
 
+import jakarta.annotation.Nonnull;
 import org.xml.sax.InputSource;
 
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -31,8 +35,16 @@ import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * XML prettifier which parses the document into DOM and serializes it with indentation.
+ * <p>
+ * JAXP factories are created once per prettifier and configured to not process external entities and DTDs. Parsers and transformers
+ * are reused through a bounded {@link InstancePool}, so memory usage doesn't depend on the number of threads which log XML.
+ */
 public class XmlPrettifier implements Prettifier {
 	private static final int DEFAULT_INDENT = 2;
+	private static final String INDENT_AMOUNT = "{http://xml.apache.org/xslt}indent-amount";
+	private static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
 	private static final Map<String, String> DEFAULT_OUTPUT_PROPERTIES = new HashMap<String, String>() {{
 		put(OutputKeys.ENCODING, "UTF-8");
 		put(OutputKeys.OMIT_XML_DECLARATION, "yes");
@@ -41,37 +53,131 @@ public class XmlPrettifier implements Prettifier {
 
 	public static final XmlPrettifier INSTANCE = new XmlPrettifier();
 
-	private final ThreadLocal<Transformer> threadLocal;
+	private final DocumentBuilderFactory documentBuilderFactory;
+	private final TransformerFactory transformerFactory;
+	private final Map<String, String> outputProperties;
+	private final InstancePool<Worker> pool;
+
+	/**
+	 * Parser and transformer pair which is borrowed from the pool for a single document.
+	 */
+	private static class Worker {
+		private final DocumentBuilder documentBuilder;
+		private final Transformer transformer;
+
+		private Worker(@Nonnull DocumentBuilder builder, @Nonnull Transformer documentTransformer) {
+			documentBuilder = builder;
+			transformer = documentTransformer;
+		}
+
+		/**
+		 * Bring the parser and the transformer to the initial state, so a failed document doesn't affect the next one. Resetting the
+		 * transformer drops its output properties, so they are set again.
+		 *
+		 * @param outputProperties transformer output properties
+		 */
+		private void reset(@Nonnull Map<String, String> outputProperties) {
+			documentBuilder.reset();
+			transformer.reset();
+			outputProperties.forEach(transformer::setOutputProperty);
+		}
+	}
+
+	public XmlPrettifier(int indent, Map<String, String> outputSettings, int poolSize) {
+		documentBuilderFactory = createDocumentBuilderFactory();
+		transformerFactory = createTransformerFactory(indent);
+		outputProperties = new HashMap<>(outputSettings);
+		// Transformer.reset() drops the factory indent, so it is set again with other output properties after each reset; unknown
+		// namespaced properties are ignored by other implementations
+		outputProperties.putIfAbsent(INDENT_AMOUNT, String.valueOf(indent));
+		pool = new InstancePool<>(poolSize, this::createWorker);
+	}
 
 	public XmlPrettifier(int indent, Map<String, String> outputSettings) {
-		threadLocal = ThreadLocal.withInitial(() -> {
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			transformerFactory.setAttribute("indent-number", indent);
+		this(indent, outputSettings, DEFAULT_POOL_SIZE);
+	}
+
+	private XmlPrettifier() {
+		this(DEFAULT_INDENT, DEFAULT_OUTPUT_PROPERTIES);
+	}
+
+	private static void setFeature(@Nonnull DocumentBuilderFactory factory, @Nonnull String feature, boolean value) {
+		try {
+			factory.setFeature(feature, value);
+		} catch (ParserConfigurationException ignore) {
+			// the feature is not supported by the implementation
+		}
+	}
+
+	@Nonnull
+	private static DocumentBuilderFactory createDocumentBuilderFactory() {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		setFeature(factory, XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		setFeature(factory, "http://xml.org/sax/features/external-general-entities", false);
+		setFeature(factory, "http://xml.org/sax/features/external-parameter-entities", false);
+		setFeature(factory, "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+		factory.setXIncludeAware(false);
+		factory.setExpandEntityReferences(false);
+		return factory;
+	}
+
+	@Nonnull
+	private static TransformerFactory createTransformerFactory(int indent) {
+		TransformerFactory factory = TransformerFactory.newInstance();
+		factory.setAttribute("indent-number", indent);
+		try {
+			factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+		} catch (IllegalArgumentException ignore) {
+			// the attributes are not supported by the implementation
+		}
+		return factory;
+	}
+
+	@Nonnull
+	private Worker createWorker() {
+		try {
+			DocumentBuilder builder;
 			Transformer transformer;
-			try {
+			// JAXP factories are not thread-safe
+			synchronized (this) {
+				builder = documentBuilderFactory.newDocumentBuilder();
 				transformer = transformerFactory.newTransformer();
-			} catch (TransformerConfigurationException e) {
-				throw new IllegalArgumentException(e.getMessage(), e);
 			}
-			outputSettings.forEach(transformer::setOutputProperty);
-			return transformer;
-		});
+			Worker worker = new Worker(builder, transformer);
+			worker.reset(outputProperties);
+			return worker;
+		} catch (ParserConfigurationException | TransformerConfigurationException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
 	}
 
-	private XmlPrettifier() {
-		this(DEFAULT_INDENT, DEFAULT_OUTPUT_PROPERTIES);
+	/**
+	 * @return pool of parsers and transformers, to monitor its usage
+	 */
+	@Nonnull
+	public InstancePool<?> getPool() {
+		return pool;
 	}
 
 	@Override
 	public String apply(String xml) {
+		if (!ContentSniffer.isXmlLike(xml)) {
+			return xml;
+		}
+		Worker worker = pool.borrow();
 		try {
 			InputSource src = new InputSource(new StringReader(xml));
-			org.w3c.dom.Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(src);
+			org.w3c.dom.Document document = worker.documentBuilder.parse(src);
 			Writer out = new StringWriter();
-			threadLocal.get().transform(new DOMSource(document), new StreamResult(out));
+			worker.transformer.transform(new DOMSource(document), new StreamResult(out));
 			return out.toString().trim();
 		} catch (Exception ignore) {
 			return xml;
+		} finally {
+			// malformed documents are common in logs, so the worker is reset and reused instead of being created again
+			worker.reset(outputProperties);
+			pool.release(worker);
 		}
 	}
 }
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import jakarta.annotation.Nonnull;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * XML prettifier which re-indents the document in a single streaming pass with StAX parser, without building a DOM, so memory usage
+ * depends only on the document depth, not on its size. DTDs and external entities are not processed.
+ * <p>
+ * During the same pass the prettifier can mask element content and attribute values. Elements can be selected by:
+ * <ul>
+ *     <li>qualified name with namespace URI: <code>{http://docs.oasis-open.org/...-secext-1.0.xsd}Password</code>;</li>
+ *     <li>prefixed name as it appears in the document: <code>wsse:Password</code>;</li>
+ *     <li>local name in any namespace: <code>Password</code>;</li>
+ *     <li>absolute path of local names: <code>/Envelope/Header/Security/UsernameToken/Password</code>;</li>
+ *     <li>path suffix of local names: <code>//UsernameToken/Password</code>.</li>
+ * </ul>
+ * Attributes can be selected by qualified, prefixed or local name. Masked elements keep their tags, but the whole content is replaced
+ * with the mask. Text, CDATA and attribute values longer than the limit, set with {@link Builder#truncateValues(int)}, are truncated to
+ * <code>prefix&hellip;(+K chars)</code>. If the body can't be parsed it is returned as is. If masking is configured, the output before
+ * the invalid content is returned followed by the mask instead, or the mask only if the body doesn't look like XML at all.
+ */
+public class XmlStreamingPrettifier implements Prettifier {
+	public static final String DEFAULT_MASK = "<removed>";
+	public static final int DEFAULT_INDENT = 2;
+
+	private static final XMLInputFactory INPUT_FACTORY;
+
+	static {
+		INPUT_FACTORY = XMLInputFactory.newInstance();
+		INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+	}
+
+	public static final XmlStreamingPrettifier INSTANCE = new Builder().build();
+
+	private final int indent;
+	private final String mask;
+	private final NameMatcher elements;
+	private final NameMatcher attributes;
+	private final List<String[]> absolutePaths;
+	private final List<String[]> suffixPaths;
+	private final int maxValueLength;
+
+	private XmlStreamingPrettifier(int indentSize, @Nonnull String maskString, @Nonnull NameMatcher elementMatcher,
+			@Nonnull NameMatcher attributeMatcher, @Nonnull List<String[]> absolutePathList, @Nonnull List<String[]> suffixPathList,
+			int maxValueLengthLimit) {
+		indent = indentSize;
+		mask = maskString;
+		elements = elementMatcher;
+		attributes = attributeMatcher;
+		absolutePaths = absolutePathList;
+		suffixPaths = suffixPathList;
+		maxValueLength = maxValueLengthLimit;
+	}
+
+	@Override
+	public String apply(String xml) {
+		if (!ContentSniffer.isXmlLike(xml)) {
+			return isMasking() && xml != null && !xml.trim().isEmpty() ? mask : xml;
+		}
+		StringBuilder out = new StringBuilder(xml.length() + (xml.length() >> 2));
+		try {
+			XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+			try {
+				new Writer(reader, out).write();
+			} finally {
+				reader.close();
+			}
+			return out.toString().trim();
+		} catch (Exception ignore) {
+			if (!isMasking()) {
+				return xml;
+			}
+			String written = out.toString().trim();
+			return written.isEmpty() ? mask : written + '\n' + mask;
+		}
+	}
+
+	@Override
+	public boolean isMasking() {
+		return !elements.isEmpty() || !attributes.isEmpty() || !absolutePaths.isEmpty() || !suffixPaths.isEmpty();
+	}
+
+	static void escape(@Nonnull StringBuilder out, @Nonnull String text, boolean attribute) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '&':
+					out.append("&amp;");
+					break;
+				case '<':
+					out.append("&lt;");
+					break;
+				case '>':
+					out.append("&gt;");
+					break;
+				case '"':
+					out.append(attribute ? "&quot;" : "\"");
+					break;
+				default:
+					out.append(c);
+			}
+		}
+	}
+
+	private static void appendName(@Nonnull StringBuilder out, @Nonnull QName name) {
+		String prefix = name.getPrefix();
+		if (prefix != null && !prefix.isEmpty()) {
+			out.append(prefix).append(':');
+		}
+		out.append(name.getLocalPart());
+	}
+
+	private static boolean endsWith(@Nonnull List<String> path, @Nonnull String[] suffix) {
+		if (suffix.length > path.size()) {
+			return false;
+		}
+		int offset = path.size() - suffix.length;
+		for (int i = 0; i < suffix.length; i++) {
+			if (!suffix[i].equals(path.get(offset + i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isMaskedElement(@Nonnull QName name, @Nonnull List<String> path) {
+		if (elements.matches(name)) {
+			return true;
+		}
+		for (String[] absolute : absolutePaths) {
+			if (absolute.length == path.size() && endsWith(path, absolute)) {
+				return true;
+			}
+		}
+		for (String[] suffix : suffixPaths) {
+			if (endsWith(path, suffix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Single document writer, keeps the state of the current pass.
+	 */
+	private class Writer {
+		private final XMLStreamReader reader;
+		private final StringBuilder out;
+		private final List<String> path = new ArrayList<>();
+		private final BitSet hasChildren = new BitSet();
+		private boolean startOpen;
+
+		private Writer(@Nonnull XMLStreamReader streamReader, @Nonnull StringBuilder output) {
+			reader = streamReader;
+			out = output;
+		}
+
+		private void newLine(int depth) {
+			if (out.length() > 0) {
+				out.append('\n');
+			}
+			for (int i = 0; i < depth * indent; i++) {
+				out.append(' ');
+			}
+		}
+
+		private void closeStart() {
+			if (startOpen) {
+				out.append('>');
+				startOpen = false;
+			}
+		}
+
+		private void beforeChild() {
+			closeStart();
+			if (!path.isEmpty()) {
+				hasChildren.set(path.size() - 1);
+			}
+			newLine(path.size());
+		}
+
+		private void write() throws XMLStreamException {
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						writeStartElement();
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						writeEndElement();
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.SPACE:
+						writeText(false);
+						break;
+					case XMLStreamConstants.CDATA:
+						writeText(true);
+						break;
+					case XMLStreamConstants.COMMENT:
+						beforeChild();
+						out.append("<!--").append(reader.getText()).append("-->");
+						break;
+					case XMLStreamConstants.PROCESSING_INSTRUCTION:
+						beforeChild();
+						out.append("<?").append(reader.getPITarget());
+						String data = reader.getPIData();
+						if (data != null && !data.isEmpty()) {
+							out.append(' ').append(data);
+						}
+						out.append("?>");
+						break;
+					default:
+						// DTD, entity declarations and document events are omitted
+				}
+			}
+		}
+
+		private void writeStartElement() throws XMLStreamException {
+			beforeChild();
+			QName name = reader.getName();
+			path.add(name.getLocalPart());
+			hasChildren.clear(path.size() - 1);
+			out.append('<');
+			appendName(out, name);
+			for (int i = 0; i < reader.getNamespaceCount(); i++) {
+				String prefix = reader.getNamespacePrefix(i);
+				out.append(" xmlns");
+				if (prefix != null && !prefix.isEmpty()) {
+					out.append(':').append(prefix);
+				}
+				out.append("=\"");
+				escape(out, reader.getNamespaceURI(i), true);
+				out.append('"');
+			}
+			for (int i = 0; i < reader.getAttributeCount(); i++) {
+				QName attribute = reader.getAttributeName(i);
+				out.append(' ');
+				appendName(out, attribute);
+				out.append("=\"");
+				escape(out, attributes.matches(attribute) ? mask : ValueTruncator.truncate(reader.getAttributeValue(i), maxValueLength), true);
+				out.append('"');
+			}
+			startOpen = true;
+			if (isMaskedElement(name, path)) {
+				closeStart();
+				escape(out, mask, false);
+				int depth = 1;
+				while (depth > 0) {
+					int event = reader.next();
+					if (event == XMLStreamConstants.START_ELEMENT) {
+						depth++;
+					} else if (event == XMLStreamConstants.END_ELEMENT) {
+						depth--;
+					}
+				}
+				writeEndElement();
+			}
+		}
+
+		private void writeEndElement() {
+			int depth = path.size() - 1;
+			if (startOpen) {
+				out.append("/>");
+				startOpen = false;
+			} else {
+				if (hasChildren.get(depth)) {
+					newLine(depth);
+				}
+				out.append("</");
+				appendName(out, reader.getName());
+				out.append('>');
+			}
+			path.remove(depth);
+		}
+
+		private void writeText(boolean cdata) {
+			if (path.isEmpty()) {
+				return;
+			}
+			String text = reader.getText();
+			if (!cdata && text.trim().isEmpty()) {
+				return;
+			}
+			if (hasChildren.get(path.size() - 1)) {
+				newLine(path.size());
+				text = text.trim();
+			} else {
+				closeStart();
+			}
+			text = ValueTruncator.truncate(text, maxValueLength);
+			if (cdata) {
+				out.append("<![CDATA[").append(text).append("]]>");
+			} else {
+				escape(out, text, false);
+			}
+		}
+	}
+
+	/**
+	 * Matcher of element and attribute names by qualified, prefixed or local name.
+	 */
+	private static class NameMatcher {
+		private final Set<QName> qualifiedNames;
+		private final Set<String> prefixedNames;
+		private final Set<String> localNames;
+
+		private NameMatcher(@Nonnull Collection<String> names) {
+			Set<QName> qualified = new HashSet<>();
+			Set<String> prefixed = new HashSet<>();
+			Set<String> local = new HashSet<>();
+			for (String name : names) {
+				if (name.startsWith("{")) {
+					qualified.add(QName.valueOf(name));
+				} else if (name.indexOf(':') > 0) {
+					prefixed.add(name);
+				} else {
+					local.add(name);
+				}
+			}
+			qualifiedNames = Collections.unmodifiableSet(qualified);
+			prefixedNames = Collections.unmodifiableSet(prefixed);
+			localNames = Collections.unmodifiableSet(local);
+		}
+
+		private boolean isEmpty() {
+			return qualifiedNames.isEmpty() && prefixedNames.isEmpty() && localNames.isEmpty();
+		}
+
+		private boolean matches(@Nonnull QName name) {
+			if (localNames.contains(name.getLocalPart())) {
+				return true;
+			}
+			if (!qualifiedNames.isEmpty() && qualifiedNames.contains(new QName(
+					Objects.toString(name.getNamespaceURI(), XMLConstants.NULL_NS_URI),
+					name.getLocalPart()
+			))) {
+				return true;
+			}
+			String prefix = name.getPrefix();
+			return !prefixedNames.isEmpty() && prefix != null && !prefix.isEmpty() && prefixedNames.contains(
+					prefix + ":" + name.getLocalPart());
+		}
+	}
+
+	public static class Builder {
+		private final List<String> elements = new ArrayList<>();
+		private final List<String> attributes = new ArrayList<>();
+		private final List<String[]> absolutePaths = new ArrayList<>();
+		private final List<String[]> suffixPaths = new ArrayList<>();
+		private int indent = DEFAULT_INDENT;
+		private String mask = DEFAULT_MASK;
+		private int maxValueLength;
+
+		/**
+		 * Mask content of elements with the specific names or paths, see the class description for the format.
+		 *
+		 * @param names element names or paths
+		 * @return the builder instance
+		 */
+		public Builder maskElements(@Nonnull String... names) {
+			for (String name : names) {
+				if (name.startsWith("//")) {
+					suffixPaths.add(name.substring(2).split("/"));
+				} else if (name.startsWith("/")) {
+					absolutePaths.add(name.substring(1).split("/"));
+				} else {
+					elements.add(name);
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Mask values of attributes with the specific names, see the class description for the format.
+		 *
+		 * @param names attribute names
+		 * @return the builder instance
+		 */
+		public Builder maskAttributes(@Nonnull String... names) {
+			attributes.addAll(Arrays.asList(names));
+			return this;
+		}
+
+		public Builder mask(@Nonnull String maskString) {
+			mask = maskString;
+			return this;
+		}
+
+		public Builder indent(int indentSize) {
+			indent = indentSize;
+			return this;
+		}
+
+		/**
+		 * Truncate text and attribute values longer than the specific length, Data URI headers are kept.
+		 *
+		 * @param maxLength maximum value length, zero or negative means no truncation
+		 * @return the builder instance
+		 */
+		public Builder truncateValues(int maxLength) {
+			maxValueLength = maxLength;
+			return this;
+		}
+
+		public XmlStreamingPrettifier build() {
+			return new XmlStreamingPrettifier(
+					indent,
+					mask,
+					new NameMatcher(elements),
+					new NameMatcher(attributes),
+					Collections.unmodifiableList(new ArrayList<>(absolutePaths)),
+					Collections.unmodifiableList(new ArrayList<>(suffixPaths)),
+					maxValueLength
+			);
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpFormatUtils;
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled condition on an HTTP request or response. All conditions set are combined with "AND", a rule without conditions matches
+ * everything. Status conditions never match requests, since requests have no status code.
+ * <p>
+ * URI conditions are applied to the path part of the URI, without scheme, host, query and fragment. Host conditions are applied to the
+ * host part of the URI, a host name which starts with <code>*.</code> matches any subdomain.
+ */
+public class ExchangeRule implements Predicate<HttpFormatter> {
+	private final Set<String> methods;
+	private final Set<String> hosts;
+	private final Set<String> hostSuffixes;
+	private final String uriPrefix;
+	private final Pattern uriPattern;
+	private final int minStatus;
+	private final int maxStatus;
+	private final Set<String> mimeTypes;
+
+	private ExchangeRule(@Nullable Set<String> methodSet, @Nullable Set<String> hostSet, @Nullable Set<String> hostSuffixSet,
+			@Nullable String pathPrefix, @Nullable Pattern pathPattern, int statusFrom,
+			int statusTo, @Nullable Set<String> mimeTypeSet) {
+		methods = methodSet;
+		hosts = hostSet;
+		hostSuffixes = hostSuffixSet;
+		uriPrefix = pathPrefix;
+		uriPattern = pathPattern;
+		minStatus = statusFrom;
+		maxStatus = statusTo;
+		mimeTypes = mimeTypeSet;
+	}
+
+	@Nullable
+	public Set<String> getMethods() {
+		return methods;
+	}
+
+	/**
+	 * @return URI path prefix if the URI condition is a simple prefix, <code>null</code> otherwise
+	 */
+	@Nullable
+	public String getUriPrefix() {
+		return uriPrefix;
+	}
+
+	@Nullable
+	public Pattern getUriPattern() {
+		return uriPattern;
+	}
+
+	public int getMinStatus() {
+		return minStatus;
+	}
+
+	public int getMaxStatus() {
+		return maxStatus;
+	}
+
+	@Nullable
+	public Set<String> getMimeTypes() {
+		return mimeTypes;
+	}
+
+	public boolean hasStatusCondition() {
+		return minStatus > 0;
+	}
+
+	public boolean hasHostCondition() {
+		return hosts != null || hostSuffixes != null;
+	}
+
+	public boolean hasUriCondition() {
+		return uriPrefix != null || uriPattern != null;
+	}
+
+	/**
+	 * Check the rule on pre-extracted exchange attributes.
+	 *
+	 * @param method   upper-case HTTP method or <code>null</code>
+	 * @param host     lower-case host, see {@link HttpFormatUtils#getUriHost(String)}
+	 * @param path     URI path, see {@link HttpFormatUtils#getUriPath(String)}
+	 * @param status   response status code or -1 for requests
+	 * @param mimeType body mime type or <code>null</code>
+	 * @return <code>true</code> if all the rule conditions match
+	 */
+	public boolean matches(@Nullable String method, @Nonnull String host, @Nonnull String path, int status, @Nullable String mimeType) {
+		if (methods != null && (method == null || !methods.contains(method))) {
+			return false;
+		}
+		if (hasHostCondition() && !matchesHost(host)) {
+			return false;
+		}
+		if (minStatus > 0 && (status < minStatus || status > maxStatus)) {
+			return false;
+		}
+		if (mimeTypes != null && (mimeType == null || !mimeTypes.contains(mimeType))) {
+			return false;
+		}
+		if (uriPrefix != null && !path.startsWith(uriPrefix)) {
+			return false;
+		}
+		return uriPattern == null || uriPattern.matcher(path).matches();
+	}
+
+	private boolean matchesHost(@Nonnull String host) {
+		if (hosts != null && hosts.contains(host)) {
+			return true;
+		}
+		if (hostSuffixes != null) {
+			for (String suffix : hostSuffixes) {
+				if (host.endsWith(suffix)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean test(@Nonnull HttpFormatter formatter) {
+		String uri = formatter.getUri();
+		return matches(
+				normalizeMethod(formatter.getMethod()),
+				HttpFormatUtils.getUriHost(uri),
+				HttpFormatUtils.getUriPath(uri),
+				formatter.getStatusCode(),
+				normalizeMimeType(formatter.getMimeType())
+		);
+	}
+
+	@Nullable
+	static String normalizeMethod(@Nullable String method) {
+		return method == null ? null : method.toUpperCase(Locale.ROOT);
+	}
+
+	@Nullable
+	static String normalizeMimeType(@Nullable String mimeType) {
+		return mimeType == null ? null : ContentType.stripMediaType(mimeType).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Convert a glob expression to a regular expression. <code>*</code> matches any characters except <code>/</code>,
+	 * <code>**</code> matches any characters, <code>?</code> matches any single character except <code>/</code>.
+	 *
+	 * @param glob glob expression
+	 * @return compiled pattern
+	 */
+	@Nonnull
+	public static Pattern globToPattern(@Nonnull String glob) {
+		StringBuilder regex = new StringBuilder(glob.length() + 16);
+		int literalStart = 0;
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			if (c != '*' && c != '?') {
+				continue;
+			}
+			if (i > literalStart) {
+				regex.append(Pattern.quote(glob.substring(literalStart, i)));
+			}
+			if (c == '?') {
+				regex.append("[^/]");
+			} else if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+				regex.append(".*");
+				i++;
+			} else {
+				regex.append("[^/]*");
+			}
+			literalStart = i + 1;
+		}
+		if (literalStart < glob.length()) {
+			regex.append(Pattern.quote(glob.substring(literalStart)));
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	public static class Builder {
+		private Set<String> methods;
+		private Set<String> hosts;
+		private Set<String> hostSuffixes;
+		private String uriPrefix;
+		private Pattern uriPattern;
+		private int minStatus = -1;
+		private int maxStatus = -1;
+		private Set<String> mimeTypes;
+
+		public Builder methods(String... httpMethods) {
+			methods = new HashSet<>();
+			Arrays.stream(httpMethods).map(ExchangeRule::normalizeMethod).forEach(methods::add);
+			return this;
+		}
+
+		public Builder hosts(String... hostNames) {
+			hosts = new HashSet<>();
+			hostSuffixes = new HashSet<>();
+			Arrays.stream(hostNames).map(h -> h.toLowerCase(Locale.ROOT)).forEach(h -> {
+				if (h.startsWith("*.")) {
+					hostSuffixes.add(h.substring(1));
+				} else {
+					hosts.add(h);
+				}
+			});
+			return this;
+		}
+
+		/**
+		 * Match URI path with a glob expression, see {@link #globToPattern(String)}. Expressions which end with <code>**</code> and
+		 * have no other wildcards are matched as a simple prefix.
+		 *
+		 * @param glob glob expression
+		 * @return the builder instance
+		 */
+		public Builder uriGlob(String glob) {
+			String prefix = glob.endsWith("**") ? glob.substring(0, glob.length() - 2) : null;
+			if (prefix != null && prefix.indexOf('*') < 0 && prefix.indexOf('?') < 0) {
+				uriPrefix = prefix;
+				uriPattern = null;
+			} else {
+				uriPrefix = null;
+				uriPattern = globToPattern(glob);
+			}
+			return this;
+		}
+
+		public Builder uriRegex(String regex) {
+			uriPrefix = null;
+			uriPattern = Pattern.compile(regex);
+			return this;
+		}
+
+		public Builder status(int code) {
+			return status(code, code);
+		}
+
+		public Builder status(int from, int to) {
+			if (from <= 0 || to < from) {
+				throw new IllegalArgumentException("Invalid status range: " + from + "-" + to);
+			}
+			minStatus = from;
+			maxStatus = to;
+			return this;
+		}
+
+		public Builder mimeTypes(String... types) {
+			mimeTypes = new HashSet<>();
+			Arrays.stream(types).map(ExchangeRule::normalizeMimeType).forEach(mimeTypes::add);
+			return this;
+		}
+
+		public ExchangeRule build() {
+			return new ExchangeRule(
+					ofSet(methods),
+					hosts == null || hosts.isEmpty() ? null : ofSet(hosts),
+					hostSuffixes == null || hostSuffixes.isEmpty() ? null : ofSet(hostSuffixes),
+					uriPrefix,
+					uriPattern,
+					minStatus,
+					maxStatus,
+					ofSet(mimeTypes)
+			);
+		}
+
+		@Nullable
+		private static Set<String> ofSet(@Nullable Set<String> set) {
+			return set == null ? null : Collections.unmodifiableSet(new HashSet<>(set));
+		}
+	}
+}
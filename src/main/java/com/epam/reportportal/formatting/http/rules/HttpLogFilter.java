@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpFormatUtils;
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Filter which decides whether an HTTP request or response should be logged at all.
+ * <p>
+ * If the filter has include rules, a request/response is logged only if it matches at least one of them. A request/response which
+ * matches any exclude rule is never logged. On build rules with simple URI prefixes are compiled into a prefix tree, so only rules
+ * with matching prefixes and rules with patterns are checked. Each rule has a hit counter, which is incremented when the rule decides
+ * the outcome. Example:
+ * <pre>{@code
+ * HttpLogFilter filter = new HttpLogFilter.Builder()
+ *     .exclude(new ExchangeRule.Builder().uriGlob("/health**").build())
+ *     .exclude(new ExchangeRule.Builder().uriGlob("/metrics**").build())
+ *     .exclude(new ExchangeRule.Builder().methods("GET").uriRegex(".*\\.(js|css|png)").build())
+ *     .build();
+ * }</pre>
+ */
+public class HttpLogFilter implements Predicate<HttpFormatter> {
+	private final CompiledRules includes;
+	private final CompiledRules excludes;
+	private final boolean uriRequired;
+	private final boolean hostRequired;
+
+	private HttpLogFilter(@Nonnull List<ExchangeRule> includeRules, @Nonnull List<ExchangeRule> excludeRules) {
+		includes = new CompiledRules(includeRules);
+		excludes = new CompiledRules(excludeRules);
+		uriRequired = includes.uriRequired || excludes.uriRequired;
+		hostRequired = includes.hostRequired || excludes.hostRequired;
+	}
+
+	@Override
+	public boolean test(@Nonnull HttpFormatter formatter) {
+		if (includes.rules.length == 0 && excludes.rules.length == 0) {
+			return true;
+		}
+		String uri = formatter.getUri();
+		String method = ExchangeRule.normalizeMethod(formatter.getMethod());
+		String host = hostRequired ? HttpFormatUtils.getUriHost(uri) : "";
+		String path = uriRequired ? HttpFormatUtils.getUriPath(uri) : "";
+		int status = formatter.getStatusCode();
+		String mimeType = ExchangeRule.normalizeMimeType(formatter.getMimeType());
+		if (includes.rules.length > 0 && includes.match(method, host, path, status, mimeType) < 0) {
+			return false;
+		}
+		return excludes.match(method, host, path, status, mimeType) < 0;
+	}
+
+	/**
+	 * @return number of hits for each include rule in the order the rules were added
+	 */
+	@Nonnull
+	public long[] getIncludeHits() {
+		return includes.getHits();
+	}
+
+	/**
+	 * @return number of hits for each exclude rule in the order the rules were added
+	 */
+	@Nonnull
+	public long[] getExcludeHits() {
+		return excludes.getHits();
+	}
+
+	private static class CompiledRules {
+		private final ExchangeRule[] rules;
+		private final LongAdder[] hits;
+		private final PrefixTrie prefixes = new PrefixTrie();
+		private final int[] others;
+		private final boolean uriRequired;
+		private final boolean hostRequired;
+
+		private CompiledRules(@Nonnull List<ExchangeRule> ruleList) {
+			rules = ruleList.toArray(new ExchangeRule[0]);
+			hits = new LongAdder[rules.length];
+			List<Integer> otherRules = new ArrayList<>();
+			for (int i = 0; i < rules.length; i++) {
+				hits[i] = new LongAdder();
+				String prefix = rules[i].getUriPrefix();
+				if (prefix != null) {
+					prefixes.add(prefix, i);
+				} else {
+					otherRules.add(i);
+				}
+			}
+			others = otherRules.stream().mapToInt(Integer::intValue).toArray();
+			uriRequired = ruleList.stream().anyMatch(ExchangeRule::hasUriCondition);
+			hostRequired = ruleList.stream().anyMatch(ExchangeRule::hasHostCondition);
+		}
+
+		private int match(String method, String host, String path, int status, String mimeType) {
+			int[] matched = { -1 };
+			if (!prefixes.isEmpty()) {
+				prefixes.collect(path, i -> {
+					if (matched[0] < 0 && rules[i].matches(method, host, path, status, mimeType)) {
+						matched[0] = i;
+					}
+				});
+			}
+			for (int i = 0; matched[0] < 0 && i < others.length; i++) {
+				if (rules[others[i]].matches(method, host, path, status, mimeType)) {
+					matched[0] = others[i];
+				}
+			}
+			if (matched[0] >= 0) {
+				hits[matched[0]].increment();
+			}
+			return matched[0];
+		}
+
+		private long[] getHits() {
+			long[] result = new long[hits.length];
+			for (int i = 0; i < hits.length; i++) {
+				result[i] = hits[i].sum();
+			}
+			return result;
+		}
+	}
+
+	public static class Builder {
+		private final List<ExchangeRule> includes = new ArrayList<>();
+		private final List<ExchangeRule> excludes = new ArrayList<>();
+
+		public Builder include(@Nonnull ExchangeRule rule) {
+			includes.add(rule);
+			return this;
+		}
+
+		public Builder exclude(@Nonnull ExchangeRule rule) {
+			excludes.add(rule);
+			return this;
+		}
+
+		public HttpLogFilter build() {
+			return new HttpLogFilter(includes, excludes);
+		}
+	}
+}
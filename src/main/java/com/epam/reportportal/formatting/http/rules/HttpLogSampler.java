@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpFormatUtils;
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Sampler which logs only part of successful HTTP requests and responses.
+ * <p>
+ * Supported policies, which can be combined, in that case a request/response is logged only if all of them allow it:
+ * <ul>
+ *     <li>fixed rate: a random part of requests/responses is logged;</li>
+ *     <li>token bucket: no more than the specific number of requests/responses per second is logged by each thread;</li>
+ *     <li>first N then every Mth: the first N requests/responses of each endpoint (method and URI path) are logged, then only every
+ *     Mth of them.</li>
+ * </ul>
+ * Responses with non-2xx status codes are always logged together with their requests: an omitted request is kept pending until its
+ * response arrives and logged before the response if it is not successful. A successful response follows the decision made for the
+ * request to the same endpoint which was logged right before it by the same thread, so request/response pairs are not broken. A
+ * response which is not linked with its request (no method and URI) is attributed to the previous request of the same thread, if
+ * there is none it is not sampled.
+ * <p>
+ * The state is kept per thread, so the sampler does not use any locks and parallel test threads do not contend. Call
+ * {@link #reset()} on the test thread at the test start to begin counting from scratch and {@link #finish()} at the test end to log
+ * messages about exchanges omitted after the last logged ones. If the number of tracked endpoints exceeds the limit, the least recently
+ * used endpoint is evicted and the message about its omitted exchanges is logged right away.
+ */
+public class HttpLogSampler {
+	public static final int DEFAULT_MAX_ENDPOINTS = 1000;
+	public static final String OMITTED_MESSAGE_PATTERN = "... %d similar exchanges omitted: %s";
+
+	private final double rate;
+	private final double permitsPerSecond;
+	private final double burst;
+	private final long first;
+	private final long every;
+	private final int maxEndpoints;
+
+	private final ThreadLocal<State> states;
+
+	private HttpLogSampler(double sampleRate, double tokenRate, double tokenBurst, long firstNumber, long everyNumber,
+			int endpointNumber) {
+		rate = sampleRate;
+		permitsPerSecond = tokenRate;
+		burst = tokenBurst;
+		first = firstNumber;
+		every = everyNumber;
+		maxEndpoints = endpointNumber;
+		states = ThreadLocal.withInitial(() -> new State(burst));
+	}
+
+	private static boolean isSuccess(int status) {
+		return status >= 200 && status < 300;
+	}
+
+	@Nullable
+	private static String getEndpointKey(@Nonnull HttpFormatter formatter) {
+		String method = formatter.getMethod();
+		String uri = formatter.getUri();
+		if (method == null && uri == null) {
+			return null;
+		}
+		String path = HttpFormatUtils.getUriPath(uri);
+		return method == null ? path : method + " " + path;
+	}
+
+	/**
+	 * Decide whether a request/response should be logged.
+	 *
+	 * A request which should not be logged is kept pending until the next response on the same thread. If the response is not
+	 * successful, the pending request is not counted as omitted and {@link #process} logs it before the response.
+	 *
+	 * @param formatter request or response
+	 * @return -1 if the request/response should not be logged, otherwise the number of omitted requests/responses to the same
+	 * endpoint since the last logged one
+	 */
+	public long sample(@Nonnull HttpFormatter formatter) {
+		State state = states.get();
+		int status = formatter.getStatusCode();
+		String key = getEndpointKey(formatter);
+		state.releasedRequest = null;
+		if (status >= 0) {
+			String requestKey = state.requestKey;
+			HttpFormatter pendingRequest = state.pendingRequest;
+			state.requestKey = null;
+			state.pendingRequest = null;
+			if (key == null) {
+				if (requestKey == null) {
+					// unknown endpoint, nothing to count against
+					return 0;
+				}
+				key = requestKey;
+			}
+			state.lastKey = key;
+			if (!isSuccess(status)) {
+				if (pendingRequest != null && key.equals(requestKey) && state.unomit(key)) {
+					state.releasedRequest = pendingRequest;
+					state.releasedTime = state.pendingTime;
+				}
+				return state.keep(key);
+			}
+			if (key.equals(requestKey)) {
+				return state.requestKept ? 0 : -1;
+			}
+			return decide(state, key) ? state.keep(key) : state.omit(key);
+		}
+		if (key == null) {
+			return 0;
+		}
+		boolean keep = decide(state, key);
+		state.lastKey = key;
+		state.requestKey = key;
+		state.requestKept = keep;
+		state.pendingRequest = keep ? null : formatter;
+		state.pendingTime = null;
+		return keep ? state.keep(key) : state.omit(key);
+	}
+
+	/**
+	 * Process a request or response: log it if it should be logged, preceded by the message about omitted requests/responses to the
+	 * same endpoint and by its pending request if the response is not successful. The message consumer is also used by
+	 * {@link #finish()} and on endpoint eviction on the same thread.
+	 *
+	 * @param formatter        request or response
+	 * @param time             request or response time
+	 * @param exchangeConsumer consumer which logs requests and responses which are not omitted
+	 * @param messageConsumer  consumer which logs messages about omitted requests/responses
+	 */
+	public void process(@Nonnull HttpFormatter formatter, @Nonnull Instant time,
+			@Nonnull BiConsumer<HttpFormatter, Instant> exchangeConsumer, @Nonnull BiConsumer<String, Instant> messageConsumer) {
+		State state = states.get();
+		state.messageConsumer = messageConsumer;
+		long omitted = sample(formatter);
+		if (omitted < 0) {
+			if (state.pendingRequest == formatter) {
+				state.pendingTime = time;
+			}
+			return;
+		}
+		HttpFormatter request = state.releasedRequest;
+		Instant requestTime = state.releasedTime;
+		state.releasedRequest = null;
+		state.releasedTime = null;
+		if (request != null && requestTime == null) {
+			requestTime = time.minusMillis(1);
+		}
+		if (omitted > 0) {
+			messageConsumer.accept(formatOmitted(formatter, omitted), (request == null ? time : requestTime).minusMillis(1));
+		}
+		if (request != null) {
+			exchangeConsumer.accept(request, requestTime);
+		}
+		exchangeConsumer.accept(formatter, time);
+	}
+
+	private boolean decide(@Nonnull State state, @Nonnull String key) {
+		Endpoint endpoint = state.getEndpoint(key, maxEndpoints);
+		long count = ++endpoint.count;
+		if (every > 0 && count > first && (count - first) % every != 0) {
+			return false;
+		}
+		if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+			return false;
+		}
+		return permitsPerSecond <= 0 || state.tryAcquire(permitsPerSecond, burst);
+	}
+
+	/**
+	 * Reset the current thread counters.
+	 */
+	public void reset() {
+		states.remove();
+	}
+
+	/**
+	 * Finish the current thread sampling: log messages about requests/responses omitted after the last logged ones of each endpoint
+	 * and reset the counters. Messages are logged only if the sampler was called with a message consumer on this thread.
+	 */
+	public void finish() {
+		State state = states.get();
+		states.remove();
+		BiConsumer<String, Instant> messageConsumer = state.messageConsumer;
+		if (messageConsumer == null) {
+			return;
+		}
+		Instant time = Instant.now();
+		state.endpoints.forEach((key, endpoint) -> {
+			if (endpoint.omitted > 0) {
+				messageConsumer.accept(String.format(OMITTED_MESSAGE_PATTERN, endpoint.omitted, key), time);
+			}
+		});
+	}
+
+	/**
+	 * Format a message about omitted requests/responses.
+	 *
+	 * @param formatter the request/response logged after omitted ones
+	 * @param omitted   number of omitted requests/responses
+	 * @return message text
+	 */
+	@Nonnull
+	public String formatOmitted(@Nonnull HttpFormatter formatter, long omitted) {
+		String key = getEndpointKey(formatter);
+		return String.format(OMITTED_MESSAGE_PATTERN, omitted, key == null ? states.get().lastKey : key);
+	}
+
+	private static class Endpoint {
+		private long count;
+		private long omitted;
+	}
+
+	private static class State {
+		private final Map<String, Endpoint> endpoints = new LinkedHashMap<>(16, 0.75f, true);
+		private double tokens;
+		private long lastRefill = System.nanoTime();
+		private String requestKey;
+		private boolean requestKept;
+		private HttpFormatter pendingRequest;
+		private Instant pendingTime;
+		private HttpFormatter releasedRequest;
+		private Instant releasedTime;
+		private String lastKey;
+		private BiConsumer<String, Instant> messageConsumer;
+
+		private State(double initialTokens) {
+			tokens = initialTokens;
+		}
+
+		private Endpoint getEndpoint(@Nonnull String key, int maxEndpoints) {
+			Endpoint endpoint = endpoints.get(key);
+			if (endpoint == null) {
+				if (endpoints.size() >= maxEndpoints) {
+					evictEldest();
+				}
+				endpoint = new Endpoint();
+				endpoints.put(key, endpoint);
+			}
+			return endpoint;
+		}
+
+		private void evictEldest() {
+			Iterator<Map.Entry<String, Endpoint>> iterator = endpoints.entrySet().iterator();
+			if (!iterator.hasNext()) {
+				return;
+			}
+			Map.Entry<String, Endpoint> eldest = iterator.next();
+			iterator.remove();
+			long omitted = eldest.getValue().omitted;
+			if (omitted > 0 && messageConsumer != null) {
+				messageConsumer.accept(String.format(OMITTED_MESSAGE_PATTERN, omitted, eldest.getKey()), Instant.now());
+			}
+		}
+
+		private boolean unomit(@Nonnull String key) {
+			Endpoint endpoint = endpoints.get(key);
+			if (endpoint == null || endpoint.omitted <= 0) {
+				return false;
+			}
+			endpoint.omitted--;
+			return true;
+		}
+
+		private long keep(@Nonnull String key) {
+			Endpoint endpoint = endpoints.get(key);
+			if (endpoint == null) {
+				return 0;
+			}
+			long omitted = endpoint.omitted;
+			endpoint.omitted = 0;
+			return omitted;
+		}
+
+		private long omit(@Nonnull String key) {
+			Objects.requireNonNull(endpoints.get(key)).omitted++;
+			return -1;
+		}
+
+		private boolean tryAcquire(double permitsPerSecond, double burst) {
+			long now = System.nanoTime();
+			tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerSecond / 1_000_000_000d);
+			lastRefill = now;
+			if (tokens >= 1) {
+				tokens -= 1;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	public static class Builder {
+		private double rate = 1.0;
+		private double permitsPerSecond;
+		private double burst;
+		private long first;
+		private long every;
+		private int maxEndpoints = DEFAULT_MAX_ENDPOINTS;
+
+		/**
+		 * Log only a random part of requests/responses.
+		 *
+		 * @param sampleRate part of requests/responses to log, from 0 to 1
+		 * @return the builder instance
+		 */
+		public Builder rate(double sampleRate) {
+			if (sampleRate < 0 || sampleRate > 1) {
+				throw new IllegalArgumentException("Sample rate should be between 0 and 1");
+			}
+			rate = sampleRate;
+			return this;
+		}
+
+		/**
+		 * Log no more than the specific number of requests/responses per second per thread.
+		 *
+		 * @param tokensPerSecond number of requests/responses per second
+		 * @param maxBurst        maximum number of requests/responses logged at once
+		 * @return the builder instance
+		 */
+		public Builder tokenBucket(double tokensPerSecond, int maxBurst) {
+			if (tokensPerSecond <= 0 || maxBurst <= 0) {
+				throw new IllegalArgumentException("Token bucket rate and burst should be positive numbers");
+			}
+			permitsPerSecond = tokensPerSecond;
+			burst = maxBurst;
+			return this;
+		}
+
+		/**
+		 * Log the first requests/responses of each endpoint, then only every Mth of them.
+		 *
+		 * @param firstNumber number of requests/responses to log first
+		 * @param everyNumber log every Mth request/response after the first ones
+		 * @return the builder instance
+		 */
+		public Builder firstThenEvery(long firstNumber, long everyNumber) {
+			if (firstNumber < 0 || everyNumber <= 0) {
+				throw new IllegalArgumentException("Invalid first/every numbers: " + firstNumber + "/" + everyNumber);
+			}
+			first = firstNumber;
+			every = everyNumber;
+			return this;
+		}
+
+		public Builder maxEndpoints(int endpointNumber) {
+			maxEndpoints = endpointNumber;
+			return this;
+		}
+
+		public HttpLogSampler build() {
+			return new HttpLogSampler(rate, permitsPerSecond, burst, first, every, maxEndpoints);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Character trie which maps string prefixes to integer values. Intended to be filled once and then only read.
+ */
+class PrefixTrie {
+	private final Node root = new Node();
+
+	void add(@Nonnull String prefix, int value) {
+		Node node = root;
+		for (int i = 0; i < prefix.length(); i++) {
+			node = node.getOrCreate(prefix.charAt(i));
+		}
+		node.values = Arrays.copyOf(node.values, node.values.length + 1);
+		node.values[node.values.length - 1] = value;
+	}
+
+	/**
+	 * Pass all values whose prefixes the text starts with to the consumer.
+	 *
+	 * @param text     text to check
+	 * @param consumer value consumer
+	 */
+	void collect(@Nonnull String text, @Nonnull IntConsumer consumer) {
+		Node node = root;
+		for (int i = 0; ; i++) {
+			for (int value : node.values) {
+				consumer.accept(value);
+			}
+			if (i >= text.length()) {
+				return;
+			}
+			node = node.get(text.charAt(i));
+			if (node == null) {
+				return;
+			}
+		}
+	}
+
+	boolean isEmpty() {
+		return root.keys.length == 0 && root.values.length == 0;
+	}
+
+	private static class Node {
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private int[] values = new int[0];
+
+		private Node get(char key) {
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] == key) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		private Node getOrCreate(char key) {
+			Node child = get(key);
+			if (child == null) {
+				child = new Node();
+				keys = Arrays.copyOf(keys, keys.length + 1);
+				keys[keys.length - 1] = key;
+				children = Arrays.copyOf(children, children.length + 1);
+				children[children.length - 1] = child;
+			}
+			return child;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpFormatUtils;
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import com.epam.reportportal.formatting.http.entities.Verbosity;
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Policy which decides how much of an HTTP request or response should be logged, before any formatting work is done.
+ * <p>
+ * Rules are checked in the order they were added, the first matching rule wins. On build the rules are grouped by status class
+ * (1xx-5xx), so only rules which can match a status are checked. Example:
+ * <pre>{@code
+ * VerbosityPolicy policy = new VerbosityPolicy.Builder()
+ *     .rule(new ExchangeRule.Builder().status(200, 299).uriGlob("/health**").build(), Verbosity.TITLE)
+ *     .rule(new ExchangeRule.Builder().status(200, 299).build(), Verbosity.HEAD)
+ *     .build();
+ * }</pre>
+ */
+public class VerbosityPolicy implements Function<HttpFormatter, Verbosity> {
+	private static final int REQUEST_CLASS = 0;
+	private static final int OTHER_CLASS = 6;
+
+	private final ExchangeRule[][] rulesByClass;
+	private final Verbosity[][] verbosityByClass;
+	private final Verbosity defaultVerbosity;
+	private final boolean uriRequired;
+	private final boolean hostRequired;
+
+	private VerbosityPolicy(@Nonnull List<ExchangeRule> rules, @Nonnull List<Verbosity> verbosities, @Nonnull Verbosity fallback) {
+		rulesByClass = new ExchangeRule[OTHER_CLASS + 1][];
+		verbosityByClass = new Verbosity[OTHER_CLASS + 1][];
+		for (int statusClass = 0; statusClass <= OTHER_CLASS; statusClass++) {
+			List<ExchangeRule> classRules = new ArrayList<>();
+			List<Verbosity> classVerbosities = new ArrayList<>();
+			for (int i = 0; i < rules.size(); i++) {
+				if (canMatch(rules.get(i), statusClass)) {
+					classRules.add(rules.get(i));
+					classVerbosities.add(verbosities.get(i));
+				}
+			}
+			rulesByClass[statusClass] = classRules.toArray(new ExchangeRule[0]);
+			verbosityByClass[statusClass] = classVerbosities.toArray(new Verbosity[0]);
+		}
+		defaultVerbosity = fallback;
+		uriRequired = rules.stream().anyMatch(ExchangeRule::hasUriCondition);
+		hostRequired = rules.stream().anyMatch(ExchangeRule::hasHostCondition);
+	}
+
+	private static int statusClass(int status) {
+		if (status < 0) {
+			return REQUEST_CLASS;
+		}
+		int statusClass = status / 100;
+		return statusClass >= 1 && statusClass <= 5 ? statusClass : OTHER_CLASS;
+	}
+
+	private static boolean canMatch(@Nonnull ExchangeRule rule, int statusClass) {
+		if (!rule.hasStatusCondition()) {
+			return true;
+		}
+		if (statusClass == REQUEST_CLASS) {
+			return false;
+		}
+		if (statusClass == OTHER_CLASS) {
+			return rule.getMinStatus() < 100 || rule.getMaxStatus() >= 600;
+		}
+		return rule.getMinStatus() < (statusClass + 1) * 100 && rule.getMaxStatus() >= statusClass * 100;
+	}
+
+	@Override
+	@Nonnull
+	public Verbosity apply(@Nonnull HttpFormatter formatter) {
+		int status = formatter.getStatusCode();
+		int statusClass = statusClass(status);
+		ExchangeRule[] rules = rulesByClass[statusClass];
+		if (rules.length == 0) {
+			return defaultVerbosity;
+		}
+		String method = ExchangeRule.normalizeMethod(formatter.getMethod());
+		String host = hostRequired ? HttpFormatUtils.getUriHost(formatter.getUri()) : "";
+		String path = uriRequired ? HttpFormatUtils.getUriPath(formatter.getUri()) : "";
+		String mimeType = ExchangeRule.normalizeMimeType(formatter.getMimeType());
+		for (int i = 0; i < rules.length; i++) {
+			if (rules[i].matches(method, host, path, status, mimeType)) {
+				return verbosityByClass[statusClass][i];
+			}
+		}
+		return defaultVerbosity;
+	}
+
+	public static class Builder {
+		private final List<ExchangeRule> rules = new ArrayList<>();
+		private final List<Verbosity> verbosities = new ArrayList<>();
+		private Verbosity defaultVerbosity = Verbosity.FULL;
+
+		public Builder rule(@Nonnull ExchangeRule rule, @Nonnull Verbosity verbosity) {
+			rules.add(rule);
+			verbosities.add(verbosity);
+			return this;
+		}
+
+		public Builder defaultVerbosity(@Nonnull Verbosity verbosity) {
+			defaultVerbosity = verbosity;
+			return this;
+		}
+
+		public VerbosityPolicy build() {
+			return new VerbosityPolicy(rules, verbosities, defaultVerbosity);
+		}
+	}
+}
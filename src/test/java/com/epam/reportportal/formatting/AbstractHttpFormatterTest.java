@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.formatting.http.HttpPartFormatter;
+import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.entities.MultipartMode;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.message.ReportPortalMessage;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.utils.http.ContentType;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.MockedStatic;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class AbstractHttpFormatterTest {
+
+	private static class TestFormatter extends AbstractHttpFormatter<TestFormatter> {
+		private TestFormatter() {
+			super(LogLevel.INFO, null, null, null, null);
+		}
+	}
+
+	private static HttpPartFormatter textPart(String content) {
+		return new HttpPartFormatter.Builder(HttpPartFormatter.PartType.TEXT, "text/plain", content).build();
+	}
+
+	private static HttpPartFormatter binaryPart(String fileName, int size) {
+		return new HttpPartFormatter.Builder(HttpPartFormatter.PartType.BINARY, "application/octet-stream", new byte[size]).fileName(
+				fileName).build();
+	}
+
+	private static HttpRequestFormatter multipart(HttpPartFormatter... parts) {
+		HttpRequestFormatter.Builder builder = new HttpRequestFormatter.Builder("POST", "https://example.com/upload");
+		for (HttpPartFormatter part : parts) {
+			builder.addBodyPart(part);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Log the request and return emitted log entries: {@link String} messages and {@link ReportPortalMessage} attachments.
+	 */
+	private static List<Object> log(TestFormatter formatter, HttpRequestFormatter request, StepReporter stepReporter) {
+		return capture(stepReporter, () -> formatter.emitLog(request, Instant.now()));
+	}
+
+	/**
+	 * Run the action and return emitted log entries: {@link String} messages and {@link ReportPortalMessage} attachments.
+	 */
+	private static List<Object> capture(StepReporter stepReporter, Runnable action) {
+		List<Object> emitted = new ArrayList<>();
+		Launch launch = mock(Launch.class);
+		when(launch.getStepReporter()).thenReturn(stepReporter);
+		try (MockedStatic<Launch> launchMock = mockStatic(Launch.class);
+				MockedStatic<ReportPortal> reportPortalMock = mockStatic(ReportPortal.class)) {
+			launchMock.when(Launch::currentLaunch).thenReturn(launch);
+			reportPortalMock.when(() -> ReportPortal.emitLog(anyString(), anyString(), any(Instant.class))).thenAnswer(i -> {
+				emitted.add(i.getArgument(0));
+				return true;
+			});
+			reportPortalMock.when(() -> ReportPortal.emitLog(any(ReportPortalMessage.class), anyString(), any(Instant.class)))
+					.thenAnswer(i -> {
+						emitted.add(i.getArgument(0));
+						return true;
+					});
+			action.run();
+		}
+		return emitted;
+	}
+
+	@Test
+	public void test_consolidated_multipart_is_a_single_log_entry() {
+		StepReporter stepReporter = mock(StepReporter.class);
+		TestFormatter formatter = new TestFormatter().setMultipartMode(MultipartMode.CONSOLIDATED);
+		List<Object> emitted = log(
+				formatter,
+				multipart(textPart("first"), binaryPart("data.bin", 5), textPart("second")),
+				stepReporter
+		);
+
+		assertThat(emitted, hasSize(1));
+		assertThat(emitted.get(0), instanceOf(ReportPortalMessage.class));
+		ReportPortalMessage message = (ReportPortalMessage) emitted.get(0);
+		assertThat(message.getData().getMediaType(), equalTo(ContentType.APPLICATION_ZIP));
+		assertThat(message.getMessage(), stringContainsInOrder("first", "Archive entry: data.bin", "second"));
+		verifyNoInteractions(stepReporter);
+	}
+
+	@Test
+	public void test_consolidated_multipart_text_parts_are_a_single_message() {
+		StepReporter stepReporter = mock(StepReporter.class);
+		TestFormatter formatter = new TestFormatter().setMultipartMode(MultipartMode.CONSOLIDATED);
+		List<Object> emitted = log(formatter, multipart(textPart("first"), textPart("second")), stepReporter);
+
+		assertThat(emitted, hasSize(1));
+		assertThat(emitted.get(0), instanceOf(String.class));
+		assertThat((String) emitted.get(0), stringContainsInOrder("first", "second"));
+		verifyNoInteractions(stepReporter);
+	}
+
+	@Test
+	public void test_consolidated_multipart_large_parts_are_attached_separately() throws IOException {
+		TestFormatter formatter = new TestFormatter().setMultipartMode(MultipartMode.CONSOLIDATED).setMaxBundledPartSize(10);
+		List<Object> emitted = log(
+				formatter,
+				multipart(binaryPart("small.bin", 10), binaryPart("large.bin", 11)),
+				mock(StepReporter.class)
+		);
+
+		assertThat(emitted, hasSize(2));
+		ReportPortalMessage bundle = (ReportPortalMessage) emitted.get(0);
+		assertThat(bundle.getData().getMediaType(), equalTo(ContentType.APPLICATION_ZIP));
+		assertThat(bundle.getMessage(), allOf(containsString("small.bin"), not(containsString("large.bin"))));
+		ReportPortalMessage large = (ReportPortalMessage) emitted.get(1);
+		assertThat(large.getData().getMediaType(), equalTo("application/octet-stream"));
+		assertThat(large.getData().read().length, equalTo(11));
+	}
+
+	@Test
+	public void test_consolidated_multipart_bundle_size_is_limited() throws IOException {
+		TestFormatter formatter = new TestFormatter().setMultipartMode(MultipartMode.CONSOLIDATED).setMaxBundleSize(12);
+		List<Object> emitted = log(
+				formatter,
+				multipart(binaryPart("first.bin", 6), binaryPart("second.bin", 7), binaryPart("third.bin", 6)),
+				mock(StepReporter.class)
+		);
+
+		assertThat(emitted, hasSize(2));
+		ReportPortalMessage bundle = (ReportPortalMessage) emitted.get(0);
+		assertThat(bundle.getMessage(), stringContainsInOrder("Archive entry: first.bin", "Archive entry: third.bin"));
+		assertThat(bundle.getMessage(), not(containsString("second.bin")));
+		ReportPortalMessage overflow = (ReportPortalMessage) emitted.get(1);
+		assertThat(overflow.getData().read().length, equalTo(7));
+	}
+
+	@Test
+	public void test_nested_step_multipart_creates_a_step() {
+		StepReporter stepReporter = mock(StepReporter.class);
+		List<Object> emitted = log(new TestFormatter(), multipart(textPart("first"), textPart("second")), stepReporter);
+
+		assertThat(emitted, hasSize(2));
+		verify(stepReporter).sendStep(eq(ItemStatus.INFO), anyString());
+		verify(stepReporter).finishPreviousStep();
+	}
+
+	@Test
+	public void test_bundle_sizes_are_configurable() {
+		TestFormatter formatter = new TestFormatter();
+		assertThat(formatter.getMaxBundleSize(), equalTo(AbstractHttpFormatter.DEFAULT_MAX_BUNDLE_SIZE));
+		assertThat(formatter.setMaxBundleSize(100).getMaxBundleSize(), equalTo(100L));
+	}
+
+	@Test
+	public void test_multipart_request_hook_override_is_called() {
+		List<HttpRequestFormatter> hooked = new ArrayList<>();
+		TestFormatter formatter = new TestFormatter() {
+			@Override
+			protected void logMultiPartRequest(@Nonnull HttpRequestFormatter request) {
+				hooked.add(request);
+				super.logMultiPartRequest(request);
+			}
+		};
+		HttpRequestFormatter request = multipart(textPart("first"));
+		List<Object> emitted = log(formatter, request, mock(StepReporter.class));
+
+		assertThat(hooked, contains(sameInstance(request)));
+		assertThat(emitted, hasSize(1));
+	}
+
+	@Test
+	public void test_log_buffer_defers_exchanges_until_flush() {
+		DeferredLogBuffer buffer = new DeferredLogBuffer();
+		TestFormatter formatter = new TestFormatter().setLogBuffer(buffer);
+		HttpRequestFormatter request = new HttpRequestFormatter.Builder("GET", "https://example.com/api").build();
+		StepReporter stepReporter = mock(StepReporter.class);
+
+		buffer.start();
+		assertThat(capture(stepReporter, () -> formatter.emitLog(request)), empty());
+		assertThat(buffer.size(), equalTo(1));
+		List<Object> flushed = capture(stepReporter, buffer::flush);
+		assertThat(flushed, hasSize(1));
+		assertThat((String) flushed.get(0), containsString("GET to https://example.com/api"));
+
+		assertThat(capture(stepReporter, () -> formatter.emitLog(request)), hasSize(1));
+		assertThat(buffer.size(), equalTo(0));
+	}
+
+	/**
+	 * Describe emitted log entries, so logs of different runs can be compared.
+	 */
+	private static List<String> describe(List<Object> emitted) throws IOException {
+		List<String> result = new ArrayList<>();
+		for (Object entry : emitted) {
+			if (entry instanceof ReportPortalMessage) {
+				ReportPortalMessage message = (ReportPortalMessage) entry;
+				result.add(message.getMessage() + " [" + message.getData().getMediaType() + ", " + message.getData().read().length + "]");
+			} else {
+				result.add((String) entry);
+			}
+		}
+		return result;
+	}
+
+	@ParameterizedTest
+	@EnumSource(MultipartMode.class)
+	public void test_parallel_multipart_formatting_keeps_part_order(MultipartMode mode) throws IOException {
+		// earlier parts are prettified slower, so parallel tasks complete in the reverse order
+		Map<String, Function<String, String>> prettifiers = Collections.singletonMap(ContentType.APPLICATION_JSON, body -> {
+			try {
+				Thread.sleep(20 - body.length());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "pretty " + body;
+		});
+		HttpRequestFormatter.Builder builder = new HttpRequestFormatter.Builder("POST", "https://example.com/upload");
+		for (int i = 0; i < 6; i++) {
+			builder.addBodyPart(new HttpPartFormatter.Builder(HttpPartFormatter.PartType.TEXT,
+					ContentType.APPLICATION_JSON,
+					"{\"part\": \"" + "x".repeat(i) + "\"}"
+			).prettifiers(prettifiers).build());
+			if (i % 2 == 1) {
+				builder.addBodyPart(binaryPart("data" + i + ".bin", i));
+			}
+		}
+		HttpRequestFormatter request = builder.build();
+
+		List<Object> sequential = log(new TestFormatter().setMultipartMode(mode), request, mock(StepReporter.class));
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			TestFormatter formatter = new TestFormatter().setMultipartMode(mode).setFormattingPool(pool);
+			List<Object> parallel = log(formatter, request, mock(StepReporter.class));
+
+			assertThat(describe(parallel), equalTo(describe(sequential)));
+			assertThat(String.join("\n", describe(parallel)), stringContainsInOrder("pretty {\"part\": \"\"}", "pretty {\"part\": \"xxxxx\"}"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class DeferredLogBufferTest {
+
+	@Test
+	public void verify_buffer_keeps_last_entries_by_count() {
+		DeferredLogBuffer buffer = new DeferredLogBuffer(3, Long.MAX_VALUE);
+		buffer.start();
+		List<Integer> emitted = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			int id = i;
+			buffer.add(10, () -> emitted.add(id));
+		}
+		assertThat(buffer.size(), equalTo(3));
+		buffer.flush();
+		assertThat(emitted, equalTo(Arrays.asList(2, 3, 4)));
+		assertThat(buffer.size(), equalTo(0));
+	}
+
+	@Test
+	public void verify_buffer_keeps_last_entries_by_size() {
+		DeferredLogBuffer buffer = new DeferredLogBuffer(100, 25);
+		buffer.start();
+		List<Integer> emitted = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			int id = i;
+			buffer.add(10, () -> emitted.add(id));
+		}
+		buffer.add(100, () -> emitted.add(5));
+		buffer.flush();
+		assertThat(emitted, equalTo(Collections.singletonList(5)));
+	}
+
+	@Test
+	public void verify_buffer_emits_only_on_failure() {
+		DeferredLogBuffer buffer = new DeferredLogBuffer();
+		buffer.start();
+		List<Integer> emitted = new ArrayList<>();
+		buffer.add(10, () -> emitted.add(1));
+		buffer.finish(ItemStatus.PASSED);
+		assertThat(emitted, equalTo(Collections.emptyList()));
+
+		buffer.start();
+		buffer.add(10, () -> emitted.add(2));
+		buffer.finish(ItemStatus.FAILED);
+		assertThat(emitted, equalTo(Collections.singletonList(2)));
+	}
+
+	@Test
+	public void verify_buffer_skips_threads_which_did_not_start_buffering() {
+		DeferredLogBuffer buffer = new DeferredLogBuffer();
+		assertThat(buffer.add(10, () -> {}), equalTo(false));
+		buffer.start();
+		assertThat(CompletableFuture.supplyAsync(() -> buffer.add(10, () -> {})).join(), equalTo(false));
+		assertThat(buffer.add(10, () -> {}), equalTo(true));
+		assertThat(buffer.size(), equalTo(1));
+		buffer.discard();
+		assertThat(buffer.add(10, () -> {}), equalTo(false));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.HttpResponseFormatter;
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import com.epam.reportportal.formatting.http.entities.Param;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.*;
+
+public class ExchangeDeduplicatorTest {
+	private static final String URI = "https://example.com/api/job/1";
+
+	private final ExchangeDeduplicator deduplicator = new ExchangeDeduplicator();
+	private final List<String> log = new ArrayList<>();
+
+	private static HttpRequestFormatter request() {
+		return new HttpRequestFormatter.Builder("GET", URI).addHeader("Accept", "application/json").build();
+	}
+
+	private static HttpResponseFormatter response(String state, String date) {
+		return new HttpResponseFormatter.Builder(200, "OK").request("GET", URI)
+				.addHeader("Date", date)
+				.bodyText("application/json", "{\"state\": \"" + state + "\"}")
+				.build();
+	}
+
+	private void process(HttpFormatter formatter, int second) {
+		deduplicator.process(
+				formatter,
+				Instant.ofEpochSecond(second),
+				(f, t) -> log.add((f.getStatusCode() < 0 ? "request " : "response ") + t.getEpochSecond()),
+				(m, t) -> log.add(m)
+		);
+	}
+
+	@Test
+	public void verify_repeated_exchanges_are_collapsed() {
+		process(request(), 0);
+		process(response("RUNNING", "Mon, 19 Oct 2026 10:00:00 GMT"), 1);
+		process(request(), 2);
+		process(response("RUNNING", "Mon, 19 Oct 2026 10:00:02 GMT"), 3);
+		process(request(), 4);
+		process(response("RUNNING", "Mon, 19 Oct 2026 10:00:04 GMT"), 5);
+		process(request(), 6);
+		process(response("DONE", "Mon, 19 Oct 2026 10:00:06 GMT"), 7);
+		deduplicator.finish();
+
+		assertThat(
+				log, equalTo(Arrays.asList(
+						"request 0",
+						"response 1",
+						"Previous exchange repeated 2 times between " + Instant.ofEpochSecond(2) + " and " + Instant.ofEpochSecond(5),
+						"request 6",
+						"response 7"
+				))
+		);
+	}
+
+	@Test
+	public void verify_last_run_is_reported_on_finish() {
+		process(request(), 0);
+		process(response("RUNNING", "Mon, 19 Oct 2026 10:00:00 GMT"), 1);
+		process(request(), 2);
+		process(response("RUNNING", "Mon, 19 Oct 2026 10:00:02 GMT"), 3);
+		deduplicator.finish();
+
+		assertThat(
+				log, equalTo(Arrays.asList(
+						"request 0",
+						"response 1",
+						"Previous exchange repeated 1 times between " + Instant.ofEpochSecond(2) + " and " + Instant.ofEpochSecond(3)
+				))
+		);
+	}
+
+	@Test
+	public void verify_bodies_are_hashed_without_decoding_or_formatting() {
+		HttpFormatter text = mock(HttpFormatter.class);
+		when(text.getType()).thenReturn(BodyType.TEXT);
+		when(text.getCharset()).thenReturn(StandardCharsets.UTF_8);
+		when(text.getTextBodyBytes()).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+		long textHash = deduplicator.hash(text);
+		when(text.getTextBodyBytes()).thenReturn("[]".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(deduplicator.hash(text), not(equalTo(textHash)));
+		verify(text, never()).getTextBody();
+
+		HttpFormatter form = mock(HttpFormatter.class);
+		when(form.getType()).thenReturn(BodyType.FORM);
+		when(form.getFormBody()).thenReturn(Collections.singletonList(new Param("a", "1")));
+		long formHash = deduplicator.hash(form);
+		when(form.getFormBody()).thenReturn(Collections.singletonList(new Param("a", "2")));
+
+		assertThat(deduplicator.hash(form), not(equalTo(formHash)));
+		verify(form, never()).formatAsText();
+	}
+}
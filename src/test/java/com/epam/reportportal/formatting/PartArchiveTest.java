@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting;
+
+import com.epam.reportportal.formatting.http.HttpPartFormatter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PartArchiveTest {
+
+	private static HttpPartFormatter binaryPart(String controlName, String fileName, String content) {
+		return new HttpPartFormatter.Builder(
+				HttpPartFormatter.PartType.BINARY,
+				"application/octet-stream",
+				content.getBytes(StandardCharsets.UTF_8)
+		).controlName(controlName).fileName(fileName).build();
+	}
+
+	@Test
+	public void test_parts_are_archived_with_unique_names() throws IOException {
+		PartArchive archive = new PartArchive();
+		assertThat(archive.add(binaryPart("file", "../data.bin", "first")), equalTo(".._data.bin"));
+		assertThat(archive.add(binaryPart("file", "../data.bin", "second")), equalTo("1-.._data.bin"));
+		assertThat(archive.add(binaryPart("image", null, "third")), equalTo("image"));
+		assertThat(archive.add(binaryPart(null, null, "fourth")), equalTo("part"));
+		assertThat(archive.size(), equalTo(4));
+
+		List<String> entries = new ArrayList<>();
+		List<String> contents = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.add(entry.getName());
+				contents.add(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+		assertThat(entries, contains(".._data.bin", "1-.._data.bin", "image", "part"));
+		assertThat(contents, contains("first", "second", "third", "fourth"));
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.reportportal.formatting.http.Constants.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BodyDifferTest {
+	private static final String KEY = "GET https://example.com/api/job/1";
+
+	private static String body(String state) {
+		return IntStream.range(0, 20)
+				.mapToObj(i -> i == 10 ? "  \"state\" : \"" + state + "\"," : "  \"field" + i + "\" : " + i + ",")
+				.collect(Collectors.joining(LINE_DELIMITER, "{" + LINE_DELIMITER, LINE_DELIMITER + "}"));
+	}
+
+	@Test
+	public void verify_first_body_has_no_diff() {
+		assertThat(new BodyDiffer().diff(KEY, body("RUNNING")), nullValue());
+	}
+
+	@Test
+	public void verify_small_change_is_rendered_as_unified_diff() {
+		BodyDiffer differ = new BodyDiffer();
+		differ.diff(KEY, body("RUNNING"));
+		String expected = String.join(
+				LINE_DELIMITER,
+				"--- previous",
+				"+++ current",
+				"@@ -9,7 +9,7 @@",
+				"   \"field7\" : 7,",
+				"   \"field8\" : 8,",
+				"   \"field9\" : 9,",
+				"-  \"state\" : \"RUNNING\",",
+				"+  \"state\" : \"DONE\",",
+				"   \"field11\" : 11,",
+				"   \"field12\" : 12,",
+				"   \"field13\" : 13,"
+		);
+		assertThat(differ.diff(KEY, body("DONE")), equalTo(expected));
+	}
+
+	@Test
+	public void verify_large_change_falls_back_to_full_body() {
+		BodyDiffer differ = new BodyDiffer();
+		differ.diff(KEY, "{\"a\": 1}");
+		assertThat(differ.diff(KEY, "{\"b\": 2}"), nullValue());
+	}
+
+	@Test
+	public void verify_response_formatter_logs_diff() {
+		BodyDiffer differ = new BodyDiffer();
+		new HttpResponseFormatter.Builder(200, null).request("GET", "https://example.com/api/job/1")
+				.bodyDiffer(differ)
+				.bodyText("text/plain", body("RUNNING"))
+				.build()
+				.formatAsText();
+		String text = new HttpResponseFormatter.Builder(200, null).request("GET", "https://example.com/api/job/1")
+				.bodyDiffer(differ)
+				.bodyText("text/plain", body("DONE"))
+				.build()
+				.formatAsText();
+		assertThat(text, startsWith(RESPONSE_TAG + LINE_DELIMITER + "200" + LINE_DELIMITER + LINE_DELIMITER + BODY_DIFF_TAG));
+		assertThat(text, containsString("+  \"state\" : \"DONE\","));
+	}
+
+	@Test
+	public void verify_bodies_are_kept_per_thread() {
+		BodyDiffer differ = new BodyDiffer();
+		differ.diff(KEY, body("RUNNING"));
+		assertThat(CompletableFuture.supplyAsync(() -> differ.diff(KEY, body("DONE"))).join(), nullValue());
+		assertThat(differ.diff(KEY, body("DONE")), containsString("+  \"state\" : \"DONE\","));
+		differ.reset();
+		assertThat(differ.diff(KEY, body("FAILED")), nullValue());
+	}
+}
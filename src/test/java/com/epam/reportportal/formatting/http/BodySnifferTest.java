@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class BodySnifferTest {
+
+	public static Iterable<Object[]> sniffingCases() {
+		return Arrays.asList(
+				new Object[] { "{\"id\": 1, \"name\": \"\u041f\u0440\u0438\u0432\u0435\u0442\"}".getBytes(StandardCharsets.UTF_8), BodyType.TEXT,
+						"application/json" },
+				new Object[] { "<?xml version=\"1.0\"?><a>1</a>".getBytes(StandardCharsets.UTF_8), BodyType.TEXT, "application/xml" },
+				new Object[] { "<!DOCTYPE html><html></html>".getBytes(StandardCharsets.UTF_8), BodyType.TEXT, "text/html" },
+				new Object[] { "plain text\r\n".getBytes(StandardCharsets.UTF_8), BodyType.TEXT, "text/plain" },
+				new Object[] { new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']' }, BodyType.TEXT, "application/json" },
+				new Object[] { new byte[] { (byte) 0xFF, (byte) 0xFE, '[', 0, ']', 0 }, BodyType.TEXT, "application/json" },
+				new Object[] { new byte[] { (byte) 0xFE, (byte) 0xFF, 0, '[', 0, ']' }, BodyType.TEXT, "application/json" },
+				new Object[] { new byte[] { (byte) 0xFE, (byte) 0xFF, 0, 'a', 0, 1 }, BodyType.BINARY, "application/octet-stream" },
+				new Object[] { new byte[] { (byte) 0xFF, (byte) 0xFE, 0, (byte) 0xDC, 'a', 0 }, BodyType.BINARY, "application/octet-stream" },
+				new Object[] { new byte[] { (byte) 0xFF, (byte) 0xFE, 'a', 0, 'b' }, BodyType.BINARY, "application/octet-stream" },
+				new Object[] { new byte[] { (byte) 0x89, 'P', 'N', 'G', 13, 10, 26, 10 }, BodyType.BINARY, "image/png" },
+				new Object[] { "%PDF-1.7".getBytes(StandardCharsets.US_ASCII), BodyType.BINARY, "application/pdf" },
+				new Object[] { new byte[] { 0x1F, (byte) 0x8B, 8, 0 }, BodyType.BINARY, "application/gzip" },
+				new Object[] { new byte[] { 'a', 0, 'b' }, BodyType.BINARY, "application/octet-stream" },
+				new Object[] { new byte[] { 'a', (byte) 0xC3, 'b' }, BodyType.BINARY, "application/octet-stream" },
+				new Object[] { new byte[] { 'a', (byte) 0xC0, (byte) 0x80 }, BodyType.BINARY, "application/octet-stream" }
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("sniffingCases")
+	public void test_body_sniffing(byte[] body, BodyType expectedType, String expectedMimeType) {
+		BodySniffer.Result result = new BodySniffer().sniff(null, "application/octet-stream", body);
+		assertThat(result.getType(), equalTo(expectedType));
+		assertThat(result.getMimeType(), equalTo(expectedMimeType));
+	}
+
+	@Test
+	public void test_multibyte_sequence_cut_by_sample_is_allowed() {
+		byte[] body = "aaa\u0416".getBytes(StandardCharsets.UTF_8);
+		assertThat(BodySniffer.isUtf8Text(body, 4), equalTo(true));
+		assertThat(BodySniffer.isUtf8Text(Arrays.copyOf(body, 4), 4), equalTo(false));
+	}
+
+	@Test
+	public void test_result_is_cached_per_endpoint_and_bom_is_skipped() {
+		BodySniffer sniffer = new BodySniffer();
+		BodySniffer.Result first = sniffer.sniff("GET /file", null, "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+		BodySniffer.Result cached = sniffer.sniff("GET /file", null, "[1]".getBytes(StandardCharsets.UTF_8));
+		assertThat(cached.getType(), equalTo(BodyType.TEXT));
+		assertThat(cached.getMimeType(), sameInstance(first.getMimeType()));
+		assertThat(sniffer.sniff("GET /other", null, new byte[] { 0, 1, 2 }).getType(), equalTo(BodyType.BINARY));
+
+		byte[] withBom = new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '{', '}' };
+		assertThat(sniffer.sniff("GET /file", null, withBom).decode(withBom), equalTo("{}"));
+	}
+
+	@Test
+	public void test_every_body_is_inspected_regardless_of_cache() {
+		BodySniffer sniffer = new BodySniffer();
+		assertThat(sniffer.sniff("GET /file", null, "{\"a\":1}".getBytes(StandardCharsets.UTF_8)).getType(), equalTo(BodyType.TEXT));
+
+		BodySniffer.Result zip = sniffer.sniff("GET /file", null, new byte[] { 'P', 'K', 3, 4, 0 });
+		assertThat(zip.getType(), equalTo(BodyType.BINARY));
+		assertThat(zip.getMimeType(), equalTo("application/zip"));
+		assertThat(sniffer.sniff("GET /file", null, new byte[] { 8, 1, 18, 0 }).getType(), equalTo(BodyType.BINARY));
+
+		assertThat(sniffer.sniff("GET /empty", null, new byte[0]).getType(), equalTo(BodyType.BINARY));
+		BodySniffer.Result text = sniffer.sniff("GET /empty", null, "plain".getBytes(StandardCharsets.UTF_8));
+		assertThat(text.getType(), equalTo(BodyType.TEXT));
+		assertThat(text.getMimeType(), equalTo("text/plain"));
+	}
+
+	@Test
+	public void test_image_types_are_not_sniffed() {
+		BodySniffer.Result result = new BodySniffer().sniff(null, "image/svg", "<svg/>".getBytes(StandardCharsets.UTF_8));
+		assertThat(result.getType(), equalTo(BodyType.BINARY));
+	}
+
+	@Test
+	public void test_response_formatter_logs_sniffed_body_as_text() {
+		HttpResponseFormatter formatter = new HttpResponseFormatter.Builder(200, "OK").bodyBytes(
+						"application/octet-stream",
+						"{\"a\":1}".getBytes(StandardCharsets.UTF_8)
+				)
+				.bodySniffer(new BodySniffer())
+				.build();
+		assertThat(formatter.getType(), equalTo(BodyType.TEXT));
+		assertThat(formatter.getMimeType(), equalTo("application/json"));
+		assertThat(formatter.getTextBody(), equalTo("{\"a\":1}"));
+	}
+
+	@Test
+	public void test_sniffed_text_body_is_kept_as_bytes() {
+		byte[] body = new byte[] { (byte) 0xFE, (byte) 0xFF, 0, '[', 0x04, 0x16, 0, ']' };
+		HttpResponseFormatter formatter = new HttpResponseFormatter.Builder(200, "OK").bodyBytes("application/octet-stream", body)
+				.bodySniffer(new BodySniffer())
+				.build();
+		assertThat(formatter.getType(), equalTo(BodyType.TEXT));
+		assertThat(formatter.getBodySize(), equalTo((long) body.length));
+		assertThat(formatter.getCharset(), equalTo(StandardCharsets.UTF_16BE));
+		assertThat(formatter.getTextBody(), equalTo("[\u0416]"));
+	}
+
+	@Test
+	public void test_surrogate_pair_cut_by_sample_is_allowed() {
+		byte[] body = new byte[] { (byte) 0xFE, (byte) 0xFF, 0, 'a', (byte) 0xD8, 0x3D, (byte) 0xDE, 0x00 };
+		assertThat(BodySniffer.isUtf16Text(body, 2, 6, true), equalTo(true));
+		assertThat(BodySniffer.isUtf16Text(body, 2, 8, true), equalTo(true));
+		assertThat(BodySniffer.isUtf16Text(Arrays.copyOf(body, 6), 2, 6, true), equalTo(false));
+	}
+}
@@ -16,14 +16,19 @@
 
 package com.epam.reportportal.formatting.http;
 
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
+import static com.epam.reportportal.formatting.http.Constants.BODY_HIGHLIGHT;
 import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
 import static com.epam.reportportal.formatting.http.Constants.RESPONSE_TAG;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 
 public class HttpResponseFormatterTest {
@@ -44,4 +49,46 @@ public class HttpResponseFormatterTest {
 		assertThat(new HttpResponseFormatter(statusCode, phrase).formatTitle(), equalTo(expected));
 	}
 
+	@Test
+	public void test_text_body_kept_as_bytes_is_decoded_with_content_type_charset() {
+		String text = "{\"name\": \"caf\u00e9\"}";
+		HttpResponseFormatter formatter = new HttpResponseFormatter.Builder(200, "OK").bodyTextBytes(
+				"application/json; charset=ISO-8859-1",
+				text.getBytes(StandardCharsets.ISO_8859_1)
+		).build();
+
+		assertThat(formatter.getType(), equalTo(BodyType.TEXT));
+		assertThat(formatter.getMimeType(), equalTo("application/json"));
+		assertThat(formatter.getCharset(), equalTo(StandardCharsets.ISO_8859_1));
+		assertThat(formatter.getBodySize(), equalTo((long) text.length()));
+		assertThat(formatter.getTextBody(), equalTo(text));
+	}
+
+	@Test
+	public void test_text_body_kept_as_bytes_skips_byte_order_mark() {
+		byte[] body = "\ufeff{}".getBytes(StandardCharsets.UTF_16LE);
+		HttpResponseFormatter formatter = new HttpResponseFormatter.Builder(200, "OK").bodyTextBytes(
+				"application/json",
+				body,
+				StandardCharsets.UTF_16LE
+		).build();
+
+		assertThat(formatter.getBodySize(), equalTo((long) body.length));
+		assertThat(formatter.getTextBody(), equalTo("{}"));
+	}
+
+	@Test
+	public void test_text_part_kept_as_bytes_is_decoded_with_part_charset() {
+		String text = "caf\u00e9";
+		HttpPartFormatter part = new HttpPartFormatter.Builder(
+				HttpPartFormatter.PartType.TEXT,
+				"text/plain",
+				text.getBytes(StandardCharsets.ISO_8859_1)
+		).charset("ISO-8859-1").build();
+
+		assertThat(part.getTextPayloadSize(), equalTo((long) text.length()));
+		assertThat(part.getTextPayload(), equalTo(text));
+		assertThat(part.formatAsText(), endsWith(text + LINE_DELIMITER + BODY_HIGHLIGHT));
+	}
+
 }
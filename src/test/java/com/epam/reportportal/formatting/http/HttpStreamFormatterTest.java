@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HttpStreamFormatterTest {
+
+	@Test
+	public void test_events_are_batched_and_summarized() {
+		List<Pair<String, Instant>> messages = new ArrayList<>();
+		HttpStreamFormatter formatter = new HttpStreamFormatter.Builder().request("GET", "http://example.com/events")
+				.window(Duration.ofHours(1))
+				.build((m, t) -> messages.add(Pair.of(m, t)));
+
+		formatter.addEvent("id: 1\nevent: update\ndata: {\"a\":\n: comment\ndata: 1}");
+		formatter.addEvent(null, null, "plain text");
+		assertThat(messages, empty());
+
+		formatter.finish();
+		formatter.addEvent(null, null, "ignored");
+		assertThat(messages, hasSize(2));
+		String batch = messages.get(0).getKey();
+		assertThat(batch, startsWith("**Stream events 1-2**\nGET http://example.com/events\n```\n[+"));
+		assertThat(batch, containsString(" ms] event 1 update id: 1\n{\n  \"a\" : 1\n}\n[+"));
+		assertThat(batch, endsWith(" ms] event 2\nplain text\n```"));
+		assertThat(messages.get(1).getKey(), startsWith("Stream finished: 2 events, 60 bytes in "));
+		assertThat(formatter.getEventCount(), equalTo(2L));
+	}
+
+	@Test
+	public void test_batches_are_sent_by_byte_budget() {
+		List<String> messages = new ArrayList<>();
+		HttpStreamFormatter formatter = new HttpStreamFormatter.Builder().contentType("text/plain; charset=utf-8")
+				.window(Duration.ofHours(1))
+				.maxBatchSize(10)
+				.build((m, t) -> messages.add(m));
+
+		formatter.addChunk("12345");
+		formatter.addChunk("67890".getBytes(StandardCharsets.UTF_8));
+		formatter.addChunk("abc");
+		assertThat(messages, hasSize(1));
+		assertThat(messages.get(0), startsWith("**Stream events 1-2**\n```\n"));
+
+		formatter.finish();
+		assertThat(messages, hasSize(3));
+		assertThat(messages.get(1), startsWith("**Stream events 3-3**\n```\n"));
+		assertThat(messages.get(2), startsWith("Stream finished: 3 events, 13 bytes in "));
+	}
+
+	@Test
+	public void test_batches_are_sent_by_time_window() {
+		List<String> messages = new ArrayList<>();
+		HttpStreamFormatter formatter = new HttpStreamFormatter.Builder().window(Duration.ZERO).build((m, t) -> messages.add(m));
+
+		formatter.addChunk("a");
+		formatter.addChunk("b");
+		assertThat(messages, hasSize(1));
+		assertThat(messages.get(0), startsWith("**Stream events 1-1**"));
+	}
+
+	@Test
+	public void test_batches_of_other_threads_are_sent_from_creating_thread() throws InterruptedException {
+		Thread testThread = Thread.currentThread();
+		List<String> messages = new ArrayList<>();
+		List<Thread> senders = new ArrayList<>();
+		HttpStreamFormatter formatter = new HttpStreamFormatter.Builder().window(Duration.ofHours(1))
+				.maxBatchSize(1)
+				.build((m, t) -> {
+					messages.add(m);
+					senders.add(Thread.currentThread());
+				});
+
+		Thread callbackThread = new Thread(() -> {
+			formatter.addChunk("a");
+			formatter.addChunk("b");
+		});
+		callbackThread.start();
+		callbackThread.join();
+		assertThat(messages, empty());
+
+		formatter.flush();
+		assertThat(messages, hasSize(2));
+		assertThat(messages.get(0), startsWith("**Stream events 1-1**"));
+		assertThat(messages.get(1), startsWith("**Stream events 2-2**"));
+
+		formatter.addChunk("c");
+		formatter.finish();
+		assertThat(messages, hasSize(4));
+		assertThat(messages.get(3), startsWith("Stream finished: 3 events"));
+		assertThat(senders, everyItem(sameInstance(testThread)));
+	}
+
+	@Test
+	public void test_characters_split_between_chunks_are_decoded() {
+		List<String> messages = new ArrayList<>();
+		HttpStreamFormatter formatter = new HttpStreamFormatter.Builder().contentType("text/plain; charset=utf-8")
+				.window(Duration.ofHours(1))
+				.build((m, t) -> messages.add(m));
+
+		byte[] bytes = "caf\u00e9 \ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+		formatter.addChunk(Arrays.copyOfRange(bytes, 0, 4));
+		formatter.addChunk(Arrays.copyOfRange(bytes, 4, 8));
+		formatter.addChunk(Arrays.copyOfRange(bytes, 8, bytes.length - 1));
+		formatter.finish();
+
+		assertThat(messages, hasSize(2));
+		String batch = messages.get(0);
+		assertThat(batch, not(containsString("\ufffd\ufffd")));
+		assertThat(batch, containsString(" ms] chunk 1\ncaf\n"));
+		assertThat(batch, containsString(" ms] chunk 2\n\u00e9 \n"));
+		assertThat(batch, containsString(" ms] chunk 4\n\ufffd\n"));
+		assertThat(messages.get(1), startsWith("Stream finished: 4 events, " + (bytes.length - 1) + " bytes in "));
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultipartBodyParserTest {
+
+	private static final String CONTENT_TYPE = "multipart/mixed; boundary=\"simple boundary\"";
+
+	private static final String BODY = "preamble\r\n--simple boundary\r\n"
+			+ "Content-Disposition: form-data; name=\"field\"\r\n\r\nvalue\r\n--simple boundary  \r\n"
+			+ "Content-Type: application/json\r\n\r\n{\"a\":1}\r\n--simple boundary\r\n"
+			+ "Content-Disposition: attachment; name=\"file\"; filename=\"data.bin\"\r\n"
+			+ "Content-Type: application/octet-stream\r\n\r\n\u0000\u0001\r\n--simple\r\n--simple boundary--\r\nepilogue";
+
+	/**
+	 * Returns data by one byte to check delimiters split between reads.
+	 */
+	private static InputStream byteByByte(byte[] data) {
+		return new FilterInputStream(new ByteArrayInputStream(data)) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		};
+	}
+
+	@Test
+	public void test_multipart_body_parsing() throws IOException {
+		byte[] body = BODY.getBytes(StandardCharsets.ISO_8859_1);
+		for (List<HttpPartFormatter> parts : Arrays.asList(
+				MultipartBodyParser.INSTANCE.parse(CONTENT_TYPE, body),
+				MultipartBodyParser.INSTANCE.parse(CONTENT_TYPE, byteByByte(body))
+		)) {
+			assertThat(parts, hasSize(3));
+			assertThat(parts.get(0).getType(), equalTo(HttpPartFormatter.PartType.TEXT));
+			assertThat(parts.get(0).getControlName(), equalTo("field"));
+			assertThat(parts.get(0).getMimeType(), equalTo("text/plain"));
+			assertThat(parts.get(0).getTextPayload(), equalTo("value"));
+
+			assertThat(parts.get(1).getType(), equalTo(HttpPartFormatter.PartType.TEXT));
+			assertThat(parts.get(1).getMimeType(), equalTo("application/json"));
+			assertThat(parts.get(1).getTextPayload(), equalTo("{\"a\":1}"));
+
+			assertThat(parts.get(2).getType(), equalTo(HttpPartFormatter.PartType.BINARY));
+			assertThat(parts.get(2).getControlName(), equalTo("file"));
+			assertThat(parts.get(2).getFileName(), equalTo("data.bin"));
+			assertThat(parts.get(2).getHeaders(), hasSize(2));
+			assertThat(parts.get(2).getBinaryPayload(), equalTo("\u0000\u0001\r\n--simple".getBytes(StandardCharsets.ISO_8859_1)));
+		}
+	}
+
+	@Test
+	public void test_multipart_body_limits() {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 5; i++) {
+			body.append("--b\r\n\r\n").append("part ").append(i).append(" content\r\n");
+		}
+		body.append("--b--");
+		List<HttpPartFormatter> parts = new MultipartBodyParser.Builder().maxParts(2)
+				.maxPartSize(6)
+				.build()
+				.parse("multipart/mixed; boundary=b", body.toString().getBytes(StandardCharsets.UTF_8));
+
+		assertThat(parts, hasSize(3));
+		assertThat(parts.get(0).getTextPayload(), equalTo("part 0\u2026(+8 bytes)"));
+		assertThat(parts.get(1).getTextPayload(), equalTo("part 1\u2026(+8 bytes)"));
+		assertThat(parts.get(2).getTextPayload(), equalTo("\u2026(+3 parts, 42 bytes)"));
+	}
+
+	@Test
+	public void test_multipart_text_is_truncated_at_character_boundary() {
+		String body = "--b\r\n\r\nab\u0416\u0416\r\n--b--";
+		List<HttpPartFormatter> parts = new MultipartBodyParser.Builder().maxPartSize(5)
+				.build()
+				.parse("multipart/mixed; boundary=b", body.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(parts, hasSize(1));
+		assertThat(parts.get(0).getTextPayload(), equalTo("ab\u0416\u2026(+2 bytes)"));
+	}
+
+	@Test
+	public void test_multipart_part_with_oversized_headers_is_summarized() {
+		String headers = "X-Long: " + String.join("", Collections.nCopies(MultipartBodyParser.DEFAULT_MAX_HEADERS_SIZE * 2, "a"));
+		String body = "--b\r\n\r\nfirst\r\n--b\r\n" + headers + "\r\n\r\nskipped\r\n--b\r\n\r\nlast\r\n--b--";
+		List<HttpPartFormatter> parts = MultipartBodyParser.INSTANCE.parse(
+				"multipart/mixed; boundary=b",
+				body.getBytes(StandardCharsets.UTF_8)
+		);
+
+		assertThat(parts, hasSize(3));
+		assertThat(parts.get(0).getTextPayload(), equalTo("first"));
+		assertThat(parts.get(1).getTextPayload(), equalTo("last"));
+		assertThat(parts.get(2).getTextPayload(), equalTo("\u2026(+1 parts, " + (headers.length() + 11) + " bytes)"));
+	}
+
+	@Test
+	public void test_multipart_part_charsets() {
+		String body = "--b\r\nContent-Type: application/json; charset=\"ISO-8859-1\"\r\n\r\n\"caf\u00e9\"\r\n"
+				+ "--b\r\nContent-Type:text/plain; charset=bogus\r\n\r\nvalue\r\n--b--";
+		List<HttpPartFormatter> parts = MultipartBodyParser.INSTANCE.parse(
+				"multipart/mixed; boundary=b",
+				body.getBytes(StandardCharsets.ISO_8859_1)
+		);
+
+		assertThat(parts, hasSize(2));
+		assertThat(parts.get(0).getMimeType(), equalTo("application/json"));
+		assertThat(parts.get(0).getCharset(), equalTo("ISO-8859-1"));
+		assertThat(parts.get(0).getTextPayload(), equalTo("\"caf\u00e9\""));
+		assertThat(parts.get(1).getMimeType(), equalTo("text/plain"));
+		assertThat(parts.get(1).getCharset(), equalTo("UTF-8"));
+		assertThat(parts.get(1).getTextPayload(), equalTo("value"));
+	}
+
+	@Test
+	public void test_multipart_body_without_boundary() {
+		assertThrows(IllegalArgumentException.class, () -> MultipartBodyParser.INSTANCE.parse("multipart/mixed", new byte[0]));
+	}
+
+	@Test
+	public void test_response_formatter_with_parsed_parts() {
+		HttpResponseFormatter.Builder builder = new HttpResponseFormatter.Builder(200, "OK");
+		MultipartBodyParser.INSTANCE.parse(CONTENT_TYPE, BODY.getBytes(StandardCharsets.ISO_8859_1)).forEach(builder::addBodyPart);
+		HttpResponseFormatter formatter = builder.build();
+
+		assertThat(formatter.getType(), equalTo(BodyType.MULTIPART));
+		assertThat(formatter.getMultipartBody(), hasSize(3));
+	}
+}
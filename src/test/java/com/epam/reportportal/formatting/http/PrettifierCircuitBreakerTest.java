@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import com.epam.reportportal.formatting.http.prettifiers.JsonPrettifier;
+import com.epam.reportportal.formatting.http.prettifiers.JsonStreamingPrettifier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrettifierCircuitBreakerTest {
+	private static final String ENDPOINT = "GET /api/items";
+	private static final String JSON = "application/json";
+
+	@Test
+	public void test_circuit_opens_on_failures_and_closes_after_successful_trial() {
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(3).openDuration(Duration.ZERO).build();
+		Map<String, Function<String, String>> prettifiers = Map.of(JSON, JsonPrettifier.INSTANCE);
+		String invalid = "<html>Bad Gateway</html>";
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(breaker.prettify(ENDPOINT, invalid, prettifiers, JSON), sameInstance(invalid));
+		}
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+		assertThat(breaker.getState("GET /api/other", JSON), equalTo(PrettifierCircuitBreaker.State.CLOSED));
+
+		// half-open trial fails
+		assertThat(breaker.prettify(ENDPOINT, invalid, prettifiers, JSON), sameInstance(invalid));
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+
+		// half-open trial succeeds
+		assertThat(breaker.prettify(ENDPOINT, "{\"a\":1}", prettifiers, JSON), not(equalTo("{\"a\":1}")));
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.CLOSED));
+	}
+
+	@Test
+	public void test_open_circuit_skips_prettifier_and_truncates_body() {
+		AtomicInteger calls = new AtomicInteger();
+		Function<String, String> prettifier = body -> {
+			calls.incrementAndGet();
+			throw new IllegalStateException("Broken prettifier");
+		};
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(2).fallbackLength(5).build();
+		Map<String, Function<String, String>> prettifiers = Map.of(JSON, prettifier);
+
+		assertThat(breaker.prettify(ENDPOINT, "0123456789", prettifiers, JSON), equalTo("0123456789"));
+		assertThat(breaker.prettify(ENDPOINT, "0123456789", prettifiers, JSON), equalTo("0123456789"));
+		assertThat(breaker.prettify(ENDPOINT, "0123456789", prettifiers, JSON), equalTo("01234\u2026(+5 chars)"));
+
+		assertThat(calls.get(), equalTo(2));
+		assertThat(breaker.getShortCircuitCount(), equalTo(1L));
+	}
+
+	@Test
+	public void test_error_in_trial_call_reopens_circuit() {
+		AtomicInteger calls = new AtomicInteger();
+		Function<String, String> prettifier = body -> {
+			if (calls.incrementAndGet() > 2) {
+				throw new StackOverflowError();
+			}
+			return body;
+		};
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(2).openDuration(Duration.ZERO).build();
+		Map<String, Function<String, String>> prettifiers = Map.of(JSON, prettifier);
+
+		breaker.prettify(ENDPOINT, "{}", prettifiers, JSON);
+		breaker.prettify(ENDPOINT, "{}", prettifiers, JSON);
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+
+		assertThrows(StackOverflowError.class, () -> breaker.prettify(ENDPOINT, "{}", prettifiers, JSON));
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+		assertThrows(StackOverflowError.class, () -> breaker.prettify(ENDPOINT, "{}", prettifiers, JSON));
+		assertThat(calls.get(), equalTo(4));
+	}
+
+	@Test
+	public void test_masking_prettifier_is_never_skipped() {
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(1)
+				.slowThreshold(Duration.ofNanos(-1))
+				.build();
+		Map<String, Function<String, String>> prettifiers = Map.of(
+				JSON,
+				new JsonStreamingPrettifier.Builder().maskKeys("password").minify(true).build()
+		);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(breaker.prettify(ENDPOINT, "password=secret", prettifiers, JSON), equalTo("<removed>"));
+			assertThat(breaker.prettify(ENDPOINT, "{\"password\": \"secret\"}", prettifiers, JSON), equalTo("{\"password\":\"<removed>\"}"));
+		}
+		assertThat(breaker.getState(ENDPOINT, JSON), equalTo(PrettifierCircuitBreaker.State.CLOSED));
+		assertThat(breaker.getShortCircuitCount(), equalTo(0L));
+	}
+
+	@Test
+	public void test_slow_prettifier_opens_circuit() {
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(2)
+				.slowThreshold(Duration.ofNanos(-1))
+				.build();
+		Map<String, Function<String, String>> prettifiers = Map.of(JSON, String::trim);
+
+		breaker.prettify(null, " a ", prettifiers, JSON);
+		breaker.prettify(null, " a ", prettifiers, JSON);
+
+		assertThat(breaker.getState(null, JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+		assertThat(breaker.prettify(null, " a ", prettifiers, JSON), equalTo(" a "));
+	}
+
+	@Test
+	public void test_request_formatter_uses_breaker() {
+		PrettifierCircuitBreaker breaker = new PrettifierCircuitBreaker.Builder().minCalls(1).build();
+		for (int i = 0; i < 2; i++) {
+			new HttpRequestFormatter.Builder("POST", "http://example.com/api?q=" + i).bodyText(JSON, "not a json")
+					.prettifierBreaker(breaker)
+					.build()
+					.formatAsText();
+		}
+		assertThat(breaker.getState("POST /api", JSON), equalTo(PrettifierCircuitBreaker.State.OPEN));
+		assertThat(breaker.getShortCircuitCount(), equalTo(1L));
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class WebSocketFrameFormatterTest {
+
+	@Test
+	public void test_frames_are_formatted_in_one_batch() {
+		List<String> messages = new ArrayList<>();
+		WebSocketFrameFormatter formatter = new WebSocketFrameFormatter.Builder().uri("wss://example.com/socket")
+				.window(Duration.ofHours(1))
+				.binaryPreviewSize(4)
+				.build((m, t) -> messages.add(m));
+
+		formatter.addText(WebSocketFrameFormatter.Direction.SENT, "{\"op\":\"subscribe\"}");
+		formatter.addBinary(WebSocketFrameFormatter.Direction.RECEIVED, new byte[] { 1, 2, (byte) 0xAB, 3, 4, 5 });
+		byte[] close = { 0x03, (byte) 0xE8, 'b', 'y', 'e' };
+		formatter.addFrame(WebSocketFrameFormatter.Direction.RECEIVED, WebSocketFrameFormatter.Opcode.CLOSE, close);
+		formatter.finish();
+
+		assertThat(messages, hasSize(2));
+		String batch = messages.get(0);
+		assertThat(batch, startsWith("**WebSocket frames 1-3**\nwss://example.com/socket\n```\n[+"));
+		assertThat(batch, containsString(" ms] frame 1 >>> TEXT 18 bytes\n{\n  \"op\" : \"subscribe\"\n}\n"));
+		assertThat(batch, containsString(" ms] frame 2 <<< BINARY 6 bytes\n01 02 ab 03\u2026(+2 bytes)\n"));
+		assertThat(batch, containsString(" ms] frame 3 <<< CLOSE 5 bytes\n1000 bye\n```"));
+		assertThat(messages.get(1), startsWith("WebSocket finished: 3 frames, 29 bytes in "));
+	}
+
+	@Test
+	public void test_high_frequency_frames_are_coalesced() {
+		List<String> messages = new ArrayList<>();
+		WebSocketFrameFormatter formatter = new WebSocketFrameFormatter.Builder().window(Duration.ofHours(1))
+				.maxBatchSize(1000)
+				.build((m, t) -> messages.add(m));
+
+		IntStream.range(0, 1000).forEach(i -> formatter.addText(WebSocketFrameFormatter.Direction.RECEIVED, "tick 0" + i % 10));
+		formatter.finish();
+
+		assertThat(formatter.getFrameCount(), equalTo(1000L));
+		assertThat(messages, hasSize(8));
+		assertThat(messages.get(0), startsWith("**WebSocket frames 1-143**"));
+	}
+
+	@Test
+	public void test_frames_of_io_threads_are_sent_from_test_thread() throws InterruptedException {
+		Thread testThread = Thread.currentThread();
+		List<Thread> senders = new ArrayList<>();
+		List<String> messages = new ArrayList<>();
+		WebSocketFrameFormatter formatter = new WebSocketFrameFormatter.Builder().window(Duration.ofHours(1))
+				.maxBatchSize(1)
+				.build((m, t) -> {
+					messages.add(m);
+					senders.add(Thread.currentThread());
+				});
+
+		Thread ioThread = new Thread(() -> {
+			formatter.addText(WebSocketFrameFormatter.Direction.RECEIVED, "one");
+			formatter.addText(WebSocketFrameFormatter.Direction.RECEIVED, "two");
+		});
+		ioThread.start();
+		ioThread.join();
+		assertThat(messages, empty());
+
+		formatter.finish();
+		assertThat(messages, hasSize(3));
+		assertThat(messages.get(0), startsWith("**WebSocket frames 1-1**"));
+		assertThat(messages.get(1), startsWith("**WebSocket frames 2-2**"));
+		assertThat(messages.get(2), startsWith("WebSocket finished: 2 frames"));
+		assertThat(senders, everyItem(sameInstance(testThread)));
+	}
+
+	@Test
+	public void test_continuation_frames_of_text_message_are_decoded_as_text() {
+		List<String> messages = new ArrayList<>();
+		WebSocketFrameFormatter formatter = new WebSocketFrameFormatter.Builder().window(Duration.ofHours(1))
+				.build((m, t) -> messages.add(m));
+
+		byte[] text = "ab\u0416".getBytes(StandardCharsets.UTF_8);
+		formatter.addFrame(WebSocketFrameFormatter.Direction.RECEIVED, WebSocketFrameFormatter.Opcode.TEXT, Arrays.copyOf(text, 3));
+		formatter.addFrame(WebSocketFrameFormatter.Direction.SENT, WebSocketFrameFormatter.Opcode.BINARY, new byte[] { 1 });
+		formatter.addFrame(WebSocketFrameFormatter.Direction.RECEIVED,
+				WebSocketFrameFormatter.Opcode.CONTINUATION,
+				new byte[] { text[3], 'c' }
+		);
+		formatter.addFrame(WebSocketFrameFormatter.Direction.SENT, WebSocketFrameFormatter.Opcode.CONTINUATION, new byte[] { 2 });
+		formatter.finish();
+
+		String batch = messages.get(0);
+		assertThat(batch, containsString(" ms] frame 1 <<< TEXT 3 bytes\nab\n"));
+		assertThat(batch, containsString(" ms] frame 3 <<< CONTINUATION 2 bytes\n\u0416c\n"));
+		assertThat(batch, containsString(" ms] frame 4 >>> CONTINUATION 1 bytes\n02\n"));
+	}
+
+	@Test
+	public void test_batches_queued_by_io_threads_are_bounded() throws InterruptedException {
+		List<String> messages = new ArrayList<>();
+		WebSocketFrameFormatter formatter = new WebSocketFrameFormatter.Builder().window(Duration.ofHours(1))
+				.maxBatchSize(1)
+				.build((m, t) -> messages.add(m));
+
+		int frames = LogBatcher.MAX_PENDING_BATCHES + 5;
+		Thread ioThread = new Thread(() -> IntStream.range(0, frames)
+				.forEach(i -> formatter.addText(WebSocketFrameFormatter.Direction.RECEIVED, "tick")));
+		ioThread.start();
+		ioThread.join();
+
+		formatter.flush();
+		assertThat(messages, hasSize(LogBatcher.MAX_PENDING_BATCHES + 1));
+		assertThat(messages.get(LogBatcher.MAX_PENDING_BATCHES), equalTo(String.format(LogBatcher.DROPPED_PATTERN, 5)));
+	}
+}
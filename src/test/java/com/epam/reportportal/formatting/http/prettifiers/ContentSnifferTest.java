@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ContentSnifferTest {
+
+	public static Iterable<Object[]> jsonCases() {
+		return Arrays.asList(
+				new Object[] { "{\"a\": [1, 2.5e-3, true, null]}", true },
+				new Object[] { "\uFEFF  [ {\"b\": \"<html>}]{\"} ]\n", true },
+				new Object[] { "{\"a\": \"escaped \\\" quote\"}", true },
+				new Object[] { "", false },
+				new Object[] { "   ", false },
+				new Object[] { "<html><body>502 Bad Gateway</body></html>", false },
+				new Object[] { "{\"a\": 1", false },
+				new Object[] { "{\"a\": [1}", false },
+				new Object[] { "{\"a\": 1} {\"b\": 2}", false },
+				new Object[] { "{'a': 1}", false },
+				new Object[] { "\"string\"", false }
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("jsonCases")
+	public void test_json_sniffing(String body, boolean expected) {
+		assertThat(ContentSniffer.isJsonLike(body), equalTo(expected));
+	}
+
+	public static Iterable<Object[]> xmlCases() {
+		return Arrays.asList(
+				new Object[] { "<?xml version=\"1.0\"?><a/>", true },
+				new Object[] { "\n<ns:root><b>text</b></ns:root>\n", true },
+				new Object[] { "<!-- comment --><a/>", true },
+				new Object[] { "", false },
+				new Object[] { "{\"a\": \"<b/>\"}", false },
+				new Object[] { "< a>", false },
+				new Object[] { "<a>text", false }
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("xmlCases")
+	public void test_xml_sniffing(String body, boolean expected) {
+		assertThat(ContentSniffer.isXmlLike(body), equalTo(expected));
+	}
+
+	@Test
+	public void test_prettifiers_return_mislabelled_bodies_as_is() {
+		String html = "<html><body>502 Bad Gateway</body></html>";
+		assertThat(JsonPrettifier.INSTANCE.apply(html), sameInstance(html));
+		assertThat(JsonStreamingPrettifier.INSTANCE.apply(html), sameInstance(html));
+		String json = "{\"a\": 1}";
+		assertThat(XmlPrettifier.INSTANCE.apply(json), sameInstance(json));
+		assertThat(XmlStreamingPrettifier.INSTANCE.apply(json), sameInstance(json));
+	}
+}
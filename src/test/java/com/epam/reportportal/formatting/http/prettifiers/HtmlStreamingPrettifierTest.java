@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HtmlStreamingPrettifierTest {
+
+	private static final HtmlStreamingPrettifier STREAMING = new HtmlStreamingPrettifier.Builder().jsoupThreshold(0).build();
+
+	@Test
+	public void test_html_streaming_prettifier_reindents_block_elements() {
+		String html = "<!DOCTYPE html><html><head><title>Error</title></head>\n<body>  <div class=\"a>b\"><p>Hello,\n   <b>world</b>!</p>"
+				+ "<br><img src=\"x.png\"/></div></body></html>";
+		String expected = "<!DOCTYPE html>\n<html>\n  <head>\n    <title>Error</title>\n  </head>\n  <body>\n"
+				+ "    <div class=\"a>b\">\n      <p>Hello, <b>world</b>!</p>\n      <br><img src=\"x.png\"/>\n    </div>\n  </body>\n</html>";
+
+		assertThat(STREAMING.apply(html), equalTo(expected));
+	}
+
+	@Test
+	public void test_html_streaming_prettifier_ends_unbalanced_quote_at_tag_end() {
+		String html = "<div title=\"a><p>text</p>\n<p>next</p></div>";
+
+		assertThat(STREAMING.apply(html), equalTo("<div title=\"a>\n  <p>text</p>\n  <p>next</p>\n</div>"));
+	}
+
+	@Test
+	public void test_html_streaming_prettifier_keeps_raw_text_content() {
+		String script = "<script>\n  if (a < b && c > d) { document.write('</div>'); }\n</script>";
+		String pre = "<pre>  line 1\n    <i>line</i> 2\n</pre>";
+		String html = "<html><head>" + script + "<style>p > a { color: red; }</style></head><body>" + pre + "</body></html>";
+
+		String result = STREAMING.apply(html);
+		assertThat(result, containsString(script));
+		assertThat(result, containsString("<style>p > a { color: red; }</style>"));
+		assertThat(result, containsString(pre));
+		assertThat(result, endsWith("  </body>\n</html>"));
+	}
+
+	@Test
+	public void test_html_streaming_prettifier_strips_inline_scripts_and_styles() {
+		HtmlStreamingPrettifier prettifier = new HtmlStreamingPrettifier.Builder().jsoupThreshold(0)
+				.stripScripts(true)
+				.stripStyles(true)
+				.build();
+		String html = "<html><head><script src=\"app.js\"></script><script>var a = 1;</script><style>p {}</style></head></html>";
+
+		assertThat(
+				prettifier.apply(html),
+				equalTo("<html>\n  <head>\n    <script src=\"app.js\"></script>\n  </head>\n</html>")
+		);
+	}
+
+	@Test
+	public void test_html_streaming_prettifier_limits_nesting() {
+		HtmlStreamingPrettifier prettifier = new HtmlStreamingPrettifier.Builder().jsoupThreshold(0).maxDepth(1).build();
+		String html = "<div><div><div>text</div></div></div><p>after</p>";
+
+		assertThat(
+				prettifier.apply(html),
+				equalTo("<div>\n  <div>\n  <div>text</div>\n  </div>\n</div>\n<p>after</p>")
+		);
+	}
+
+	@Test
+	public void test_html_streaming_prettifier_uses_jsoup_for_small_documents() {
+		String html = "<html><body><p>text</p></body></html>";
+
+		assertThat(HtmlStreamingPrettifier.INSTANCE.apply(html), equalTo(HtmlPrettifier.INSTANCE.apply(html)));
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JsonStreamingPrettifierTest {
+
+	private static final String BODY = "{\"user\": {\"login\": \"test\", \"password\": \"secret\"}, \"access_token\": {\"value\": \"abc\"}, "
+			+ "\"card\": {\"number\": 4111111111111111, \"holder\": \"TEST\"}, \"items\": [{\"token\": \"t1\", \"id\": 1}, "
+			+ "{\"token\": \"t2\", \"id\": 2}], \"number\": 5}";
+
+	public static Iterable<Object[]> bodies() {
+		return Arrays.asList(
+				new Object[] { BODY },
+				new Object[] { "{\"object\": {\"key\": \"value\", \"array\": [1, 2.5, true, null, {}, []]}}" },
+				new Object[] { "[\"value\", 1]" },
+				new Object[] { "\"value\"" }
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("bodies")
+	public void verify_output_is_the_same_as_json_prettifier(String body) {
+		assertThat(JsonStreamingPrettifier.INSTANCE.apply(body), equalTo(JsonPrettifier.INSTANCE.apply(body)));
+	}
+
+	@Test
+	public void verify_values_are_masked_by_keys_and_paths() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().maskKeys("password", "access_token")
+				.maskPaths("$.card.number", "$.items[*].token")
+				.mask("***")
+				.minify(true)
+				.build();
+		assertThat(
+				prettifier.apply(BODY),
+				equalTo("{\"user\":{\"login\":\"test\",\"password\":\"***\"},\"access_token\":\"***\","
+						+ "\"card\":{\"number\":\"***\",\"holder\":\"TEST\"},\"items\":[{\"token\":\"***\",\"id\":1},"
+						+ "{\"token\":\"***\",\"id\":2}],\"number\":5}")
+		);
+	}
+
+	@Test
+	public void verify_recursive_and_index_paths() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().maskPaths("$..login", "$.items[1]['id']").minify(true).build();
+		assertThat(
+				prettifier.apply(BODY),
+				equalTo("{\"user\":{\"login\":\"<removed>\",\"password\":\"secret\"},\"access_token\":{\"value\":\"abc\"},"
+						+ "\"card\":{\"number\":4111111111111111,\"holder\":\"TEST\"},\"items\":[{\"token\":\"t1\",\"id\":1},"
+						+ "{\"token\":\"t2\",\"id\":\"<removed>\"}],\"number\":5}")
+		);
+	}
+
+	@Test
+	public void verify_long_values_are_truncated() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().truncateValues(5).minify(true).build();
+		assertThat(
+				prettifier.apply("{\"name\":\"short\",\"blob\":\"0123456789\",\"image\":\"data:image/png;base64,iVBORw0KGgo\",\"n\":1234567890}"),
+				equalTo("{\"name\":\"short\",\"blob\":\"01234\u2026(+5 chars)\",\"image\":\"data:image/png;base64,\u2026(+11 chars)\","
+						+ "\"n\":1234567890}")
+		);
+	}
+
+	@Test
+	public void verify_compact_mode() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().mode(JsonStreamingPrettifier.Mode.COMPACT)
+				.width(30)
+				.maskKeys("password")
+				.build();
+		String body = "{\"id\":1,\"point\":{\"x\":1,\"y\":2},\"user\":{\"name\":\"test\",\"password\":{\"a\":1}},\"empty\":[],"
+				+ "\"values\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15],\"items\":[{\"a\":[1,2]},{\"b\":null}]}";
+		assertThat(
+				prettifier.apply(body).replace(System.lineSeparator(), "\n"),
+				equalTo("{\n"
+						+ "  \"id\" : 1,\n"
+						+ "  \"point\" : { \"x\" : 1, \"y\" : 2 },\n"
+						+ "  \"user\" : {\n"
+						+ "    \"name\" : \"test\",\n"
+						+ "    \"password\" : \"<removed>\"\n"
+						+ "  },\n"
+						+ "  \"empty\" : [ ],\n"
+						+ "  \"values\" : [\n"
+						+ "    1, 2, 3, 4, 5, 6, 7, 8, 9, 10,\n"
+						+ "    11, 12, 13, 14, 15\n"
+						+ "  ],\n"
+						+ "  \"items\" : [\n"
+						+ "    {\n"
+						+ "      \"a\" : [ 1, 2 ]\n"
+						+ "    },\n"
+						+ "    { \"b\" : null }\n"
+						+ "  ]\n"
+						+ "}")
+		);
+	}
+
+	@Test
+	public void verify_large_bodies_are_minified() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().minifyAbove(20).build();
+		assertThat(prettifier.apply("{\"a\": 1}"), equalTo("{\n  \"a\" : 1\n}".replace("\n", System.lineSeparator())));
+		assertThat(prettifier.apply("{\"a\": 1, \"b\": [1, 2, 3, 4]}"), equalTo("{\"a\":1,\"b\":[1,2,3,4]}"));
+	}
+
+	@Test
+	public void verify_invalid_json_is_returned_as_is() {
+		String body = "<html><body>Bad Gateway</body></html>";
+		assertThat(JsonStreamingPrettifier.INSTANCE.apply(body), equalTo(body));
+		assertThat(JsonStreamingPrettifier.INSTANCE.apply("{\"key\": "), equalTo("{\"key\": "));
+	}
+
+	@Test
+	public void verify_invalid_json_is_not_returned_as_is_if_masking() {
+		Prettifier prettifier = new JsonStreamingPrettifier.Builder().maskKeys("password").minify(true).build();
+		assertThat(prettifier.apply("<html><body>Bad Gateway</body></html>"), equalTo("<removed>"));
+		assertThat(prettifier.apply("{\"password\":\"secret\", \"x\": 1"), equalTo("<removed>"));
+		String invalidValue = prettifier.apply("{\"password\":\"secret\", \"x\": 01}");
+		assertThat(invalidValue, allOf(startsWith("{\"password\":\"<removed>\""), endsWith("<removed>"), not(containsString("secret"))));
+		assertThat(prettifier.apply("{\"password\":\"secret\", }"), equalTo("{\"password\":\"<removed>\"}\n<removed>"
+				.replace("\n", System.lineSeparator())));
+		assertThat(prettifier.apply(""), equalTo(""));
+	}
+
+	@ParameterizedTest
+	@MethodSource("bodies")
+	public void verify_fast_path_output_is_the_same_as_jackson_output(String body) {
+		Prettifier fastPath = new JsonStreamingPrettifier.Builder().fastPathAbove(1).build();
+		Prettifier minifyingFastPath = new JsonStreamingPrettifier.Builder().fastPathAbove(1).minify(true).build();
+		String largeBody = "{\"padding\": \"" + "\\\"0123456789abcdef".repeat(10) + "\", \"nested\": [" + body + ", {\"a\": {}}]}";
+
+		assertThat(fastPath.apply(body), equalTo(JsonStreamingPrettifier.INSTANCE.apply(body)));
+		assertThat(fastPath.apply(largeBody), equalTo(JsonStreamingPrettifier.INSTANCE.apply(largeBody)));
+		assertThat(
+				minifyingFastPath.apply(largeBody),
+				equalTo(new JsonStreamingPrettifier.Builder().minify(true).build().apply(largeBody))
+		);
+	}
+
+	@Test
+	public void verify_fast_path_returns_invalid_json_as_is() {
+		Prettifier fastPath = new JsonStreamingPrettifier.Builder().fastPathAbove(1).build();
+		for (String body : Arrays.asList("{\"a\": 01}", "{\"a\" 1}", "[1, 2,]", "{\"a\": [1}]", "{\"a\": \"1}", "[1] [2]", "{1: 2}")) {
+			assertThat(fastPath.apply(body), equalTo(body));
+		}
+	}
+
+	@Test
+	public void verify_string_end_search() {
+		JsonReindenter.StringEnds strings = new JsonReindenter.StringEnds("\"0123\\\"456\", \"a\\\\\", \"\uD83D\uDE00\", \"open");
+		assertThat(strings.find(1), equalTo(10));
+		assertThat(strings.find(14), equalTo(17));
+		assertThat(strings.find(21), equalTo(23));
+		assertThat(strings.find(27), equalTo(-1));
+	}
+
+	@Test
+	public void verify_fast_path_with_non_bmp_characters() {
+		Prettifier fastPath = new JsonStreamingPrettifier.Builder().fastPathAbove(1).build();
+		String body = "{\"emoji\": \"\uD83D\uDE00 \\\" \uD83D\uDE00\", \"text\": \"\u0442\u0435\u043a\u0441\u0442\", "
+				+ "\"list\": [\"\uD834\uDD1E\", 1]}";
+		assertThat(fastPath.apply(body), equalTo(JsonStreamingPrettifier.INSTANCE.apply(body)));
+		assertThat(JsonReindenter.reindent(body, 2), equalTo(JsonStreamingPrettifier.INSTANCE.apply(body)));
+	}
+}
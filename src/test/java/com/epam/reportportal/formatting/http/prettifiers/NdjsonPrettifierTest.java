@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import com.epam.reportportal.formatting.http.Constants;
+import com.epam.reportportal.formatting.http.HttpFormatUtils;
+import com.epam.reportportal.formatting.http.entities.BodyType;
+import org.junit.jupiter.api.Test;
+
+import static com.epam.reportportal.formatting.http.Constants.LINE_DELIMITER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class NdjsonPrettifierTest {
+
+	private static final String LF = System.lineSeparator();
+
+	@Test
+	public void test_ndjson_records_are_prettified_one_by_one() {
+		String body = "{\"a\": 1}\r\n\n  {\"b\": [1, 2]}\nnot a json\n";
+		String expected = "{" + LF + "  \"a\" : 1" + LF + "}" + LINE_DELIMITER + "{" + LF + "  \"b\" : [ 1, 2 ]" + LF + "}" + LINE_DELIMITER
+				+ "not a json";
+
+		assertThat(NdjsonPrettifier.INSTANCE.apply(body), equalTo(expected));
+	}
+
+	@Test
+	public void test_json_seq_records_are_prettified() {
+		String body = "\u001E{\"a\": 1}\n\u001E[\"b\"]\n";
+
+		assertThat(NdjsonPrettifier.INSTANCE.apply(body), equalTo("{" + LF + "  \"a\" : 1" + LF + "}" + LINE_DELIMITER + "[ \"b\" ]"));
+	}
+
+	@Test
+	public void test_multi_line_json_seq_records_are_not_split_by_lines() {
+		String body = "\u001E{\n  \"a\": 1,\n  \"b\": [1, 2]\n}\n\u001E{\"c\": 3}\n";
+
+		assertThat(
+				NdjsonPrettifier.INSTANCE.apply(body),
+				equalTo("{" + LF + "  \"a\" : 1," + LF + "  \"b\" : [ 1, 2 ]" + LF + "}" + LINE_DELIMITER + "{" + LF + "  \"c\" : 3" + LF + "}")
+		);
+		assertThat(
+				new NdjsonPrettifier.Builder().maxRecords(1).build().apply(body),
+				equalTo("{" + LF + "  \"a\" : 1," + LF + "  \"b\" : [ 1, 2 ]" + LF + "}" + LINE_DELIMITER + "\u2026(+1 records, 8 bytes)")
+		);
+	}
+
+	@Test
+	public void test_records_over_limit_are_summarized() {
+		Prettifier prettifier = new NdjsonPrettifier.Builder().maxRecords(1).build();
+		String body = "{\"a\":1}\n{\"b\":\"\u0436\"}\n{\"c\":3}\n";
+
+		assertThat(prettifier.apply(body), equalTo("{" + LF + "  \"a\" : 1" + LF + "}" + LINE_DELIMITER + "\u2026(+2 records, 17 bytes)"));
+	}
+
+	@Test
+	public void test_ndjson_types_are_registered() {
+		for (String type : new String[] { Constants.APPLICATION_NDJSON, Constants.APPLICATION_JSONL, Constants.APPLICATION_JSON_SEQ }) {
+			assertThat(HttpFormatUtils.getBodyType(type), equalTo(BodyType.TEXT));
+			assertThat(Constants.DEFAULT_PRETTIFIERS.get(type), equalTo(PrettifierRegistry.NDJSON));
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ParallelPrettifierTest {
+
+	private static String record(int i) {
+		return "{\"id\": " + i + ", \"name\": \"item, [" + i + "] \\\"quoted\\\"\", \"tags\": [\"a\", {\"b\": [" + i + "]}]}";
+	}
+
+	private static final String ARRAY = IntStream.range(0, 200)
+			.mapToObj(ParallelPrettifierTest::record)
+			.collect(Collectors.joining(", ", "[", "]"));
+
+	private static final String LINES = IntStream.range(0, 200)
+			.mapToObj(ParallelPrettifierTest::record)
+			.collect(Collectors.joining("\n", "", "\n"));
+
+	@Test
+	public void test_parallel_prettifier_output_is_the_same_for_arrays() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Prettifier prettifier = new ParallelPrettifier.Builder(JsonPrettifier.INSTANCE).pool(pool)
+					.threshold(0)
+					.chunkSize(500)
+					.build();
+			assertThat(prettifier.apply(ARRAY), equalTo(JsonPrettifier.INSTANCE.apply(ARRAY)));
+
+			Prettifier minifier = new JsonStreamingPrettifier.Builder().minify(true).build();
+			Prettifier parallelMinifier = new ParallelPrettifier.Builder(minifier).pool(pool)
+					.threshold(0)
+					.chunkSize(500)
+					.minified(true)
+					.build();
+			assertThat(parallelMinifier.apply(ARRAY), equalTo(minifier.apply(ARRAY)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void test_parallel_prettifier_output_is_the_same_for_lines() {
+		Prettifier sequential = new ParallelPrettifier.Builder(JsonPrettifier.INSTANCE).split(ParallelPrettifier.Split.LINES).build();
+		Prettifier parallel = new ParallelPrettifier.Builder(JsonPrettifier.INSTANCE).split(ParallelPrettifier.Split.LINES)
+				.threshold(0)
+				.chunkSize(500)
+				.build();
+
+		String result = parallel.apply(LINES);
+		assertThat(result, equalTo(sequential.apply(LINES)));
+		assertThat(result.startsWith(JsonPrettifier.INSTANCE.apply(record(0)) + "\n"), equalTo(true));
+	}
+
+	@Test
+	public void test_parallel_prettifier_splits_arrays_with_non_bmp_characters() {
+		AtomicInteger calls = new AtomicInteger();
+		Prettifier delegate = body -> {
+			calls.incrementAndGet();
+			return JsonPrettifier.INSTANCE.apply(body);
+		};
+		Prettifier prettifier = new ParallelPrettifier.Builder(delegate).threshold(0).chunkSize(500).build();
+		String body = ARRAY.replace("quoted", "\uD83D\uDE00 quoted");
+
+		assertThat(prettifier.apply(body), equalTo(JsonPrettifier.INSTANCE.apply(body)));
+		assertThat(calls.get(), greaterThan(1));
+	}
+
+	@Test
+	public void test_parallel_prettifier_returns_invalid_array_as_is() {
+		Prettifier prettifier = new ParallelPrettifier.Builder(JsonPrettifier.INSTANCE).threshold(0).chunkSize(500).build();
+		String body = ARRAY.substring(0, ARRAY.length() - 1) + ", {\"broken\": }]";
+
+		assertThat(prettifier.apply(body), sameInstance(body));
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import com.epam.reportportal.formatting.http.Constants;
+import com.epam.reportportal.utils.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PrettifierRegistryTest {
+
+	@Test
+	public void test_lazy_handles_produce_the_same_output() throws Exception {
+		PrettifierRegistry.warmUp().get(30, TimeUnit.SECONDS);
+
+		String json = "{\"a\": [1, 2]}";
+		String xml = "<a><b>1</b></a>";
+		String html = "<html><body><p>1</p></body></html>";
+		Map<String, Function<String, String>> prettifiers = Constants.DEFAULT_PRETTIFIERS;
+		assertThat(prettifiers.get(ContentType.APPLICATION_JSON).apply(json), equalTo(JsonPrettifier.INSTANCE.apply(json)));
+		assertThat(prettifiers.get(ContentType.APPLICATION_XML).apply(xml), equalTo(XmlPrettifier.INSTANCE.apply(xml)));
+		assertThat(prettifiers.get(ContentType.TEXT_HTML).apply(html), equalTo(HtmlPrettifier.INSTANCE.apply(html)));
+		assertThat(prettifiers.get(ContentType.TEXT_XML), sameInstance(PrettifierRegistry.XML));
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class XmlPrettifierTest {
+
+	@Test
+	public void test_xml_prettifier_reuses_pooled_instances() {
+		XmlPrettifier prettifier = new XmlPrettifier(2, Collections.emptyMap(), 1);
+		String first = prettifier.apply("<a><b>1</b></a>");
+		String second = prettifier.apply("<a><b>1</b></a>");
+
+		assertThat(first, equalTo(second));
+		assertThat(first, containsString("<b>1</b>"));
+		InstancePool<?> pool = prettifier.getPool();
+		assertThat(pool.getMissCount(), equalTo(1L));
+		assertThat(pool.getHitCount(), equalTo(1L));
+		assertThat(pool.getIdleCount(), equalTo(1));
+	}
+
+	@Test
+	public void test_xml_prettifier_does_not_resolve_external_entities() {
+		String xml = "<?xml version=\"1.0\"?><!DOCTYPE a [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><a>&xxe;</a>";
+		String result = XmlPrettifier.INSTANCE.apply(xml);
+
+		assertThat(result, not(containsString("root:")));
+	}
+
+	@Test
+	public void test_xml_prettifier_returns_invalid_body_as_is() {
+		String xml = "<a><b></a>";
+		assertThat(XmlPrettifier.INSTANCE.apply(xml), sameInstance(xml));
+	}
+
+	@Test
+	public void test_xml_prettifier_reuses_instances_after_invalid_body() {
+		XmlPrettifier prettifier = new XmlPrettifier(2, Collections.emptyMap(), 1);
+		String invalid = "<a><b></a>";
+		assertThat(prettifier.apply(invalid), sameInstance(invalid));
+		String result = prettifier.apply("<a><b>1</b></a>");
+
+		assertThat(result, containsString("<b>1</b>"));
+		InstancePool<?> pool = prettifier.getPool();
+		assertThat(pool.getMissCount(), equalTo(1L));
+		assertThat(pool.getHitCount(), equalTo(1L));
+		assertThat(pool.getIdleCount(), equalTo(1));
+	}
+
+	@Test
+	public void test_instance_pool_is_bounded() throws Exception {
+		InstancePool<Object> pool = new InstancePool<>(2, Object::new);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = IntStream.range(0, 100).mapToObj(i -> executor.submit(() -> {
+				Object instance = pool.borrow();
+				pool.release(instance);
+			})).collect(Collectors.toList());
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(pool.getIdleCount(), lessThanOrEqualTo(2));
+		assertThat(pool.getHitCount() + pool.getMissCount(), equalTo(100L));
+		assertThat(pool.getMissCount() - pool.getDiscardCount(), equalTo((long) pool.getIdleCount()));
+	}
+}
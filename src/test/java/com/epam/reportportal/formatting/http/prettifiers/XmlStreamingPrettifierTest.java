@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.prettifiers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class XmlStreamingPrettifierTest {
+	private static final String WSSE = "http://docs.oasis-open.org/wss/2004/01/oasis-200401-wss-wssecurity-secext-1.0.xsd";
+
+	private static final String ENVELOPE =
+			"<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\" xmlns:wsse=\"" + WSSE + "\"><soap:Header>"
+					+ "<wsse:Security><wsse:UsernameToken><wsse:Username>user</wsse:Username>"
+					+ "<wsse:Password Type=\"PasswordText\">secret</wsse:Password></wsse:UsernameToken>"
+					+ "<wsse:BinarySecurityToken EncodingType=\"Base64Binary\">MIIB<b>nested</b></wsse:BinarySecurityToken>"
+					+ "</wsse:Security></soap:Header><soap:Body><pay card=\"4111111111111111\"><amount>10</amount></pay></soap:Body>"
+					+ "</soap:Envelope>";
+
+	@ParameterizedTest
+	@ValueSource(strings = { "<test><key><value>value</value></key></test>", "<a><b/><c>text &amp; more</c></a>" })
+	public void verify_output_is_the_same_as_xml_prettifier(String body) {
+		assertThat(XmlStreamingPrettifier.INSTANCE.apply(body), equalTo(XmlPrettifier.INSTANCE.apply(body)));
+	}
+
+	@Test
+	public void verify_elements_and_attributes_are_masked() {
+		Prettifier prettifier = new XmlStreamingPrettifier.Builder().maskElements("{" + WSSE + "}Password", "BinarySecurityToken")
+				.maskElements("//UsernameToken/Username")
+				.maskAttributes("card")
+				.mask("***")
+				.build();
+		String expected = "<soap:Envelope xmlns:soap=\"http://www.w3.org/2003/05/soap-envelope\" xmlns:wsse=\"" + WSSE + "\">\n"
+				+ "  <soap:Header>\n" + "    <wsse:Security>\n" + "      <wsse:UsernameToken>\n"
+				+ "        <wsse:Username>***</wsse:Username>\n" + "        <wsse:Password Type=\"PasswordText\">***</wsse:Password>\n"
+				+ "      </wsse:UsernameToken>\n"
+				+ "      <wsse:BinarySecurityToken EncodingType=\"Base64Binary\">***</wsse:BinarySecurityToken>\n"
+				+ "    </wsse:Security>\n" + "  </soap:Header>\n" + "  <soap:Body>\n" + "    <pay card=\"***\">\n"
+				+ "      <amount>10</amount>\n" + "    </pay>\n" + "  </soap:Body>\n" + "</soap:Envelope>";
+		assertThat(prettifier.apply(ENVELOPE), equalTo(expected));
+	}
+
+	@Test
+	public void verify_absolute_path_and_prefixed_name_masking() {
+		Prettifier prettifier = new XmlStreamingPrettifier.Builder().maskElements("/Envelope/Body/pay/amount", "wsse:Username").build();
+		String result = prettifier.apply(ENVELOPE);
+		assertThat(result.contains("<amount>&lt;removed&gt;</amount>"), equalTo(true));
+		assertThat(result.contains("<wsse:Username>&lt;removed&gt;</wsse:Username>"), equalTo(true));
+		assertThat(result.contains("<wsse:Password Type=\"PasswordText\">secret</wsse:Password>"), equalTo(true));
+	}
+
+	@Test
+	public void verify_long_values_are_truncated() {
+		Prettifier prettifier = new XmlStreamingPrettifier.Builder().truncateValues(4).build();
+		assertThat(
+				prettifier.apply("<a id=\"0123456789\"><b>text</b><c>long text</c><d><![CDATA[cdata value]]></d></a>"),
+				equalTo("<a id=\"0123\u2026(+6 chars)\">\n  <b>text</b>\n  <c>long\u2026(+5 chars)</c>\n"
+						+ "  <d>cdat\u2026(+7 chars)</d>\n</a>")
+		);
+	}
+
+	@Test
+	public void verify_invalid_xml_and_external_entities_are_not_processed() {
+		String invalid = "<a><b></a>";
+		assertThat(XmlStreamingPrettifier.INSTANCE.apply(invalid), equalTo(invalid));
+		String xxe = "<?xml version=\"1.0\"?><!DOCTYPE a [<!ENTITY e SYSTEM \"file:///etc/passwd\">]><a>&e;</a>";
+		assertThat(XmlStreamingPrettifier.INSTANCE.apply(xxe).contains("root:"), equalTo(false));
+	}
+
+	@Test
+	public void verify_invalid_xml_is_not_returned_as_is_if_masking() {
+		XmlStreamingPrettifier prettifier = new XmlStreamingPrettifier.Builder().maskElements("wsse:Password").maskAttributes("card").build();
+		String truncated = prettifier.apply(ENVELOPE.replace("</soap:Envelope>", "</soap:Envelop>"));
+		assertThat(truncated, allOf(containsString("<wsse:Password Type=\"PasswordText\">&lt;removed&gt;</wsse:Password>"),
+				containsString("card=\"&lt;removed&gt;\""), endsWith("\n<removed>"), not(containsString("secret")),
+				not(containsString("4111"))));
+		assertThat(prettifier.apply("<wsse:Password>secret</wsse:Password>"), equalTo("<removed>"));
+		assertThat(prettifier.apply("Password: secret"), equalTo("<removed>"));
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.HttpResponseFormatter;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HttpLogFilterTest {
+
+	private static HttpRequestFormatter request(String method, String uri) {
+		return new HttpRequestFormatter.Builder(method, uri).build();
+	}
+
+	@Test
+	public void verify_exclude_rules() {
+		HttpLogFilter filter = new HttpLogFilter.Builder().exclude(new ExchangeRule.Builder().uriGlob("/health**").build())
+				.exclude(new ExchangeRule.Builder().uriGlob("/metrics**").build())
+				.exclude(new ExchangeRule.Builder().methods("get").uriRegex(".*\\.(js|css)").build())
+				.build();
+
+		assertThat(filter.test(request("GET", "https://example.com/health/live")), equalTo(false));
+		assertThat(filter.test(request("GET", "https://example.com/metrics")), equalTo(false));
+		assertThat(filter.test(request("GET", "https://example.com/static/app.js")), equalTo(false));
+		assertThat(filter.test(request("POST", "https://example.com/static/app.js")), equalTo(true));
+		assertThat(filter.test(request("GET", "https://example.com/api/users")), equalTo(true));
+		assertThat(filter.getExcludeHits(), equalTo(new long[] { 1, 1, 1 }));
+	}
+
+	@Test
+	public void verify_include_rules() {
+		HttpLogFilter filter = new HttpLogFilter.Builder().include(new ExchangeRule.Builder().hosts("*.example.com").build())
+				.exclude(new ExchangeRule.Builder().status(200, 299).build())
+				.build();
+
+		assertThat(filter.test(request("GET", "https://api.example.com/users")), equalTo(true));
+		assertThat(filter.test(request("GET", "https://example.org/users")), equalTo(false));
+		HttpResponseFormatter success = new HttpResponseFormatter.Builder(200, null).request("GET", "https://api.example.com/users")
+				.build();
+		assertThat(filter.test(success), equalTo(false));
+		HttpResponseFormatter failure = new HttpResponseFormatter.Builder(500, null).request("GET", "https://api.example.com/users")
+				.build();
+		assertThat(filter.test(failure), equalTo(true));
+		assertThat(filter.getIncludeHits(), equalTo(new long[] { 3 }));
+		assertThat(filter.getExcludeHits(), equalTo(new long[] { 1 }));
+	}
+}
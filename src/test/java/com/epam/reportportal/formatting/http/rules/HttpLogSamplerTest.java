@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpFormatter;
+import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.HttpResponseFormatter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HttpLogSamplerTest {
+	private static final String URI = "https://example.com/api/status";
+
+	private static HttpRequestFormatter request() {
+		return new HttpRequestFormatter.Builder("GET", URI).build();
+	}
+
+	private static HttpResponseFormatter response(int status) {
+		return new HttpResponseFormatter.Builder(status, null).request("GET", URI).build();
+	}
+
+	@Test
+	public void verify_first_then_every_sampling() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().firstThenEvery(2, 3).build();
+		List<Long> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(sampler.sample(request()));
+			results.add(sampler.sample(response(200)));
+		}
+		assertThat(
+				results,
+				equalTo(Arrays.asList(0L, 0L, 0L, 0L, -1L, -1L, -1L, -1L, 2L, 0L, -1L, -1L, -1L, -1L, 2L, 0L))
+		);
+		sampler.reset();
+	}
+
+	@Test
+	public void verify_failed_responses_are_always_logged() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().rate(0).build();
+		assertThat(sampler.sample(request()), equalTo(-1L));
+		assertThat(sampler.sample(response(200)), equalTo(-1L));
+		assertThat(sampler.sample(request()), equalTo(-1L));
+		assertThat(sampler.sample(response(500)), equalTo(1L));
+		assertThat(sampler.formatOmitted(response(500), 1), equalTo("... 1 similar exchanges omitted: GET /api/status"));
+		sampler.reset();
+	}
+
+	@Test
+	public void verify_token_bucket_sampling() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().tokenBucket(0.001, 2).build();
+		assertThat(sampler.sample(request()), equalTo(0L));
+		assertThat(sampler.sample(request()), equalTo(0L));
+		assertThat(sampler.sample(request()), equalTo(-1L));
+		sampler.reset();
+	}
+
+	@Test
+	public void verify_finish_logs_omitted_after_last_logged_exchange() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().firstThenEvery(1, 10).build();
+		List<String> messages = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			sampler.process(request(), Instant.now(), (f, t) -> {}, (m, t) -> messages.add(m));
+			sampler.process(response(200), Instant.now(), (f, t) -> {}, (m, t) -> messages.add(m));
+		}
+		assertThat(messages, empty());
+		sampler.finish();
+		assertThat(messages, contains("... 2 similar exchanges omitted: GET /api/status"));
+		sampler.finish();
+		assertThat(messages.size(), equalTo(1));
+	}
+
+	@Test
+	public void verify_unlinked_response_follows_previous_request() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().rate(0).build();
+		HttpResponseFormatter unlinked = new HttpResponseFormatter.Builder(200, null).build();
+		assertThat(sampler.sample(unlinked), equalTo(0L));
+		assertThat(sampler.sample(request()), equalTo(-1L));
+		assertThat(sampler.sample(unlinked), equalTo(-1L));
+		assertThat(sampler.sample(request()), equalTo(-1L));
+		HttpResponseFormatter failed = new HttpResponseFormatter.Builder(500, null).build();
+		assertThat(sampler.sample(failed), equalTo(1L));
+		assertThat(sampler.formatOmitted(failed, 1), equalTo("... 1 similar exchanges omitted: GET /api/status"));
+		sampler.reset();
+	}
+
+	@Test
+	public void verify_omitted_request_is_logged_before_failed_response() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().firstThenEvery(1, 10).build();
+		List<Object> logged = new ArrayList<>();
+		BiConsumer<HttpFormatter, Instant> exchanges = (f, t) -> logged.add(f);
+		BiConsumer<String, Instant> messages = (m, t) -> logged.add(m);
+		sampler.process(request(), Instant.now(), exchanges, messages);
+		sampler.process(response(200), Instant.now(), exchanges, messages);
+		assertThat(logged, hasSize(2));
+
+		sampler.process(request(), Instant.now(), exchanges, messages);
+		sampler.process(response(200), Instant.now(), exchanges, messages);
+		HttpRequestFormatter failedRequest = request();
+		HttpResponseFormatter failedResponse = response(500);
+		sampler.process(failedRequest, Instant.now(), exchanges, messages);
+		assertThat(logged, hasSize(2));
+		sampler.process(failedResponse, Instant.now(), exchanges, messages);
+		assertThat(
+				logged.subList(2, logged.size()),
+				contains(
+						equalTo("... 1 similar exchanges omitted: GET /api/status"),
+						sameInstance(failedRequest),
+						sameInstance(failedResponse)
+				)
+		);
+		sampler.finish();
+		assertThat(logged, hasSize(5));
+	}
+
+	@Test
+	public void verify_evicted_endpoint_omitted_exchanges_are_reported() {
+		HttpLogSampler sampler = new HttpLogSampler.Builder().firstThenEvery(1, 10).maxEndpoints(2).build();
+		List<String> messages = new ArrayList<>();
+		for (String path : Arrays.asList("/a", "/a", "/a", "/b", "/c")) {
+			sampler.process(
+					new HttpRequestFormatter.Builder("GET", "https://example.com" + path).build(),
+					Instant.now(),
+					(f, t) -> {},
+					(m, t) -> messages.add(m)
+			);
+		}
+		assertThat(messages, contains("... 2 similar exchanges omitted: GET /a"));
+		sampler.finish();
+		assertThat(messages, contains("... 2 similar exchanges omitted: GET /a"));
+	}
+}
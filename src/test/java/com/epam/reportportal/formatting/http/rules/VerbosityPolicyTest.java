@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.formatting.http.rules;
+
+import com.epam.reportportal.formatting.http.HttpRequestFormatter;
+import com.epam.reportportal.formatting.http.HttpResponseFormatter;
+import com.epam.reportportal.formatting.http.entities.Verbosity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class VerbosityPolicyTest {
+
+	private static final VerbosityPolicy POLICY = new VerbosityPolicy.Builder().rule(
+			new ExchangeRule.Builder().status(200, 299).uriGlob("/health**").build(),
+			Verbosity.TITLE
+	).rule(new ExchangeRule.Builder().status(200, 299).mimeTypes("application/json").build(), Verbosity.HEAD).build();
+
+	public static Iterable<Object[]> responses() {
+		return Arrays.asList(
+				new Object[] { 200, "https://example.com/health/live?full=true", "application/json", Verbosity.TITLE },
+				new Object[] { 200, "https://example.com/api/users", "application/json; charset=utf-8", Verbosity.HEAD },
+				new Object[] { 200, "https://example.com/api/users", "text/plain", Verbosity.FULL },
+				new Object[] { 404, "https://example.com/health", "application/json", Verbosity.FULL },
+				new Object[] { 500, "https://example.com/api/users", "application/json", Verbosity.FULL }
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("responses")
+	public void verify_response_verbosity(int status, String uri, String mimeType, Verbosity expected) {
+		HttpResponseFormatter response = new HttpResponseFormatter.Builder(status, null).request("GET", uri)
+				.bodyText(mimeType, "{}")
+				.build();
+		assertThat(POLICY.apply(response), equalTo(expected));
+	}
+
+	@Test
+	public void verify_status_rules_do_not_match_requests() {
+		HttpRequestFormatter request = new HttpRequestFormatter.Builder("GET", "https://example.com/health").build();
+		assertThat(POLICY.apply(request), equalTo(Verbosity.FULL));
+	}
+
+	@Test
+	public void verify_glob_conversion() {
+		assertThat(ExchangeRule.globToPattern("/api/*/items").matcher("/api/v1/items").matches(), equalTo(true));
+		assertThat(ExchangeRule.globToPattern("/api/*/items").matcher("/api/v1/x/items").matches(), equalTo(false));
+		assertThat(ExchangeRule.globToPattern("/static/**.js").matcher("/static/a/b/c.js").matches(), equalTo(true));
+	}
+}